@@ -1,6 +1,16 @@
 package com.danielpgbrasil.orderprocessing.application.metrics;
 
+import java.time.Duration;
+
 public interface OrderMetrics {
     void incrementFailedEvents();
-    void pendingEvents(int count);
+    void pendingEvents(long count);
+    void oldestPendingEventAge(Duration age);
+    void incrementCoalescedPublishTriggers();
+    void partitionBatchPublished(int partition, int claimed, int published);
+    void publishPollingInterval(Duration interval);
+    void orderEventDedupe(int duplicates, int unique);
+    void incrementInProcessTransitions();
+    void incrementInProcessFallbacks();
+    void consumerRetryAttempt(String exception, boolean retryable);
 }
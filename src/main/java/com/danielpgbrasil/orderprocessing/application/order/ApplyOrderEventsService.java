@@ -0,0 +1,116 @@
+package com.danielpgbrasil.orderprocessing.application.order;
+
+import com.danielpgbrasil.orderprocessing.application.order.event.OrderEventDeduplicator;
+import com.danielpgbrasil.orderprocessing.application.shared.AppTransaction;
+import com.danielpgbrasil.orderprocessing.domain.order.*;
+import com.danielpgbrasil.orderprocessing.domain.order.event.OrderEvent;
+import com.danielpgbrasil.orderprocessing.domain.order.event.OrderEventId;
+import com.danielpgbrasil.orderprocessing.domain.order.event.OrderEventType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+public class ApplyOrderEventsService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ApplyOrderEventsService.class);
+
+    private final AppTransaction transaction;
+    private final OrderRepository repository;
+    private final OrderListener listener;
+    private final OrderEventDeduplicator deduplicator;
+
+    public ApplyOrderEventsService(AppTransaction transaction,
+                                   OrderRepository repository,
+                                   OrderListener listener,
+                                   OrderEventDeduplicator deduplicator) {
+        this.transaction = transaction;
+        this.repository = repository;
+        this.listener = listener;
+        this.deduplicator = deduplicator;
+    }
+
+    public List<Failure> applyAll(List<OrderEvent> received) {
+        var failures = new ArrayList<Failure>();
+        var events = received.isEmpty() ? received : deduplicator.unprocessed(received);
+        if (events.isEmpty()) {
+            return failures;
+        }
+        var processedIds = new ArrayList<OrderEventId>();
+        transaction.execute(() -> {
+            var existence = new HashMap<OrderId, Boolean>();
+            var changed = 0;
+            for (var entry : groupByType(events).entrySet()) {
+                changed += applyGroup(entry.getKey(), entry.getValue(), existence, failures);
+            }
+            processedIds.addAll(processedIds(events, failures));
+            deduplicator.markProcessed(processedIds);
+            LOGGER.info("Lote de eventos aplicado: events={}, changedOrders={}, failures={}",
+                    events.size(), changed, failures.size());
+        });
+        deduplicator.remember(processedIds);
+        return failures;
+    }
+
+    private int applyGroup(OrderEventType type,
+                           List<OrderEvent> group,
+                           Map<OrderId, Boolean> existence,
+                           List<Failure> failures) {
+        return switch (type) {
+            case CREATED -> transition(group, OrderStatus.CREATED, OrderStatus.PICKING, existence, failures);
+            case PICKING_STARTED -> transition(group, OrderStatus.PICKING, OrderStatus.IN_TRANSIT, existence, failures);
+            case TRANSIT_STARTED -> transition(group, OrderStatus.IN_TRANSIT, OrderStatus.DELIVERED, existence, failures);
+            default -> {
+                group.forEach(event -> LOGGER.info("Evento ignorado: orderId={}, type={}",
+                        event.orderId().value(), type));
+                yield 0;
+            }
+        };
+    }
+
+    private int transition(List<OrderEvent> group,
+                           OrderStatus from,
+                           OrderStatus to,
+                           Map<OrderId, Boolean> existence,
+                           List<Failure> failures) {
+        var orderIds = group.stream().map(OrderEvent::orderId).distinct().toList();
+        var transitioned = repository.transitionStatuses(orderIds, from, to);
+        var applied = new HashSet<>(transitioned);
+        for (var event : group) {
+            var orderId = event.orderId();
+            if (applied.contains(orderId)) {
+                continue;
+            }
+            if (!existence.computeIfAbsent(orderId, repository::exists)) {
+                failures.add(new Failure(event, new OrderNotFoundException(orderId)));
+            } else {
+                LOGGER.info("Ignorando pedido com status diferente de {}: orderId={}", from, orderId.value());
+            }
+        }
+        if (!transitioned.isEmpty()) {
+            listener.statusesChanged(transitioned, to);
+        }
+        return transitioned.size();
+    }
+
+    private static List<OrderEventId> processedIds(List<OrderEvent> events, List<Failure> failures) {
+        var failed = failures.stream().map(failure -> failure.event().id()).collect(Collectors.toSet());
+        return events.stream()
+                .map(OrderEvent::id)
+                .filter(id -> !failed.contains(id))
+                .toList();
+    }
+
+    private static Map<OrderEventType, List<OrderEvent>> groupByType(List<OrderEvent> events) {
+        return events.stream().collect(Collectors.groupingBy(OrderEvent::type,
+                () -> new EnumMap<>(OrderEventType.class), Collectors.toList()));
+    }
+
+    public record Failure(OrderEvent event, RuntimeException cause) {}
+}
@@ -3,6 +3,8 @@ package com.danielpgbrasil.orderprocessing.application.order;
 import com.danielpgbrasil.orderprocessing.application.shared.AppTransaction;
 import com.danielpgbrasil.orderprocessing.domain.order.*;
 
+import java.util.List;
+
 public class CreateOrderService {
 
     private final AppTransaction transaction;
@@ -23,6 +25,16 @@ public class CreateOrderService {
         return order;
     }
 
+    public List<Order> createOrders(List<OrderDetails> details) {
+        var orders = details.stream()
+                .map(this::buildOrder)
+                .toList();
+        if (!orders.isEmpty()) {
+            transaction.execute(() -> repository.saveAll(orders));
+        }
+        return orders;
+    }
+
     private Order buildOrder(OrderDetails details) {
         return Order.builder()
                 .withDetails(details)
@@ -1,28 +1,37 @@
 package com.danielpgbrasil.orderprocessing.application.order;
 
+import com.danielpgbrasil.orderprocessing.application.shared.AppTransaction;
 import com.danielpgbrasil.orderprocessing.domain.order.*;
 import com.danielpgbrasil.orderprocessing.domain.order.event.OrderEvent;
 import com.danielpgbrasil.orderprocessing.domain.order.event.OrderEventRepository;
 
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
 
 public class GetOrderService {
 
+    private final AppTransaction transaction;
     private final OrderRepository orderRepository;
     private final OrderEventRepository eventRepository;
 
-    public GetOrderService(OrderRepository orderRepository,
+    public GetOrderService(AppTransaction transaction,
+                           OrderRepository orderRepository,
                            OrderEventRepository eventRepository) {
+        this.transaction = transaction;
         this.orderRepository = orderRepository;
         this.eventRepository = eventRepository;
     }
 
     public Response getOrder(OrderId orderId, boolean includeEvents) {
-        var order = orderRepository.getOrThrow(orderId);
-        var events = includeEvents
-                ? eventRepository.findByOrderId(orderId)
-                : List.<OrderEvent>of();
-        return new Response(order, events);
+        var result = new AtomicReference<Response>();
+        transaction.executeReadOnly(() -> {
+            var order = orderRepository.getOrThrow(orderId);
+            var events = includeEvents
+                    ? eventRepository.findByOrderId(orderId)
+                    : List.<OrderEvent>of();
+            result.set(new Response(order, events));
+        });
+        return result.get();
     }
 
     public record Response(Order order, List<OrderEvent> events) {}
@@ -1,17 +1,24 @@
 package com.danielpgbrasil.orderprocessing.application.order;
 
+import com.danielpgbrasil.orderprocessing.application.shared.AppTransaction;
 import com.danielpgbrasil.orderprocessing.domain.order.*;
 
+import java.util.concurrent.atomic.AtomicReference;
+
 public class GetOrderStatusService {
 
+    private final AppTransaction transaction;
     private final OrderRepository repository;
 
-    public GetOrderStatusService(OrderRepository repository) {
+    public GetOrderStatusService(AppTransaction transaction,
+                                 OrderRepository repository) {
+        this.transaction = transaction;
         this.repository = repository;
     }
 
     public OrderStatus getStatus(OrderId orderId) {
-        var order = repository.getOrThrow(orderId);
-        return order.status();
+        var result = new AtomicReference<OrderStatus>();
+        transaction.executeReadOnly(() -> result.set(repository.getOrThrow(orderId).status()));
+        return result.get();
     }
 }
@@ -11,22 +11,26 @@ public class MarkOrderDeliveredService {
 
     private final AppTransaction transaction;
     private final OrderRepository repository;
+    private final OrderListener listener;
 
     public MarkOrderDeliveredService(AppTransaction transaction,
-                                     OrderRepository repository) {
+                                     OrderRepository repository,
+                                     OrderListener listener) {
         this.transaction = transaction;
         this.repository = repository;
+        this.listener = listener;
     }
 
     public void markDelivered(OrderId orderId) {
         transaction.execute(() -> {
-            var order = repository.getOrThrow(orderId);
-            if (order.status() != OrderStatus.IN_TRANSIT) {
+            if (!repository.transitionStatus(orderId, OrderStatus.IN_TRANSIT, OrderStatus.DELIVERED)) {
+                if (!repository.exists(orderId)) {
+                    throw new OrderNotFoundException(orderId);
+                }
                 LOGGER.info("Ignorando pedido com status diferente de IN_TRANSIT: orderId={}", orderId.value());
                 return;
             }
-            order.markDelivered();
-            repository.save(order);
+            listener.statusChanged(orderId, OrderStatus.DELIVERED);
             LOGGER.info("Pedido entregue: orderId={}", orderId.value());
         });
     }
@@ -0,0 +1,44 @@
+package com.danielpgbrasil.orderprocessing.application.order;
+
+import com.danielpgbrasil.orderprocessing.application.order.event.OrderEventDeduplicator;
+import com.danielpgbrasil.orderprocessing.domain.order.event.OrderEvent;
+import com.danielpgbrasil.orderprocessing.domain.order.event.OrderEventType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class ProcessOrderEventService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ProcessOrderEventService.class);
+
+    private final StartOrderPickingService pickingService;
+    private final StartOrderTransitService transitService;
+    private final MarkOrderDeliveredService deliveryService;
+    private final OrderEventDeduplicator deduplicator;
+
+    public ProcessOrderEventService(StartOrderPickingService pickingService,
+                                    StartOrderTransitService transitService,
+                                    MarkOrderDeliveredService deliveryService,
+                                    OrderEventDeduplicator deduplicator) {
+        this.pickingService = pickingService;
+        this.transitService = transitService;
+        this.deliveryService = deliveryService;
+        this.deduplicator = deduplicator;
+    }
+
+    public boolean triggersTransition(OrderEventType type) {
+        return type != OrderEventType.DELIVERED;
+    }
+
+    public boolean process(OrderEvent event) {
+        return deduplicator.processOnce(event, () -> applyEvent(event));
+    }
+
+    private void applyEvent(OrderEvent event) {
+        switch (event.type()) {
+            case CREATED -> pickingService.startPicking(event.orderId());
+            case PICKING_STARTED -> transitService.startTransit(event.orderId());
+            case TRANSIT_STARTED -> deliveryService.markDelivered(event.orderId());
+            default -> LOGGER.info("Evento ignorado: orderId={}, type={}", event.orderId().value(), event.type());
+        }
+    }
+}
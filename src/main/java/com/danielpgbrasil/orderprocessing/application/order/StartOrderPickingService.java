@@ -11,22 +11,26 @@ public class StartOrderPickingService {
 
     private final AppTransaction transaction;
     private final OrderRepository repository;
+    private final OrderListener listener;
 
     public StartOrderPickingService(AppTransaction transaction,
-                                    OrderRepository repository) {
+                                    OrderRepository repository,
+                                    OrderListener listener) {
         this.transaction = transaction;
         this.repository = repository;
+        this.listener = listener;
     }
 
     public void startPicking(OrderId orderId) {
         transaction.execute(() -> {
-            var order = repository.getOrThrow(orderId);
-            if (order.status() != OrderStatus.CREATED) {
+            if (!repository.transitionStatus(orderId, OrderStatus.CREATED, OrderStatus.PICKING)) {
+                if (!repository.exists(orderId)) {
+                    throw new OrderNotFoundException(orderId);
+                }
                 LOGGER.info("Ignorando pedido com status diferente de CREATED: orderId={}", orderId.value());
                 return;
             }
-            order.startPicking();
-            repository.save(order);
+            listener.statusChanged(orderId, OrderStatus.PICKING);
             LOGGER.info("Pedido em separação: orderId={}", orderId.value());
         });
     }
@@ -11,22 +11,26 @@ public class StartOrderTransitService {
 
     private final AppTransaction transaction;
     private final OrderRepository repository;
+    private final OrderListener listener;
 
     public StartOrderTransitService(AppTransaction transaction,
-                                    OrderRepository repository) {
+                                    OrderRepository repository,
+                                    OrderListener listener) {
         this.transaction = transaction;
         this.repository = repository;
+        this.listener = listener;
     }
 
     public void startTransit(OrderId orderId) {
         transaction.execute(() -> {
-            var order = repository.getOrThrow(orderId);
-            if (order.status() != OrderStatus.PICKING) {
+            if (!repository.transitionStatus(orderId, OrderStatus.PICKING, OrderStatus.IN_TRANSIT)) {
+                if (!repository.exists(orderId)) {
+                    throw new OrderNotFoundException(orderId);
+                }
                 LOGGER.info("Ignorando pedido com status diferente de PICKING: orderId={}", orderId.value());
                 return;
             }
-            order.startTransit();
-            repository.save(order);
+            listener.statusChanged(orderId, OrderStatus.IN_TRANSIT);
             LOGGER.info("Pedido em transporte: orderId={}", orderId.value());
         });
     }
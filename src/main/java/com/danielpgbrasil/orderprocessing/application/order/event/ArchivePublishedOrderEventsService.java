@@ -0,0 +1,58 @@
+package com.danielpgbrasil.orderprocessing.application.order.event;
+
+import com.danielpgbrasil.orderprocessing.application.shared.AppTransaction;
+import com.danielpgbrasil.orderprocessing.domain.order.event.OrderEventRepository;
+import com.danielpgbrasil.orderprocessing.domain.shared.AppClock;
+import com.danielpgbrasil.orderprocessing.domain.shared.TimeMillis;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ArchivePublishedOrderEventsService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ArchivePublishedOrderEventsService.class);
+
+    private final AppTransaction transaction;
+    private final OrderEventRepository repository;
+    private final AppClock clock;
+    private final Duration retention;
+    private final int chunkSize;
+
+    public ArchivePublishedOrderEventsService(AppTransaction transaction,
+                                              OrderEventRepository repository,
+                                              AppClock clock,
+                                              Duration retention,
+                                              int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("O tamanho do lote deve ser positivo.");
+        }
+        this.transaction = transaction;
+        this.repository = repository;
+        this.clock = clock;
+        this.retention = retention;
+        this.chunkSize = chunkSize;
+    }
+
+    public int archivePublishedEvents() {
+        var createdBefore = TimeMillis.of(clock.now().value() - retention.toMillis());
+        LOGGER.debug("Arquivando eventos publicados: createdBefore={}", createdBefore.value());
+        var total = 0;
+        int archived;
+        do {
+            archived = archiveNextChunk(createdBefore);
+            total += archived;
+        } while (archived == chunkSize);
+        if (total > 0) {
+            LOGGER.info("Eventos arquivados: count={}", total);
+        }
+        return total;
+    }
+
+    private int archiveNextChunk(TimeMillis createdBefore) {
+        var archived = new AtomicInteger();
+        transaction.execute(() -> archived.set(repository.archivePublishedBefore(createdBefore, chunkSize)));
+        return archived.get();
+    }
+}
@@ -1,13 +1,17 @@
 package com.danielpgbrasil.orderprocessing.application.order.event;
 
 import com.danielpgbrasil.orderprocessing.application.shared.AppTransaction;
-import com.danielpgbrasil.orderprocessing.domain.order.Order;
+import com.danielpgbrasil.orderprocessing.domain.order.OrderId;
 import com.danielpgbrasil.orderprocessing.domain.order.event.*;
 
 import com.danielpgbrasil.orderprocessing.domain.shared.AppClock;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
 public class CreateOrderEventService {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(CreateOrderEventService.class);
@@ -15,25 +19,98 @@ public class CreateOrderEventService {
     private final AppTransaction transaction;
     private final OrderEventRepository repository;
     private final AppClock clock;
+    private final OrderEventPublisher publisher;
+    private final OrderEventPipeline pipeline;
+    private final boolean directPublish;
+    private final Executor directPublishExecutor;
+    private final Runnable pendingEventsDrain;
 
     public CreateOrderEventService(AppTransaction transaction,
                                    OrderEventRepository repository,
-                                   AppClock clock) {
+                                   AppClock clock,
+                                   OrderEventPublisher publisher,
+                                   OrderEventPipeline pipeline,
+                                   boolean directPublish,
+                                   Executor directPublishExecutor,
+                                   Runnable pendingEventsDrain) {
         this.transaction = transaction;
         this.repository = repository;
         this.clock = clock;
+        this.publisher = publisher;
+        this.pipeline = pipeline;
+        this.directPublish = directPublish;
+        this.directPublishExecutor = directPublishExecutor;
+        this.pendingEventsDrain = pendingEventsDrain;
+    }
+
+    public boolean publishesDirectly() {
+        return directPublish;
     }
 
-    public OrderEvent createEvent(Order order, OrderEventType type) {
-        LOGGER.info("Criando evento: orderId={}, eventType={}", order.id().value(), type);
-        var event = buildEvent(order, type);
-        transaction.execute(() -> repository.save(event));
+    public OrderEvent createEvent(OrderId orderId, OrderEventType type) {
+        LOGGER.info("Criando evento: orderId={}, eventType={}", orderId.value(), type);
+        var event = buildEvent(orderId, type);
+        transaction.execute(() -> {
+            repository.save(event);
+            if (directPublish || pipeline.isEnabled()) {
+                transaction.executeAfterCommit(() -> afterCommit(List.of(event)));
+            }
+        });
         return event;
     }
 
-    private OrderEvent buildEvent(Order order, OrderEventType type) {
+    public List<OrderEvent> createEvents(List<OrderId> orderIds, OrderEventType type) {
+        LOGGER.info("Criando eventos em lote: count={}, eventType={}", orderIds.size(), type);
+        var events = orderIds.stream()
+                .map(orderId -> buildEvent(orderId, type))
+                .toList();
+        transaction.execute(() -> repository.saveAll(events));
+        return events;
+    }
+
+    private void afterCommit(List<OrderEvent> events) {
+        if (pipeline.isEnabled()) {
+            events.forEach(pipeline::submit);
+        }
+        if (directPublish) {
+            submitDirectPublish(events);
+        }
+    }
+
+    private void submitDirectPublish(List<OrderEvent> events) {
+        try {
+            directPublishExecutor.execute(() -> publishDirectly(events));
+        } catch (RejectedExecutionException e) {
+            LOGGER.warn("Publicação direta recusada, aguardando publicação pendente: count={}", events.size());
+            pendingEventsDrain.run();
+        }
+    }
+
+    private void publishDirectly(List<OrderEvent> events) {
+        try {
+            var confirmed = publisher.publishAll(events);
+            if (!confirmed.isEmpty()) {
+                confirmed.forEach(OrderEvent::markAsPublished);
+                transaction.execute(() -> repository.markPublished(confirmed.stream().map(OrderEvent::id).toList()));
+                confirmed.forEach(event -> LOGGER.debug("Evento publicado diretamente: id={}, orderId={}, type={}",
+                        event.id().value(), event.orderId().value(), event.type()));
+                LOGGER.info("Eventos publicados diretamente: count={}", confirmed.size());
+            }
+            if (confirmed.size() < events.size()) {
+                LOGGER.warn("Eventos não confirmados, aguardando publicação pendente: count={}",
+                        events.size() - confirmed.size());
+                pendingEventsDrain.run();
+            }
+        } catch (RuntimeException e) {
+            LOGGER.error("Falha na publicação direta, aguardando publicação pendente: count={}, error={}",
+                    events.size(), e.getMessage(), e);
+            pendingEventsDrain.run();
+        }
+    }
+
+    private OrderEvent buildEvent(OrderId orderId, OrderEventType type) {
         return OrderEvent.builder()
-                .withOrderId(order.id())
+                .withOrderId(orderId)
                 .withType(type)
                 .withCreatedAt(clock.now())
                 .withPublished(false)
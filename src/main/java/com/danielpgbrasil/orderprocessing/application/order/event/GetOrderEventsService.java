@@ -1,5 +1,6 @@
 package com.danielpgbrasil.orderprocessing.application.order.event;
 
+import com.danielpgbrasil.orderprocessing.application.shared.AppTransaction;
 import com.danielpgbrasil.orderprocessing.domain.order.OrderId;
 import com.danielpgbrasil.orderprocessing.domain.order.OrderNotFoundException;
 import com.danielpgbrasil.orderprocessing.domain.order.OrderRepository;
@@ -7,22 +8,30 @@ import com.danielpgbrasil.orderprocessing.domain.order.event.OrderEvent;
 import com.danielpgbrasil.orderprocessing.domain.order.event.OrderEventRepository;
 
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
 
 public class GetOrderEventsService {
 
+    private final AppTransaction transaction;
     private final OrderRepository orderRepository;
     private final OrderEventRepository orderEventRepository;
 
-    public GetOrderEventsService(OrderRepository orderRepository,
+    public GetOrderEventsService(AppTransaction transaction,
+                                 OrderRepository orderRepository,
                                  OrderEventRepository orderEventRepository) {
+        this.transaction = transaction;
         this.orderRepository = orderRepository;
         this.orderEventRepository = orderEventRepository;
     }
 
     public List<OrderEvent> getEvents(OrderId orderId) {
-        if (!orderRepository.exists(orderId)) {
-            throw new OrderNotFoundException(orderId);
-        }
-        return orderEventRepository.findByOrderId(orderId);
+        var result = new AtomicReference<List<OrderEvent>>();
+        transaction.executeReadOnly(() -> {
+            if (!orderRepository.exists(orderId)) {
+                throw new OrderNotFoundException(orderId);
+            }
+            result.set(orderEventRepository.findByOrderId(orderId));
+        });
+        return result.get();
     }
 }
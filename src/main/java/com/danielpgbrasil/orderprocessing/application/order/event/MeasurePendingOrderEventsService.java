@@ -0,0 +1,42 @@
+package com.danielpgbrasil.orderprocessing.application.order.event;
+
+import com.danielpgbrasil.orderprocessing.application.metrics.OrderMetrics;
+import com.danielpgbrasil.orderprocessing.application.shared.AppTransaction;
+import com.danielpgbrasil.orderprocessing.domain.order.event.OrderEventRepository;
+import com.danielpgbrasil.orderprocessing.domain.order.event.PendingOrderEvents;
+import com.danielpgbrasil.orderprocessing.domain.shared.AppClock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+public class MeasurePendingOrderEventsService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MeasurePendingOrderEventsService.class);
+
+    private final AppTransaction transaction;
+    private final OrderEventRepository repository;
+    private final AppClock clock;
+    private final OrderMetrics orderMetrics;
+
+    public MeasurePendingOrderEventsService(AppTransaction transaction,
+                                            OrderEventRepository repository,
+                                            AppClock clock,
+                                            OrderMetrics orderMetrics) {
+        this.transaction = transaction;
+        this.repository = repository;
+        this.clock = clock;
+        this.orderMetrics = orderMetrics;
+    }
+
+    public PendingOrderEvents measurePendingEvents() {
+        var result = new AtomicReference<PendingOrderEvents>();
+        transaction.executeReadOnly(() -> result.set(repository.summarizeUnpublished()));
+        var pending = result.get();
+        var oldestAge = pending.oldestAgeAt(clock.now());
+        orderMetrics.pendingEvents(pending.count());
+        orderMetrics.oldestPendingEventAge(oldestAge);
+        LOGGER.debug("Eventos pendentes: count={}, oldestAge={}", pending.count(), oldestAge);
+        return pending;
+    }
+}
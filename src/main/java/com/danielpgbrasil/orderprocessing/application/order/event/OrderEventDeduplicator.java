@@ -0,0 +1,107 @@
+package com.danielpgbrasil.orderprocessing.application.order.event;
+
+import com.danielpgbrasil.orderprocessing.application.metrics.OrderMetrics;
+import com.danielpgbrasil.orderprocessing.application.shared.AppTransaction;
+import com.danielpgbrasil.orderprocessing.domain.order.event.OrderEvent;
+import com.danielpgbrasil.orderprocessing.domain.order.event.OrderEventId;
+import com.danielpgbrasil.orderprocessing.domain.order.event.ProcessedOrderEventRepository;
+import com.danielpgbrasil.orderprocessing.domain.shared.AppClock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+public class OrderEventDeduplicator {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(OrderEventDeduplicator.class);
+
+    private final AppTransaction transaction;
+    private final ProcessedOrderEventRepository repository;
+    private final AppClock clock;
+    private final OrderMetrics orderMetrics;
+    private final Lock recentLock = new ReentrantLock();
+    private final Map<OrderEventId, Boolean> recent;
+
+    public OrderEventDeduplicator(AppTransaction transaction,
+                                  ProcessedOrderEventRepository repository,
+                                  AppClock clock,
+                                  OrderMetrics orderMetrics,
+                                  int cacheSize) {
+        if (cacheSize <= 0) {
+            throw new IllegalArgumentException("O tamanho do cache deve ser positivo.");
+        }
+        this.transaction = transaction;
+        this.repository = repository;
+        this.clock = clock;
+        this.orderMetrics = orderMetrics;
+        this.recent = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<OrderEventId, Boolean> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    public boolean processOnce(OrderEvent event, Runnable action) {
+        if (unprocessed(List.of(event)).isEmpty()) {
+            return false;
+        }
+        transaction.execute(() -> {
+            action.run();
+            markProcessed(List.of(event.id()));
+        });
+        remember(List.of(event.id()));
+        return true;
+    }
+
+    public List<OrderEvent> unprocessed(List<OrderEvent> events) {
+        var seen = new HashSet<OrderEventId>();
+        var candidates = events.stream()
+                .filter(event -> seen.add(event.id()) && !isRecent(event.id()))
+                .toList();
+        var processed = candidates.isEmpty() ? Set.<OrderEventId>of()
+                : repository.findProcessed(candidates.stream().map(OrderEvent::id).toList());
+        remember(processed);
+        var unprocessed = candidates.stream()
+                .filter(event -> !processed.contains(event.id()))
+                .toList();
+        var duplicates = events.size() - unprocessed.size();
+        orderMetrics.orderEventDedupe(duplicates, unprocessed.size());
+        if (duplicates > 0) {
+            LOGGER.info("Eventos duplicados descartados: count={}", duplicates);
+        }
+        return unprocessed;
+    }
+
+    public void markProcessed(Collection<OrderEventId> ids) {
+        repository.markProcessed(ids, clock.now());
+    }
+
+    public void remember(Collection<OrderEventId> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        recentLock.lock();
+        try {
+            ids.forEach(id -> recent.put(id, Boolean.TRUE));
+        } finally {
+            recentLock.unlock();
+        }
+    }
+
+    private boolean isRecent(OrderEventId id) {
+        recentLock.lock();
+        try {
+            return recent.get(id) != null;
+        } finally {
+            recentLock.unlock();
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.danielpgbrasil.orderprocessing.application.order.event;
+
+import com.danielpgbrasil.orderprocessing.domain.order.event.OrderEvent;
+
+public interface OrderEventPipeline {
+    boolean isEnabled();
+    void submit(OrderEvent event);
+}
@@ -2,6 +2,9 @@ package com.danielpgbrasil.orderprocessing.application.order.event;
 
 import com.danielpgbrasil.orderprocessing.domain.order.event.OrderEvent;
 
+import java.util.List;
+
 public interface OrderEventPublisher {
     void publish(OrderEvent event);
+    List<OrderEvent> publishAll(List<OrderEvent> events);
 }
@@ -3,10 +3,22 @@ package com.danielpgbrasil.orderprocessing.application.order.event;
 import com.danielpgbrasil.orderprocessing.application.metrics.OrderMetrics;
 import com.danielpgbrasil.orderprocessing.application.shared.AppTransaction;
 import com.danielpgbrasil.orderprocessing.domain.order.event.OrderEvent;
+import com.danielpgbrasil.orderprocessing.domain.order.event.OrderEventPartition;
 import com.danielpgbrasil.orderprocessing.domain.order.event.OrderEventRepository;
+import com.danielpgbrasil.orderprocessing.domain.shared.AppClock;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
 public class PublishPendingOrderEventsService {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(PublishPendingOrderEventsService.class);
@@ -15,51 +27,176 @@ public class PublishPendingOrderEventsService {
     private final OrderEventRepository repository;
     private final OrderEventPublisher publisher;
     private final OrderMetrics orderMetrics;
+    private final AppClock clock;
+    private final int batchSize;
+    private final int partitions;
+    private final Duration fullSweepInterval;
+    private final long rescanWindow;
+    private final Executor partitionExecutor;
+    private final Lock[] partitionLocks;
+    private final long[] cursors;
+    private final long[] lastFullSweeps;
 
     public PublishPendingOrderEventsService(AppTransaction transaction,
                                             OrderEventRepository repository,
                                             OrderEventPublisher publisher,
-                                            OrderMetrics orderMetrics) {
+                                            OrderMetrics orderMetrics,
+                                            AppClock clock,
+                                            int batchSize,
+                                            int partitions,
+                                            Duration fullSweepInterval,
+                                            long rescanWindow,
+                                            Executor partitionExecutor) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("O tamanho do lote deve ser positivo.");
+        }
+        if (partitions <= 0) {
+            throw new IllegalArgumentException("A quantidade de partições deve ser positiva.");
+        }
+        if (partitions > OrderEventPartition.BUCKETS) {
+            throw new IllegalArgumentException(
+                    "A quantidade de partições não pode exceder %d.".formatted(OrderEventPartition.BUCKETS));
+        }
+        if (fullSweepInterval.isNegative()) {
+            throw new IllegalArgumentException("O intervalo de varredura completa não pode ser negativo.");
+        }
+        if (rescanWindow < 0) {
+            throw new IllegalArgumentException("A janela de revarredura não pode ser negativa.");
+        }
         this.transaction = transaction;
         this.repository = repository;
         this.publisher = publisher;
         this.orderMetrics = orderMetrics;
+        this.clock = clock;
+        this.batchSize = batchSize;
+        this.partitions = partitions;
+        this.fullSweepInterval = fullSweepInterval;
+        this.rescanWindow = rescanWindow;
+        this.partitionExecutor = partitionExecutor;
+        this.partitionLocks = IntStream.range(0, partitions)
+                .mapToObj(index -> new ReentrantLock())
+                .toArray(Lock[]::new);
+        this.cursors = new long[partitions];
+        this.lastFullSweeps = new long[partitions];
     }
 
-    public void publishPendingEvents() {
+    public Result publishPendingEvents() {
         LOGGER.debug("Verificando eventos não publicados");
-        var unpublishedEvents = repository.findAllUnpublished();
-        this.orderMetrics.pendingEvents(unpublishedEvents.size());
-        if (!unpublishedEvents.isEmpty()) {
-            LOGGER.info("Publicando eventos: count={}", unpublishedEvents.size());
-            unpublishedEvents.forEach(this::tryPublishEvent);
+        return partitions == 1
+                ? publishPendingEvents(OrderEventPartition.single())
+                : publishPendingEventsInParallel();
+    }
+
+    private Result publishPendingEventsInParallel() {
+        var drains = IntStream.range(0, partitions)
+                .mapToObj(index -> OrderEventPartition.of(index, partitions))
+                .map(partition -> CompletableFuture.supplyAsync(
+                        () -> publishPendingEvents(partition), partitionExecutor))
+                .toList();
+        return drains.stream()
+                .map(CompletableFuture::join)
+                .reduce(Result.none(), Result::plus);
+    }
+
+    private Result publishPendingEvents(OrderEventPartition partition) {
+        var index = partition.index();
+        var lock = partitionLocks[index];
+        lock.lock();
+        try {
+            resetCursorIfFullSweepDue(index);
+            var highWatermark = cursors[index];
+            var cursor = Math.max(0L, highWatermark - rescanWindow);
+            var total = Result.none();
+            BatchResult result;
+            do {
+                result = publishNextBatch(partition, cursor);
+                cursor = result.cursor();
+                var published = result.claimed() - result.failed();
+                total = total.plus(new Result(result.claimed(), published));
+                if (result.claimed() > 0) {
+                    orderMetrics.partitionBatchPublished(partition.index(), result.claimed(), published);
+                }
+            } while (result.claimed() == batchSize && result.failed() == 0);
+            cursors[index] = result.failed() > 0 ? cursor : Math.max(highWatermark, cursor);
+            return total;
+        } finally {
+            lock.unlock();
         }
     }
 
-    private void tryPublishEvent(OrderEvent event) {
-        logEvent("Publicando evento", event);
+    private void resetCursorIfFullSweepDue(int index) {
+        var now = clock.now().value();
+        if (now - lastFullSweeps[index] >= fullSweepInterval.toMillis()) {
+            LOGGER.debug("Varredura completa de eventos não publicados: partition={}", index);
+            cursors[index] = 0L;
+            lastFullSweeps[index] = now;
+        }
+    }
+
+    private BatchResult publishNextBatch(OrderEventPartition partition, long cursor) {
+        var result = new AtomicReference<BatchResult>();
+        transaction.execute(() -> {
+            var events = repository.claimUnpublished(partition, cursor, batchSize);
+            var confirmed = events.isEmpty() ? List.<OrderEvent>of() : tryPublishBatch(events);
+            markAsPublished(confirmed);
+            result.set(new BatchResult(events.size(), events.size() - confirmed.size(),
+                    nextCursor(cursor, events, confirmed)));
+        });
+        return result.get();
+    }
+
+    private static long nextCursor(long cursor, List<OrderEvent> events, List<OrderEvent> confirmed) {
+        var confirmedIds = confirmed.stream().map(OrderEvent::id).collect(Collectors.toSet());
+        return events.stream()
+                .filter(event -> !confirmedIds.contains(event.id()))
+                .findFirst()
+                .map(event -> event.id().value() - 1)
+                .orElseGet(() -> events.isEmpty() ? cursor : events.getLast().id().value());
+    }
+
+    private List<OrderEvent> tryPublishBatch(List<OrderEvent> events) {
+        LOGGER.info("Publicando eventos: count={}", events.size());
         try {
-            transaction.execute(() -> publishEvent(event));
-            logEvent("Evento publicado com sucesso", event);
+            var confirmed = publisher.publishAll(events);
+            events.stream()
+                    .filter(event -> !confirmed.contains(event))
+                    .forEach(event -> logEvent("Evento não confirmado", event));
+            return confirmed;
         } catch (RuntimeException e) {
-            logFailure(event, e);
+            LOGGER.error("Falha ao publicar o lote de eventos: count={}, error={}",
+                    events.size(), e.getMessage(), e);
+            return List.of();
         }
     }
 
+    private void markAsPublished(List<OrderEvent> confirmed) {
+        if (confirmed.isEmpty()) {
+            return;
+        }
+        confirmed.forEach(OrderEvent::markAsPublished);
+        repository.markPublished(confirmed.stream().map(OrderEvent::id).toList());
+        LOGGER.info("Eventos publicados com sucesso: count={}", confirmed.size());
+    }
+
     private static void logEvent(String message, OrderEvent event) {
-        LOGGER.info("{}: id={}, orderId={}, type={}",
+        LOGGER.warn("{}: id={}, orderId={}, type={}",
                 message, event.id().value(), event.orderId().value(), event.type());
     }
 
-    private static void logFailure(OrderEvent event, RuntimeException e) {
-        LOGGER.error("Falha ao publicar o evento: id={}, orderId={}, type={}, error={}",
-                event.id().value(), event.orderId().value(), event.type(), e.getMessage(), e);
-    }
+    private record BatchResult(int claimed, int failed, long cursor) {}
 
-    private void publishEvent(OrderEvent event) {
-        event.markAsPublished();
-        repository.save(event);
-        publisher.publish(event);
-    }
+    public record Result(int claimed, int published) {
+
+        public static Result none() {
+            return new Result(0, 0);
+        }
 
+        public int failed() {
+            return claimed - published;
+        }
+
+        public Result plus(Result other) {
+            return new Result(claimed + other.claimed, published + other.published);
+        }
+    }
 }
@@ -0,0 +1,58 @@
+package com.danielpgbrasil.orderprocessing.application.order.event;
+
+import com.danielpgbrasil.orderprocessing.application.shared.AppTransaction;
+import com.danielpgbrasil.orderprocessing.domain.order.event.ProcessedOrderEventRepository;
+import com.danielpgbrasil.orderprocessing.domain.shared.AppClock;
+import com.danielpgbrasil.orderprocessing.domain.shared.TimeMillis;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class PurgeProcessedOrderEventsService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PurgeProcessedOrderEventsService.class);
+
+    private final AppTransaction transaction;
+    private final ProcessedOrderEventRepository repository;
+    private final AppClock clock;
+    private final Duration retention;
+    private final int chunkSize;
+
+    public PurgeProcessedOrderEventsService(AppTransaction transaction,
+                                            ProcessedOrderEventRepository repository,
+                                            AppClock clock,
+                                            Duration retention,
+                                            int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("O tamanho do lote deve ser positivo.");
+        }
+        this.transaction = transaction;
+        this.repository = repository;
+        this.clock = clock;
+        this.retention = retention;
+        this.chunkSize = chunkSize;
+    }
+
+    public int purgeProcessedEvents() {
+        var processedBefore = TimeMillis.of(clock.now().value() - retention.toMillis());
+        LOGGER.debug("Removendo marcas de eventos processados: processedBefore={}", processedBefore.value());
+        var total = 0;
+        int deleted;
+        do {
+            deleted = purgeNextChunk(processedBefore);
+            total += deleted;
+        } while (deleted == chunkSize);
+        if (total > 0) {
+            LOGGER.info("Marcas de eventos processados removidas: count={}", total);
+        }
+        return total;
+    }
+
+    private int purgeNextChunk(TimeMillis processedBefore) {
+        var deleted = new AtomicInteger();
+        transaction.execute(() -> deleted.set(repository.deleteProcessedBefore(processedBefore, chunkSize)));
+        return deleted.get();
+    }
+}
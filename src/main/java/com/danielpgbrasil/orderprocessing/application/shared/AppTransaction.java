@@ -3,4 +3,6 @@ package com.danielpgbrasil.orderprocessing.application.shared;
 public interface AppTransaction {
     boolean inTransaction();
     void execute(Runnable runnable);
+    void executeReadOnly(Runnable runnable);
+    void executeAfterCommit(Runnable runnable);
 }
@@ -0,0 +1,8 @@
+package com.danielpgbrasil.orderprocessing.domain.order;
+
+public class InvalidOrderStatusException extends IllegalStateException {
+
+    public InvalidOrderStatusException(OrderStatus expected, OrderStatus current) {
+        super("Status inválido: esperado %s, mas está %s.".formatted(expected, current));
+    }
+}
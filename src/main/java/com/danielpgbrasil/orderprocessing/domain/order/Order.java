@@ -4,7 +4,10 @@ import com.danielpgbrasil.orderprocessing.domain.shared.Validation;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 import org.apache.commons.lang3.builder.ToStringStyle;
 
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Objects;
+import java.util.stream.Collectors;
 
 public class Order {
 
@@ -12,6 +15,8 @@ public class Order {
     private final OrderDetails details;
     private OrderStatus status;
     private final transient OrderListener listener;
+    private transient boolean detailsChanged = true;
+    private transient boolean statusChanged = true;
 
     private Order(Builder builder) {
         id = builder.id;
@@ -32,12 +37,39 @@ public class Order {
         return status;
     }
 
+    public boolean isDetailsChanged() {
+        return detailsChanged;
+    }
+
+    public boolean isStatusChanged() {
+        return statusChanged;
+    }
+
+    public boolean hasChanges() {
+        return detailsChanged || statusChanged;
+    }
+
+    public void markSaved() {
+        detailsChanged = false;
+        statusChanged = false;
+    }
+
     public void finalizeCreation(OrderId id) {
-        if (this.id != null) {
-            throw new IllegalStateException("A criação do pedido já foi finalizada.");
+        assignCreation(id);
+        listener.statusChanged(this);
+    }
+
+    public static void finalizeCreation(List<Order> orders, List<OrderId> ids) {
+        if (orders.size() != ids.size()) {
+            throw new IllegalArgumentException("A quantidade de ids difere da quantidade de pedidos.");
         }
-        this.id = Validation.required(id, "O id é requerido.");
-        updateStatus(OrderStatus.CREATED);
+        orders.forEach(Order::ensureNotFinalized);
+        for (var i = 0; i < orders.size(); i++) {
+            orders.get(i).assignCreation(ids.get(i));
+        }
+        orders.stream()
+                .collect(Collectors.groupingBy(order -> order.listener, LinkedHashMap::new, Collectors.toList()))
+                .forEach(OrderListener::statusesChanged);
     }
 
     public void startPicking() {
@@ -55,19 +87,34 @@ public class Order {
         updateStatus(OrderStatus.DELIVERED);
     }
 
+    private void ensureNotFinalized() {
+        if (this.id != null) {
+            throw new IllegalStateException("A criação do pedido já foi finalizada.");
+        }
+    }
+
     private void ensureCurrentStatus(OrderStatus expected) {
         if (this.status != expected) {
-            throw new IllegalStateException(
-                    "Status inválido: esperado %s, mas está %s.".formatted(expected, this.status)
-            );
+            throw new InvalidOrderStatusException(expected, this.status);
         }
     }
 
+    private void assignCreation(OrderId id) {
+        ensureNotFinalized();
+        this.id = Validation.required(id, "O id é requerido.");
+        changeStatus(OrderStatus.CREATED);
+    }
+
     private void updateStatus(OrderStatus newStatus) {
-        this.status = newStatus;
+        changeStatus(newStatus);
         this.listener.statusChanged(this);
     }
 
+    private void changeStatus(OrderStatus newStatus) {
+        this.status = newStatus;
+        this.statusChanged = true;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (this == other) return true;
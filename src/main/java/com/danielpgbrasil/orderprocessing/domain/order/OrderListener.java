@@ -1,5 +1,19 @@
 package com.danielpgbrasil.orderprocessing.domain.order;
 
+import java.util.List;
+
 public interface OrderListener {
-    void statusChanged(Order order);
+    void statusChanged(OrderId orderId, OrderStatus status);
+
+    default void statusChanged(Order order) {
+        statusChanged(order.id(), order.status());
+    }
+
+    default void statusesChanged(List<Order> orders) {
+        orders.forEach(this::statusChanged);
+    }
+
+    default void statusesChanged(List<OrderId> orderIds, OrderStatus status) {
+        orderIds.forEach(orderId -> statusChanged(orderId, status));
+    }
 }
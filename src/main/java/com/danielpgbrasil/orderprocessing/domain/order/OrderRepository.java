@@ -1,10 +1,15 @@
 package com.danielpgbrasil.orderprocessing.domain.order;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface OrderRepository {
     void save(Order order);
+    void saveAll(Collection<Order> orders);
     Optional<Order> get(OrderId id);
     Order getOrThrow(OrderId id);
     boolean exists(OrderId id);
+    boolean transitionStatus(OrderId id, OrderStatus from, OrderStatus to);
+    List<OrderId> transitionStatuses(Collection<OrderId> ids, OrderStatus from, OrderStatus to);
 }
@@ -0,0 +1,85 @@
+package com.danielpgbrasil.orderprocessing.domain.order.event;
+
+import com.danielpgbrasil.orderprocessing.domain.order.OrderId;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.IntStream;
+
+public class OrderEventPartition {
+
+    public static final int BUCKETS = 64;
+
+    private static final OrderEventPartition SINGLE = new OrderEventPartition(0, 1);
+
+    private final int index;
+    private final int count;
+
+    private OrderEventPartition(int index, int count) {
+        if (count <= 0) {
+            throw new IllegalArgumentException("A quantidade de partições deve ser positiva.");
+        }
+        if (count > BUCKETS) {
+            throw new IllegalArgumentException("A quantidade de partições não pode exceder %d.".formatted(BUCKETS));
+        }
+        if (index < 0 || index >= count) {
+            throw new IllegalArgumentException("A partição deve ser de 0 até %d.".formatted(count - 1));
+        }
+        this.index = index;
+        this.count = count;
+    }
+
+    public static OrderEventPartition of(int index, int count) {
+        return new OrderEventPartition(index, count);
+    }
+
+    public static OrderEventPartition single() {
+        return SINGLE;
+    }
+
+    public static int bucketOf(OrderId orderId) {
+        return (int) Math.floorMod(orderId.value(), (long) BUCKETS);
+    }
+
+    public static int indexOf(OrderId orderId, int count) {
+        return bucketOf(orderId) % count;
+    }
+
+    public int index() {
+        return index;
+    }
+
+    public int count() {
+        return count;
+    }
+
+    public boolean contains(OrderId orderId) {
+        return indexOf(orderId, count) == index;
+    }
+
+    public List<Integer> buckets() {
+        return IntStream.range(0, BUCKETS)
+                .filter(bucket -> bucket % count == index)
+                .boxed()
+                .toList();
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(index, count);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof OrderEventPartition otherPartition
+                && index == otherPartition.index
+                && count == otherPartition.count;
+    }
+
+    @Override
+    public String toString() {
+        return ToStringBuilder.reflectionToString(this, ToStringStyle.SHORT_PREFIX_STYLE);
+    }
+}
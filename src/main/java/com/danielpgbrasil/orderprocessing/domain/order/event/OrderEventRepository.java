@@ -1,14 +1,20 @@
 package com.danielpgbrasil.orderprocessing.domain.order.event;
 
 import com.danielpgbrasil.orderprocessing.domain.order.OrderId;
+import com.danielpgbrasil.orderprocessing.domain.shared.TimeMillis;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface OrderEventRepository {
     void save(OrderEvent orderEvent);
+    void saveAll(Collection<OrderEvent> orderEvents);
     Optional<OrderEvent> get(OrderEventId id);
     OrderEvent getOrThrow(OrderEventId id);
-    List<OrderEvent> findAllUnpublished();
+    List<OrderEvent> claimUnpublished(OrderEventPartition partition, long afterId, int limit);
+    void markPublished(Collection<OrderEventId> ids);
+    PendingOrderEvents summarizeUnpublished();
+    int archivePublishedBefore(TimeMillis createdBefore, int limit);
     List<OrderEvent> findByOrderId(OrderId orderId);
 }
@@ -0,0 +1,67 @@
+package com.danielpgbrasil.orderprocessing.domain.order.event;
+
+import com.danielpgbrasil.orderprocessing.domain.shared.TimeMillis;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+
+public class PendingOrderEvents {
+
+    private static final PendingOrderEvents NONE = new PendingOrderEvents(0L, null);
+
+    private final long count;
+    private final TimeMillis oldestCreatedAt;
+
+    private PendingOrderEvents(long count, TimeMillis oldestCreatedAt) {
+        if (count < 0) {
+            throw new IllegalArgumentException("A quantidade de eventos pendentes não pode ser negativa.");
+        }
+        if ((count == 0) != (oldestCreatedAt == null)) {
+            throw new IllegalArgumentException("A data do evento pendente mais antigo é obrigatória quando há eventos pendentes.");
+        }
+        this.count = count;
+        this.oldestCreatedAt = oldestCreatedAt;
+    }
+
+    public static PendingOrderEvents of(long count, TimeMillis oldestCreatedAt) {
+        return new PendingOrderEvents(count, oldestCreatedAt);
+    }
+
+    public static PendingOrderEvents none() {
+        return NONE;
+    }
+
+    public long count() {
+        return count;
+    }
+
+    public Optional<TimeMillis> oldestCreatedAt() {
+        return Optional.ofNullable(oldestCreatedAt);
+    }
+
+    public Duration oldestAgeAt(TimeMillis now) {
+        return oldestCreatedAt()
+                .map(createdAt -> Duration.ofMillis(Math.max(0L, now.value() - createdAt.value())))
+                .orElse(Duration.ZERO);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(count, oldestCreatedAt);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof PendingOrderEvents otherPending
+                && count == otherPending.count
+                && Objects.equals(oldestCreatedAt, otherPending.oldestCreatedAt);
+    }
+
+    @Override
+    public String toString() {
+        return ToStringBuilder.reflectionToString(this, ToStringStyle.SHORT_PREFIX_STYLE);
+    }
+}
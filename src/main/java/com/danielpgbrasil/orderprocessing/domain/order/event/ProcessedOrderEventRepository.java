@@ -0,0 +1,12 @@
+package com.danielpgbrasil.orderprocessing.domain.order.event;
+
+import com.danielpgbrasil.orderprocessing.domain.shared.TimeMillis;
+
+import java.util.Collection;
+import java.util.Set;
+
+public interface ProcessedOrderEventRepository {
+    Set<OrderEventId> findProcessed(Collection<OrderEventId> ids);
+    void markProcessed(Collection<OrderEventId> ids, TimeMillis processedAt);
+    int deleteProcessedBefore(TimeMillis processedBefore, int limit);
+}
@@ -2,12 +2,18 @@ package com.danielpgbrasil.orderprocessing.infrastructure;
 
 import com.danielpgbrasil.orderprocessing.application.order.event.CreateOrderEventService;
 import com.danielpgbrasil.orderprocessing.domain.order.Order;
+import com.danielpgbrasil.orderprocessing.domain.order.OrderId;
 import com.danielpgbrasil.orderprocessing.domain.order.OrderListener;
+import com.danielpgbrasil.orderprocessing.domain.order.OrderStatus;
 import com.danielpgbrasil.orderprocessing.domain.order.event.OrderEventType;
 import com.danielpgbrasil.orderprocessing.infrastructure.messaging.AsyncPublishPendingOrderEventsService;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Component;
 
+import java.util.EnumMap;
+import java.util.List;
+import java.util.stream.Collectors;
+
 @Component
 public class OrderListenerImpl implements OrderListener {
 
@@ -20,9 +26,25 @@ public class OrderListenerImpl implements OrderListener {
     }
 
     @Override
-    public void statusChanged(Order order) {
-        var eventType = OrderEventType.fromStatus(order.status());
-        createOrderEventService.createEvent(order, eventType);
+    public void statusChanged(OrderId orderId, OrderStatus status) {
+        createOrderEventService.createEvent(orderId, OrderEventType.fromStatus(status));
+        if (!createOrderEventService.publishesDirectly()) {
+            asyncPublishPendingOrderEventsService.execute();
+        }
+    }
+
+    @Override
+    public void statusesChanged(List<Order> orders) {
+        orders.stream()
+                .collect(Collectors.groupingBy(Order::status, () -> new EnumMap<>(OrderStatus.class), Collectors.toList()))
+                .forEach((status, group) -> createOrderEventService.createEvents(
+                        group.stream().map(Order::id).toList(), OrderEventType.fromStatus(status)));
+        asyncPublishPendingOrderEventsService.execute();
+    }
+
+    @Override
+    public void statusesChanged(List<OrderId> orderIds, OrderStatus status) {
+        createOrderEventService.createEvents(orderIds, OrderEventType.fromStatus(status));
         asyncPublishPendingOrderEventsService.execute();
     }
 
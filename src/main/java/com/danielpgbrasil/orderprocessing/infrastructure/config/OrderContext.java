@@ -2,6 +2,7 @@ package com.danielpgbrasil.orderprocessing.infrastructure.config;
 
 import com.danielpgbrasil.orderprocessing.application.metrics.OrderMetrics;
 import com.danielpgbrasil.orderprocessing.application.order.*;
+import com.danielpgbrasil.orderprocessing.application.order.event.OrderEventDeduplicator;
 import com.danielpgbrasil.orderprocessing.application.shared.AppTransaction;
 import com.danielpgbrasil.orderprocessing.domain.order.OrderListener;
 import com.danielpgbrasil.orderprocessing.domain.order.OrderRepository;
@@ -25,6 +26,9 @@ public class OrderContext {
     @Autowired
     private OrderListener orderListener;
 
+    @Autowired
+    private OrderEventDeduplicator orderEventDeduplicator;
+
     @Bean
     public CreateOrderService createOrderService() {
         return new CreateOrderService(transaction, orderRepository, orderListener);
@@ -32,26 +36,38 @@ public class OrderContext {
 
     @Bean
     public GetOrderService getOrderService() {
-        return new GetOrderService(orderRepository, orderEventRepository);
+        return new GetOrderService(transaction, orderRepository, orderEventRepository);
     }
 
     @Bean
     public GetOrderStatusService getOrderStatusService() {
-        return new GetOrderStatusService(orderRepository);
+        return new GetOrderStatusService(transaction, orderRepository);
     }
 
     @Bean
     public StartOrderPickingService startOrderPickingService() {
-        return new StartOrderPickingService(transaction, orderRepository);
+        return new StartOrderPickingService(transaction, orderRepository, orderListener);
     }
 
     @Bean
     public StartOrderTransitService startOrderTransitService() {
-        return new StartOrderTransitService(transaction, orderRepository);
+        return new StartOrderTransitService(transaction, orderRepository, orderListener);
+    }
+
+    @Bean
+    public ApplyOrderEventsService applyOrderEventsService() {
+        return new ApplyOrderEventsService(transaction, orderRepository, orderListener, orderEventDeduplicator);
     }
 
     @Bean
     public MarkOrderDeliveredService markOrderDeliveredService() {
-        return new MarkOrderDeliveredService(transaction, orderRepository);
+        return new MarkOrderDeliveredService(transaction, orderRepository, orderListener);
+    }
+
+    @Bean
+    public ProcessOrderEventService processOrderEventService() {
+        return new ProcessOrderEventService(startOrderPickingService(), startOrderTransitService(),
+                markOrderDeliveredService(), orderEventDeduplicator
+        );
     }
 }
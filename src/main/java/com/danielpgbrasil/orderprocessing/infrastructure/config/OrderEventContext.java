@@ -1,18 +1,34 @@
 package com.danielpgbrasil.orderprocessing.infrastructure.config;
 
 import com.danielpgbrasil.orderprocessing.application.metrics.OrderMetrics;
+import com.danielpgbrasil.orderprocessing.application.order.event.ArchivePublishedOrderEventsService;
 import com.danielpgbrasil.orderprocessing.application.order.event.CreateOrderEventService;
 import com.danielpgbrasil.orderprocessing.application.order.event.GetOrderEventsService;
+import com.danielpgbrasil.orderprocessing.application.order.event.MeasurePendingOrderEventsService;
+import com.danielpgbrasil.orderprocessing.application.order.event.OrderEventDeduplicator;
+import com.danielpgbrasil.orderprocessing.application.order.event.OrderEventPipeline;
 import com.danielpgbrasil.orderprocessing.application.order.event.OrderEventPublisher;
 import com.danielpgbrasil.orderprocessing.application.order.event.PublishPendingOrderEventsService;
+import com.danielpgbrasil.orderprocessing.application.order.event.PurgeProcessedOrderEventsService;
 import com.danielpgbrasil.orderprocessing.application.shared.AppTransaction;
 import com.danielpgbrasil.orderprocessing.domain.order.OrderRepository;
 import com.danielpgbrasil.orderprocessing.domain.order.event.OrderEventRepository;
+import com.danielpgbrasil.orderprocessing.domain.order.event.ProcessedOrderEventRepository;
 import com.danielpgbrasil.orderprocessing.domain.shared.AppClock;
+import com.danielpgbrasil.orderprocessing.infrastructure.messaging.AsyncPublishPendingOrderEventsService;
+import jakarta.annotation.PreDestroy;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
 @Configuration
 public class OrderEventContext {
 
@@ -25,30 +41,142 @@ public class OrderEventContext {
     @Autowired
     private OrderEventRepository orderEventRepository;
 
+    @Autowired
+    private ProcessedOrderEventRepository processedOrderEventRepository;
+
     @Autowired
     private AppClock clock;
 
     @Autowired
     private OrderEventPublisher orderEventPublisher;
 
+    @Autowired
+    private OrderEventPipeline orderEventPipeline;
+
     @Autowired
     private OrderMetrics orderMetrics;
 
+    @Autowired
+    private AsyncPublishPendingOrderEventsService asyncPublishPendingOrderEventsService;
+
+    @Value("${app.outbox.batch-size:100}")
+    private int outboxBatchSize;
+
+    @Value("${app.outbox.direct-publish:false}")
+    private boolean outboxDirectPublish;
+
+    @Value("${app.outbox.direct-publish-threads:2}")
+    private int outboxDirectPublishThreads;
+
+    @Value("${app.outbox.direct-publish-queue-capacity:1000}")
+    private int outboxDirectPublishQueueCapacity;
+
+    @Value("${app.outbox.partitions:1}")
+    private int outboxPartitions;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    @Value("${app.outbox.full-sweep-interval:PT1M}")
+    private Duration outboxFullSweepInterval;
+
+    @Value("${app.outbox.rescan-window:10000}")
+    private long outboxRescanWindow;
+
+    @Value("${app.consumer.dedupe.cache-size:10000}")
+    private int dedupeCacheSize;
+
+    @Value("${app.consumer.dedupe.retention.max-age:P7D}")
+    private Duration dedupeRetentionMaxAge;
+
+    @Value("${app.consumer.dedupe.retention.chunk-size:500}")
+    private int dedupeRetentionChunkSize;
+
+    @Value("${app.outbox.retention.max-age:P7D}")
+    private Duration outboxRetentionMaxAge;
+
+    @Value("${app.outbox.retention.chunk-size:500}")
+    private int outboxRetentionChunkSize;
+
+    private ExecutorService outboxPartitionExecutor;
+
+    private ExecutorService outboxDirectPublishExecutor;
+
     @Bean
     public GetOrderEventsService getOrderEventsService() {
-        return new GetOrderEventsService(orderRepository, orderEventRepository);
+        return new GetOrderEventsService(transaction, orderRepository, orderEventRepository);
     }
 
     @Bean
     public CreateOrderEventService createOrderEventService() {
-        return new CreateOrderEventService(transaction, orderEventRepository, clock);
+        return new CreateOrderEventService(transaction, orderEventRepository, clock,
+                orderEventPublisher, orderEventPipeline, outboxDirectPublish, outboxDirectPublishExecutor(),
+                asyncPublishPendingOrderEventsService::execute
+        );
     }
 
     @Bean
     public PublishPendingOrderEventsService publishPendingOrderEventsService() {
         return new PublishPendingOrderEventsService(transaction,
-                orderEventRepository, orderEventPublisher, orderMetrics
+                orderEventRepository, orderEventPublisher, orderMetrics, clock, outboxBatchSize,
+                outboxPartitions, outboxFullSweepInterval, outboxRescanWindow, outboxPartitionExecutor()
+        );
+    }
+
+    @Bean
+    public MeasurePendingOrderEventsService measurePendingOrderEventsService() {
+        return new MeasurePendingOrderEventsService(transaction, orderEventRepository, clock, orderMetrics);
+    }
+
+    @Bean
+    public OrderEventDeduplicator orderEventDeduplicator() {
+        return new OrderEventDeduplicator(transaction, processedOrderEventRepository, clock, orderMetrics,
+                dedupeCacheSize
+        );
+    }
+
+    @Bean
+    public ArchivePublishedOrderEventsService archivePublishedOrderEventsService() {
+        return new ArchivePublishedOrderEventsService(transaction, orderEventRepository, clock,
+                outboxRetentionMaxAge, outboxRetentionChunkSize
+        );
+    }
+
+    @Bean
+    public PurgeProcessedOrderEventsService purgeProcessedOrderEventsService() {
+        return new PurgeProcessedOrderEventsService(transaction, processedOrderEventRepository, clock,
+                dedupeRetentionMaxAge, dedupeRetentionChunkSize
         );
     }
 
+    private ExecutorService outboxPartitionExecutor() {
+        if (virtualThreads) {
+            var threadFactory = Thread.ofVirtual().name("outbox-partition-", 0).factory();
+            outboxPartitionExecutor = Executors.newThreadPerTaskExecutor(threadFactory);
+        } else {
+            var threadFactory = Thread.ofPlatform().name("outbox-partition-", 0).daemon(true).factory();
+            outboxPartitionExecutor = Executors.newFixedThreadPool(outboxPartitions, threadFactory);
+        }
+        return outboxPartitionExecutor;
+    }
+
+    private ExecutorService outboxDirectPublishExecutor() {
+        var threadFactory = virtualThreads
+                ? Thread.ofVirtual().name("outbox-direct-", 0).factory()
+                : Thread.ofPlatform().name("outbox-direct-", 0).daemon(true).factory();
+        outboxDirectPublishExecutor = new ThreadPoolExecutor(outboxDirectPublishThreads, outboxDirectPublishThreads,
+                0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(outboxDirectPublishQueueCapacity), threadFactory);
+        return outboxDirectPublishExecutor;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (outboxPartitionExecutor != null) {
+            outboxPartitionExecutor.shutdown();
+        }
+        if (outboxDirectPublishExecutor != null) {
+            outboxDirectPublishExecutor.shutdown();
+        }
+    }
+
 }
@@ -7,6 +7,7 @@ import com.danielpgbrasil.orderprocessing.domain.order.OrderItem;
 import com.danielpgbrasil.orderprocessing.infrastructure.config.swagger.BadRequestResponse;
 import com.danielpgbrasil.orderprocessing.infrastructure.shared.AppErrorResponse;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -14,6 +15,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -29,9 +31,15 @@ public class CreateOrderController {
     private static final Logger LOGGER = LoggerFactory.getLogger(CreateOrderController.class);
 
     private final CreateOrderService createOrderService;
+    private final int maxBatchSize;
 
-    public CreateOrderController(CreateOrderService createOrderService) {
+    public CreateOrderController(CreateOrderService createOrderService,
+                                 @Value("${app.orders.batch.max-size:1000}") int maxBatchSize) {
+        if (maxBatchSize <= 0) {
+            throw new IllegalArgumentException("O tamanho máximo do lote deve ser positivo.");
+        }
         this.createOrderService = createOrderService;
+        this.maxBatchSize = maxBatchSize;
     }
 
     @PostMapping
@@ -89,6 +97,44 @@ public class CreateOrderController {
         return ResponseEntity.status(HttpStatus.CREATED).body(Response.of(order));
     }
 
+    @PostMapping("/batch")
+    @Operation(
+            summary = "Cria pedidos em lote",
+            description = "Cria vários pedidos numa única transação, com inserções em lote; indicado para importações. "
+                    + "O lote aceita até app.orders.batch.max-size pedidos",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "201",
+                            description = "Pedidos criados com sucesso",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    array = @ArraySchema(schema = @Schema(implementation = Response.class))
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "Requisição inválida",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = AppErrorResponse.class)
+                            )
+                    )
+            }
+    )
+    @BadRequestResponse
+    public ResponseEntity<List<Response>> postBatch(@RequestBody List<Request> requests) {
+        LOGGER.info("Criando pedidos em lote: count={}", requests.size());
+        if (requests.size() > maxBatchSize) {
+            throw new IllegalArgumentException("O lote deve ter no máximo " + maxBatchSize + " pedidos.");
+        }
+        var details = requests.stream()
+                .map(Request::toOrderDetails)
+                .toList();
+        var orders = createOrderService.createOrders(details);
+        LOGGER.info("Pedidos criados em lote: count={}", orders.size());
+        return ResponseEntity.status(HttpStatus.CREATED).body(orders.stream().map(Response::of).toList());
+    }
+
     @Schema(name = "CreateOrderRequest")
     public record Request(
             @Schema(description = "Nome do cliente", example = "Joao Silva")
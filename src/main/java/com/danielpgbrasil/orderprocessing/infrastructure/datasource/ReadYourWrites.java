@@ -0,0 +1,21 @@
+package com.danielpgbrasil.orderprocessing.infrastructure.datasource;
+
+public final class ReadYourWrites {
+
+    private static final ThreadLocal<Boolean> PRIMARY = new ThreadLocal<>();
+
+    private ReadYourWrites() {
+    }
+
+    public static void stickToPrimary() {
+        PRIMARY.set(Boolean.TRUE);
+    }
+
+    public static boolean isStuckToPrimary() {
+        return PRIMARY.get() != null;
+    }
+
+    public static void clear() {
+        PRIMARY.remove();
+    }
+}
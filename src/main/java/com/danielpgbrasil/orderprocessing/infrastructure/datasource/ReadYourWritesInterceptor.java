@@ -0,0 +1,50 @@
+package com.danielpgbrasil.orderprocessing.infrastructure.datasource;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Set;
+
+public class ReadYourWritesInterceptor implements HandlerInterceptor {
+
+    public static final String COOKIE_NAME = "read-primary";
+
+    private static final Set<String> SAFE_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+
+    private final int windowSeconds;
+
+    public ReadYourWritesInterceptor(Duration window) {
+        if (window.isNegative() || window.isZero()) {
+            throw new IllegalArgumentException("A janela de leitura no primário deve ser positiva.");
+        }
+        this.windowSeconds = (int) Math.max(1L, (window.toMillis() + 999) / 1000);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!SAFE_METHODS.contains(request.getMethod())) {
+            var cookie = new Cookie(COOKIE_NAME, "1");
+            cookie.setMaxAge(windowSeconds);
+            cookie.setPath("/");
+            cookie.setHttpOnly(true);
+            response.addCookie(cookie);
+        } else if (hasCookie(request)) {
+            ReadYourWrites.stickToPrimary();
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        ReadYourWrites.clear();
+    }
+
+    private static boolean hasCookie(HttpServletRequest request) {
+        var cookies = request.getCookies();
+        return cookies != null && Arrays.stream(cookies).anyMatch(cookie -> COOKIE_NAME.equals(cookie.getName()));
+    }
+}
@@ -0,0 +1,50 @@
+package com.danielpgbrasil.orderprocessing.infrastructure.datasource;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+public class Replica implements AutoCloseable {
+
+    private final String name;
+    private final DataSource dataSource;
+    private volatile boolean healthy;
+    private volatile Duration lag;
+
+    public Replica(String name, DataSource dataSource) {
+        this.name = name;
+        this.dataSource = dataSource;
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public DataSource dataSource() {
+        return dataSource;
+    }
+
+    public boolean isHealthy() {
+        return healthy;
+    }
+
+    public Duration lag() {
+        return lag;
+    }
+
+    public void update(Duration lag, boolean healthy) {
+        this.lag = lag;
+        this.healthy = healthy;
+    }
+
+    public void markUnavailable() {
+        this.lag = null;
+        this.healthy = false;
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (dataSource instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+}
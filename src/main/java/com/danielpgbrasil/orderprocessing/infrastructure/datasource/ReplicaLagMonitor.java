@@ -0,0 +1,103 @@
+package com.danielpgbrasil.orderprocessing.infrastructure.datasource;
+
+import com.danielpgbrasil.orderprocessing.domain.shared.AppClock;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Component
+@ConditionalOnProperty(name = "app.datasource.replicas.enabled", havingValue = "true")
+public class ReplicaLagMonitor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    private static final String SQL_BEAT = "UPDATE tb_replica_heartbeat SET beat_at = :beatAt WHERE id = 1";
+    private static final String SQL_LAST_BEAT = "SELECT beat_at FROM tb_replica_heartbeat WHERE id = 1";
+
+    private final NamedParameterJdbcTemplate jdbc;
+    private final AppClock clock;
+    private final Duration maxLag;
+    private final Map<Replica, JdbcTemplate> replicas = new LinkedHashMap<>();
+
+    public ReplicaLagMonitor(NamedParameterJdbcTemplate jdbc,
+                             ReplicaPool replicaPool,
+                             AppClock clock,
+                             MeterRegistry registry,
+                             @Value("${app.datasource.replicas.max-lag:5s}") Duration maxLag) {
+        if (maxLag.isNegative() || maxLag.isZero()) {
+            throw new IllegalArgumentException("O atraso máximo das réplicas deve ser positivo.");
+        }
+        this.jdbc = jdbc;
+        this.clock = clock;
+        this.maxLag = maxLag;
+        replicaPool.replicas().forEach(replica -> {
+            replicas.put(replica, new JdbcTemplate(replica.dataSource()));
+            Gauge.builder("datasource_replica_lag_seconds", replica, ReplicaLagMonitor::lagSeconds)
+                    .description("Atraso da réplica em relação ao primário; NaN se indisponível")
+                    .tag("replica", replica.name())
+                    .register(registry);
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.replicas.check-interval:1s}")
+    public void run() {
+        try {
+            check();
+        } catch (RuntimeException e) {
+            LOGGER.error("Falha ao verificar o atraso das réplicas: error={}", e.getMessage(), e);
+        }
+    }
+
+    public void check() {
+        var now = clock.now().value();
+        var primaryBeat = lastBeatOnPrimary();
+        replicas.forEach((replica, replicaJdbc) -> checkReplica(replica, replicaJdbc, primaryBeat, now));
+        try {
+            jdbc.update(SQL_BEAT, Map.of("beatAt", now));
+        } catch (RuntimeException e) {
+            LOGGER.warn("Falha ao gravar o heartbeat no primário: error={}", e.getMessage());
+        }
+    }
+
+    private Long lastBeatOnPrimary() {
+        try {
+            return jdbc.queryForObject(SQL_LAST_BEAT, Map.of(), Long.class);
+        } catch (RuntimeException e) {
+            LOGGER.warn("Falha ao ler o heartbeat no primário: error={}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void checkReplica(Replica replica, JdbcTemplate replicaJdbc, Long primaryBeat, long now) {
+        var wasHealthy = replica.isHealthy();
+        try {
+            var lastBeat = replicaJdbc.queryForObject(SQL_LAST_BEAT, Long.class);
+            var reference = primaryBeat == null ? now : primaryBeat;
+            var lag = Duration.ofMillis(Math.max(0L, reference - lastBeat));
+            replica.update(lag, lag.compareTo(maxLag) <= 0);
+        } catch (RuntimeException e) {
+            replica.markUnavailable();
+            LOGGER.debug("Réplica indisponível: replica={}, error={}", replica.name(), e.getMessage());
+        }
+        if (wasHealthy != replica.isHealthy()) {
+            LOGGER.info("Réplica {} para leitura: replica={}, lag={}",
+                    replica.isHealthy() ? "habilitada" : "desabilitada", replica.name(), replica.lag());
+        }
+    }
+
+    private static double lagSeconds(Replica replica) {
+        var lag = replica.lag();
+        return lag == null ? Double.NaN : lag.toMillis() / 1000.0;
+    }
+}
@@ -0,0 +1,49 @@
+package com.danielpgbrasil.orderprocessing.infrastructure.datasource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ReplicaPool implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReplicaPool.class);
+
+    private final List<Replica> replicas;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaPool(List<Replica> replicas) {
+        if (replicas.isEmpty()) {
+            throw new IllegalArgumentException("Nenhuma réplica configurada.");
+        }
+        this.replicas = List.copyOf(replicas);
+    }
+
+    public List<Replica> replicas() {
+        return replicas;
+    }
+
+    public Optional<Replica> nextHealthy() {
+        var start = Math.floorMod(next.getAndIncrement(), replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            var replica = replicas.get((start + i) % replicas.size());
+            if (replica.isHealthy()) {
+                return Optional.of(replica);
+            }
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public void close() {
+        replicas.forEach(replica -> {
+            try {
+                replica.close();
+            } catch (Exception e) {
+                LOGGER.warn("Falha ao fechar réplica: replica={}, error={}", replica.name(), e.getMessage());
+            }
+        });
+    }
+}
@@ -2,6 +2,9 @@ package com.danielpgbrasil.orderprocessing.infrastructure.jdbc;
 
 import org.springframework.jdbc.support.GeneratedKeyHolder;
 
+import java.util.List;
+import java.util.Map;
+
 public class CustomKeyHolder extends GeneratedKeyHolder {
 
     public long asLong() {
@@ -12,4 +15,21 @@ public class CustomKeyHolder extends GeneratedKeyHolder {
         return key.longValue();
     }
 
+    public List<Long> asLongs(int expected) {
+        var keys = getKeyList().stream()
+                .map(CustomKeyHolder::singleKey)
+                .toList();
+        if (keys.size() != expected) {
+            throw new IllegalStateException("Erro ao obter IDs gerados pelo banco de dados.");
+        }
+        return keys;
+    }
+
+    private static Long singleKey(Map<String, Object> keys) {
+        if (keys.size() != 1 || !(keys.values().iterator().next() instanceof Number key)) {
+            throw new IllegalStateException("Erro ao obter IDs gerados pelo banco de dados.");
+        }
+        return key.longValue();
+    }
+
 }
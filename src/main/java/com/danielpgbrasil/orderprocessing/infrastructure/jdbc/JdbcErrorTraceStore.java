@@ -0,0 +1,46 @@
+package com.danielpgbrasil.orderprocessing.infrastructure.jdbc;
+
+import com.danielpgbrasil.orderprocessing.domain.shared.TimeMillis;
+import com.danielpgbrasil.orderprocessing.infrastructure.messaging.ErrorTraceStore;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Map;
+import java.util.Optional;
+
+@Repository
+public class JdbcErrorTraceStore implements ErrorTraceStore {
+
+    private static final String SQL_INSERT_IGNORE = """
+            INSERT IGNORE INTO tb_error_trace (fingerprint, trace, created_at)
+            VALUES (:fingerprint, :trace, :created_at)
+            """;
+
+    private static final String SQL_SELECT_BY_FINGERPRINT = """
+            SELECT trace
+            FROM tb_error_trace
+            WHERE fingerprint = :fingerprint
+            """;
+
+    private static final String FINGERPRINT = "fingerprint";
+    private static final String TRACE = "trace";
+    private static final String CREATED_AT = "created_at";
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    public JdbcErrorTraceStore(NamedParameterJdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    @Override
+    public void save(String fingerprint, String trace, TimeMillis createdAt) {
+        var params = Map.of(FINGERPRINT, fingerprint, TRACE, trace, CREATED_AT, createdAt.value());
+        jdbc.update(SQL_INSERT_IGNORE, params);
+    }
+
+    @Override
+    public Optional<String> find(String fingerprint) {
+        var params = Map.of(FINGERPRINT, fingerprint);
+        return jdbc.queryForList(SQL_SELECT_BY_FINGERPRINT, params, String.class).stream().findFirst();
+    }
+}
@@ -9,6 +9,7 @@ import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Repository;
 
 import java.sql.SQLException;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -17,19 +18,26 @@ import java.util.Optional;
 public class JdbcOrderEventRepository implements OrderEventRepository {
 
     private static final String SQL_INSERT = """
-            INSERT INTO tb_order_event (order_id, type, created_at, published)
-            VALUES (:order_id, :type, :created_at, :published)
+            INSERT INTO tb_order_event (order_id, bucket, type, created_at, published)
+            VALUES (:order_id, :bucket, :type, :created_at, :published)
             """;
 
     private static final String SQL_UPDATE = """
             UPDATE tb_order_event
             SET order_id = :order_id,
+                bucket = :bucket,
                 type = :type,
                 created_at = :created_at,
                 published = :published
             WHERE id = :id
             """;
 
+    private static final String SQL_MARK_PUBLISHED = """
+            UPDATE tb_order_event
+            SET published = TRUE
+            WHERE id IN (:ids) AND NOT published
+            """;
+
     private static final String SQL_SELECT_BASE = """
             SELECT id, order_id, type, created_at, published
             FROM tb_order_event
@@ -38,17 +46,63 @@ public class JdbcOrderEventRepository implements OrderEventRepository {
     private static final String SQL_SELECT_BY_ID = SQL_SELECT_BASE
             + " WHERE id = :id";
 
-    private static final String SQL_SELECT_BY_ORDER_ID = SQL_SELECT_BASE
-            + " WHERE order_id = :order_id ORDER BY id";
+    private static final String SQL_SELECT_BY_ORDER_ID = """
+            SELECT id, order_id, type, created_at, TRUE AS published
+            FROM tb_order_event_archive
+            WHERE order_id = :order_id
+            UNION ALL
+            SELECT id, order_id, type, created_at, published
+            FROM tb_order_event
+            WHERE order_id = :order_id
+            ORDER BY id
+            """;
+
+    private static final String SQL_SELECT_ARCHIVABLE_IDS = """
+            SELECT id
+            FROM tb_order_event
+            WHERE published AND created_at < :created_at
+            ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED
+            """;
+
+    private static final String SQL_COPY_TO_ARCHIVE = """
+            INSERT INTO tb_order_event_archive (id, order_id, type, created_at)
+            SELECT id, order_id, type, created_at
+            FROM tb_order_event
+            WHERE id IN (:ids)
+            """;
+
+    private static final String SQL_DELETE_BY_IDS = """
+            DELETE FROM tb_order_event
+            WHERE id IN (:ids)
+            """;
+
+    private static final String SQL_CLAIM_UNPUBLISHED = SQL_SELECT_BASE
+            + " WHERE NOT published AND id > :after_id"
+            + " ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED";
+
+    private static final String SQL_CLAIM_UNPUBLISHED_IN_BUCKETS = SQL_SELECT_BASE
+            + " WHERE NOT published AND bucket IN (:buckets) AND id > :after_id"
+            + " ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED";
+
+    private static final String SQL_SUMMARIZE_UNPUBLISHED = """
+            SELECT COUNT(*) AS pending, MIN(created_at) AS oldest_created_at
+            FROM tb_order_event
+            WHERE NOT published
+            """;
 
-    private static final String SQL_SELECT_UNPUBLISHED = SQL_SELECT_BASE
-            + " WHERE NOT published ORDER BY id FOR UPDATE";
+    private static final int MARK_PUBLISHED_CHUNK_SIZE = 500;
+    private static final int INSERT_CHUNK_SIZE = 1000;
 
     private static final String ID = "id";
     private static final String ORDER_ID = "order_id";
     private static final String TYPE = "type";
     private static final String CREATED_AT = "created_at";
     private static final String PUBLISHED = "published";
+    private static final String LIMIT = "limit";
+    private static final String AFTER_ID = "after_id";
+    private static final String IDS = "ids";
+    private static final String BUCKET = "bucket";
+    private static final String BUCKETS = "buckets";
 
     private final NamedParameterJdbcTemplate jdbc;
 
@@ -65,6 +119,23 @@ public class JdbcOrderEventRepository implements OrderEventRepository {
         }
     }
 
+    @Override
+    public void saveAll(Collection<OrderEvent> events) {
+        var inserts = events.stream()
+                .filter(event -> event.id() == null)
+                .toList();
+        for (var from = 0; from < inserts.size(); from += INSERT_CHUNK_SIZE) {
+            insertAll(inserts.subList(from, Math.min(from + INSERT_CHUNK_SIZE, inserts.size())));
+        }
+        var updates = events.stream()
+                .filter(event -> event.id() != null)
+                .map(this::updateParams)
+                .toArray(MapSqlParameterSource[]::new);
+        if (updates.length > 0) {
+            jdbc.batchUpdate(SQL_UPDATE, updates);
+        }
+    }
+
     @Override
     public Optional<OrderEvent> get(OrderEventId id) {
         try {
@@ -81,8 +152,47 @@ public class JdbcOrderEventRepository implements OrderEventRepository {
     }
 
     @Override
-    public List<OrderEvent> findAllUnpublished() {
-        return jdbc.query(SQL_SELECT_UNPUBLISHED, (rs, rowNum) -> mapEvent(rs));
+    public List<OrderEvent> claimUnpublished(OrderEventPartition partition, long afterId, int limit) {
+        if (partition.count() == 1) {
+            var params = Map.of(AFTER_ID, afterId, LIMIT, limit);
+            return jdbc.query(SQL_CLAIM_UNPUBLISHED, params, (rs, rowNum) -> mapEvent(rs));
+        }
+        var params = Map.of(
+                AFTER_ID, afterId,
+                BUCKETS, partition.buckets(),
+                LIMIT, limit
+        );
+        return jdbc.query(SQL_CLAIM_UNPUBLISHED_IN_BUCKETS, params, (rs, rowNum) -> mapEvent(rs));
+    }
+
+    @Override
+    public void markPublished(Collection<OrderEventId> ids) {
+        var values = ids.stream().map(OrderEventId::value).toList();
+        for (var from = 0; from < values.size(); from += MARK_PUBLISHED_CHUNK_SIZE) {
+            var chunk = values.subList(from, Math.min(from + MARK_PUBLISHED_CHUNK_SIZE, values.size()));
+            jdbc.update(SQL_MARK_PUBLISHED, Map.of(IDS, chunk));
+        }
+    }
+
+    @Override
+    public PendingOrderEvents summarizeUnpublished() {
+        return jdbc.queryForObject(SQL_SUMMARIZE_UNPUBLISHED, Map.of(), (rs, rowNum) -> {
+            var count = rs.getLong("pending");
+            return count == 0 ? PendingOrderEvents.none()
+                    : PendingOrderEvents.of(count, TimeMillis.of(rs.getLong("oldest_created_at")));
+        });
+    }
+
+    @Override
+    public int archivePublishedBefore(TimeMillis createdBefore, int limit) {
+        var selectParams = Map.of(CREATED_AT, createdBefore.value(), LIMIT, limit);
+        var ids = jdbc.queryForList(SQL_SELECT_ARCHIVABLE_IDS, selectParams, Long.class);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        var params = Map.of(IDS, ids);
+        jdbc.update(SQL_COPY_TO_ARCHIVE, params);
+        return jdbc.update(SQL_DELETE_BY_IDS, params);
     }
 
     @Override
@@ -93,23 +203,37 @@ public class JdbcOrderEventRepository implements OrderEventRepository {
 
     private void insert(OrderEvent event) {
         var keyHolder = new CustomKeyHolder();
-        var params = new MapSqlParameterSource()
-                .addValue(ORDER_ID, event.orderId().value())
-                .addValue(TYPE, event.type().name())
-                .addValue(CREATED_AT, event.createdAt().value())
-                .addValue(PUBLISHED, event.isPublished());
-        jdbc.update(SQL_INSERT, params, keyHolder);
+        jdbc.update(SQL_INSERT, insertParams(event), keyHolder);
         event.finalizeCreation(OrderEventId.of(keyHolder.asLong()));
     }
 
+    private void insertAll(List<OrderEvent> events) {
+        var keyHolder = new CustomKeyHolder();
+        var params = events.stream()
+                .map(this::insertParams)
+                .toArray(MapSqlParameterSource[]::new);
+        jdbc.batchUpdate(SQL_INSERT, params, keyHolder);
+        var ids = keyHolder.asLongs(events.size());
+        for (var i = 0; i < events.size(); i++) {
+            events.get(i).finalizeCreation(OrderEventId.of(ids.get(i)));
+        }
+    }
+
     private void update(OrderEvent event) {
-        var params = new MapSqlParameterSource()
-                .addValue(ID, event.id().value())
+        jdbc.update(SQL_UPDATE, updateParams(event));
+    }
+
+    private MapSqlParameterSource insertParams(OrderEvent event) {
+        return new MapSqlParameterSource()
                 .addValue(ORDER_ID, event.orderId().value())
+                .addValue(BUCKET, OrderEventPartition.bucketOf(event.orderId()))
                 .addValue(TYPE, event.type().name())
                 .addValue(CREATED_AT, event.createdAt().value())
                 .addValue(PUBLISHED, event.isPublished());
-        jdbc.update(SQL_UPDATE, params);
+    }
+
+    private MapSqlParameterSource updateParams(OrderEvent event) {
+        return insertParams(event).addValue(ID, event.id().value());
     }
 
     private OrderEvent mapEvent(java.sql.ResultSet rs) throws SQLException {
@@ -8,6 +8,10 @@ import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Repository;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
@@ -24,12 +28,26 @@ public class JdbcOrderRepository implements OrderRepository {
             WHERE id = :id
             """;
 
+    private static final String SQL_UPDATE_STATUS = """
+            UPDATE tb_order SET status = :status
+            WHERE id = :id
+            """;
+
+    private static final String SQL_TRANSITION_STATUS = """
+            UPDATE tb_order SET status = :to
+            WHERE id = :id AND status = :from
+            """;
+
     private static final String SQL_SELECT_BASE = "SELECT id, details, status FROM tb_order";
-    private static final String SQL_SELECT_BY_ID = SQL_SELECT_BASE + " WHERE id = :id FOR UPDATE";
+    private static final String SQL_SELECT_BY_ID = SQL_SELECT_BASE + " WHERE id = :id";
+
+    private static final int INSERT_CHUNK_SIZE = 1000;
 
     private static final String ID = "id";
     private static final String DETAILS = "details";
     private static final String STATUS = "status";
+    private static final String FROM = "from";
+    private static final String TO = "to";
 
     private final NamedParameterJdbcTemplate jdbc;
     private final Serializer serializer;
@@ -45,12 +63,7 @@ public class JdbcOrderRepository implements OrderRepository {
 
     @Override
     public Optional<Order> get(OrderId id) {
-        try {
-            var params = Map.of(ID, id.value());
-            return Optional.of(jdbc.queryForObject(SQL_SELECT_BY_ID, params, (rs, rowNum) -> mapOrder(rs)));
-        } catch (EmptyResultDataAccessException e) {
-            return Optional.empty();
-        }
+        return select(SQL_SELECT_BY_ID, id);
     }
 
     @Override
@@ -70,6 +83,33 @@ public class JdbcOrderRepository implements OrderRepository {
         }
     }
 
+    @Override
+    public boolean transitionStatus(OrderId id, OrderStatus from, OrderStatus to) {
+        var params = Map.of(ID, id.value(), FROM, from.name(), TO, to.name());
+        return jdbc.update(SQL_TRANSITION_STATUS, params) > 0;
+    }
+
+    @Override
+    public List<OrderId> transitionStatuses(Collection<OrderId> ids, OrderStatus from, OrderStatus to) {
+        var sorted = ids.stream().distinct().sorted(Comparator.comparing(OrderId::value)).toList();
+        if (sorted.isEmpty()) {
+            return List.of();
+        }
+        var counts = jdbc.batchUpdate(SQL_TRANSITION_STATUS, sorted.stream()
+                .map(id -> new MapSqlParameterSource()
+                        .addValue(ID, id.value())
+                        .addValue(FROM, from.name())
+                        .addValue(TO, to.name()))
+                .toArray(MapSqlParameterSource[]::new));
+        var transitioned = new ArrayList<OrderId>(sorted.size());
+        for (var i = 0; i < sorted.size(); i++) {
+            if (counts[i] > 0) {
+                transitioned.add(sorted.get(i));
+            }
+        }
+        return transitioned;
+    }
+
     @Override
     public void save(Order order) {
         if (order.id() == null) {
@@ -79,31 +119,98 @@ public class JdbcOrderRepository implements OrderRepository {
         }
     }
 
+    @Override
+    public void saveAll(Collection<Order> orders) {
+        var updates = orders.stream()
+                .filter(order -> order.id() != null && order.hasChanges())
+                .toList();
+        var inserts = orders.stream()
+                .filter(order -> order.id() == null)
+                .toList();
+        if (!inserts.isEmpty()) {
+            insertAll(inserts);
+        }
+        batchUpdate(SQL_UPDATE, updates.stream().filter(Order::isDetailsChanged).toList());
+        batchUpdate(SQL_UPDATE_STATUS, updates.stream().filter(order -> !order.isDetailsChanged()).toList());
+    }
+
+    private Optional<Order> select(String sql, OrderId id) {
+        try {
+            var params = Map.of(ID, id.value());
+            return Optional.of(jdbc.queryForObject(sql, params, (rs, rowNum) -> mapOrder(rs)));
+        } catch (EmptyResultDataAccessException e) {
+            return Optional.empty();
+        }
+    }
+
     private void insert(Order order) {
         var keyHolder = new CustomKeyHolder();
-        jdbc.update(SQL_INSERT, new MapSqlParameterSource()
-                .addValue(DETAILS, serializer.serialize(order.details()))
-                .addValue(STATUS, order.status().name()), keyHolder);
+        jdbc.update(SQL_INSERT, insertParams(order), keyHolder);
         order.finalizeCreation(OrderId.of(keyHolder.asLong()));
+        order.markSaved();
+    }
+
+    private void insertAll(List<Order> orders) {
+        var ids = new ArrayList<OrderId>(orders.size());
+        for (var from = 0; from < orders.size(); from += INSERT_CHUNK_SIZE) {
+            var chunk = orders.subList(from, Math.min(from + INSERT_CHUNK_SIZE, orders.size()));
+            var keyHolder = new CustomKeyHolder();
+            var params = chunk.stream()
+                    .map(this::insertParams)
+                    .toArray(MapSqlParameterSource[]::new);
+            jdbc.batchUpdate(SQL_INSERT, params, keyHolder);
+            keyHolder.asLongs(chunk.size()).forEach(id -> ids.add(OrderId.of(id)));
+        }
+        Order.finalizeCreation(orders, ids);
+        orders.forEach(Order::markSaved);
+    }
+
+    private MapSqlParameterSource insertParams(Order order) {
+        return new MapSqlParameterSource()
+                .addValue(DETAILS, serializer.serialize(order.details()))
+                .addValue(STATUS, order.status().name());
     }
 
     private void update(Order order) {
+        if (!order.hasChanges()) {
+            return;
+        }
+        var sql = order.isDetailsChanged() ? SQL_UPDATE : SQL_UPDATE_STATUS;
+        jdbc.update(sql, updateParams(order));
+        order.markSaved();
+    }
+
+    private void batchUpdate(String sql, List<Order> orders) {
+        if (orders.isEmpty()) {
+            return;
+        }
+        jdbc.batchUpdate(sql, orders.stream()
+                .map(this::updateParams)
+                .toArray(MapSqlParameterSource[]::new));
+        orders.forEach(Order::markSaved);
+    }
+
+    private MapSqlParameterSource updateParams(Order order) {
         var params = new MapSqlParameterSource()
                 .addValue(ID, order.id().value())
-                .addValue(DETAILS, serializer.serialize(order.details()))
                 .addValue(STATUS, order.status().name());
-        jdbc.update(SQL_UPDATE, params);
+        if (order.isDetailsChanged()) {
+            params.addValue(DETAILS, serializer.serialize(order.details()));
+        }
+        return params;
     }
 
     private Order mapOrder(java.sql.ResultSet rs) throws SQLException {
         var detailsJson = rs.getString(DETAILS);
         var details = serializer.deserialize(detailsJson, OrderDetails.class);
-        return Order.builder()
+        var order = Order.builder()
                 .withId(OrderId.of(rs.getLong(ID)))
                 .withDetails(details)
                 .withStatus(OrderStatus.valueOf(rs.getString(STATUS)))
                 .withListener(orderListener)
                 .build();
+        order.markSaved();
+        return order;
     }
 
 }
@@ -0,0 +1,89 @@
+package com.danielpgbrasil.orderprocessing.infrastructure.jdbc;
+
+import com.danielpgbrasil.orderprocessing.domain.order.event.OrderEventId;
+import com.danielpgbrasil.orderprocessing.domain.order.event.ProcessedOrderEventRepository;
+import com.danielpgbrasil.orderprocessing.domain.shared.TimeMillis;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Repository
+public class JdbcProcessedOrderEventRepository implements ProcessedOrderEventRepository {
+
+    private static final String SQL_SELECT_PROCESSED = """
+            SELECT event_id
+            FROM tb_processed_order_event
+            WHERE event_id IN (:ids)
+            """;
+
+    private static final String SQL_INSERT_IF_ABSENT = """
+            INSERT INTO tb_processed_order_event (event_id, processed_at)
+            SELECT :event_id, :processed_at
+            FROM (SELECT 1 AS one) candidate
+            WHERE NOT EXISTS (
+                SELECT 1 FROM tb_processed_order_event WHERE event_id = :event_id
+            )
+            """;
+
+    private static final String SQL_SELECT_PROCESSED_BEFORE = """
+            SELECT event_id
+            FROM tb_processed_order_event
+            WHERE processed_at < :processed_at
+            ORDER BY event_id LIMIT :limit
+            """;
+
+    private static final String SQL_DELETE_BY_IDS = """
+            DELETE FROM tb_processed_order_event
+            WHERE event_id IN (:ids)
+            """;
+
+    private static final String EVENT_ID = "event_id";
+    private static final String PROCESSED_AT = "processed_at";
+    private static final String IDS = "ids";
+    private static final String LIMIT = "limit";
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    public JdbcProcessedOrderEventRepository(NamedParameterJdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    @Override
+    public Set<OrderEventId> findProcessed(Collection<OrderEventId> ids) {
+        if (ids.isEmpty()) {
+            return Set.of();
+        }
+        var params = Map.of(IDS, ids.stream().map(OrderEventId::value).distinct().toList());
+        return jdbc.queryForList(SQL_SELECT_PROCESSED, params, Long.class).stream()
+                .map(OrderEventId::of)
+                .collect(Collectors.toSet());
+    }
+
+    @Override
+    public void markProcessed(Collection<OrderEventId> ids, TimeMillis processedAt) {
+        var params = ids.stream()
+                .distinct()
+                .map(id -> new MapSqlParameterSource()
+                        .addValue(EVENT_ID, id.value())
+                        .addValue(PROCESSED_AT, processedAt.value()))
+                .toArray(MapSqlParameterSource[]::new);
+        if (params.length > 0) {
+            jdbc.batchUpdate(SQL_INSERT_IF_ABSENT, params);
+        }
+    }
+
+    @Override
+    public int deleteProcessedBefore(TimeMillis processedBefore, int limit) {
+        var selectParams = Map.of(PROCESSED_AT, processedBefore.value(), LIMIT, limit);
+        var ids = jdbc.queryForList(SQL_SELECT_PROCESSED_BEFORE, selectParams, Long.class);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return jdbc.update(SQL_DELETE_BY_IDS, Map.of(IDS, ids));
+    }
+}
@@ -0,0 +1,22 @@
+package com.danielpgbrasil.orderprocessing.infrastructure.messaging;
+
+import com.danielpgbrasil.orderprocessing.application.order.event.ArchivePublishedOrderEventsService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "app.outbox.retention.enabled", havingValue = "true")
+public class ArchivePublishedOrderEventsScheduler {
+
+    private final ArchivePublishedOrderEventsService archiveService;
+
+    public ArchivePublishedOrderEventsScheduler(ArchivePublishedOrderEventsService archiveService) {
+        this.archiveService = archiveService;
+    }
+
+    @Scheduled(fixedDelayString = "${app.outbox.retention.interval:PT1H}")
+    public void run() {
+        archiveService.archivePublishedEvents();
+    }
+}
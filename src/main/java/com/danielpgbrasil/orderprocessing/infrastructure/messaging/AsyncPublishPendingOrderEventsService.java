@@ -1,21 +1,73 @@
 package com.danielpgbrasil.orderprocessing.infrastructure.messaging;
 
+import com.danielpgbrasil.orderprocessing.application.metrics.OrderMetrics;
 import com.danielpgbrasil.orderprocessing.application.order.event.PublishPendingOrderEventsService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Lazy;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.stereotype.Component;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 @Component
 public class AsyncPublishPendingOrderEventsService {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(AsyncPublishPendingOrderEventsService.class);
+
+    private static final int IDLE = 0;
+    private static final int RUNNING = 1;
+    private static final int RUNNING_DIRTY = 2;
+
     private final PublishPendingOrderEventsService service;
+    private final TaskExecutor taskExecutor;
+    private final OrderMetrics orderMetrics;
+    private final AtomicInteger state = new AtomicInteger(IDLE);
 
-    public AsyncPublishPendingOrderEventsService(@Lazy PublishPendingOrderEventsService service) {
+    public AsyncPublishPendingOrderEventsService(@Lazy PublishPendingOrderEventsService service,
+                                                 @Qualifier("applicationTaskExecutor") TaskExecutor taskExecutor,
+                                                 OrderMetrics orderMetrics) {
         this.service = service;
+        this.taskExecutor = taskExecutor;
+        this.orderMetrics = orderMetrics;
     }
 
-    @Async
     public void execute() {
-        service.publishPendingEvents();
+        while (true) {
+            var current = state.get();
+            if (current == IDLE && state.compareAndSet(IDLE, RUNNING)) {
+                startDrain();
+                return;
+            }
+            if (current == RUNNING_DIRTY || (current == RUNNING && state.compareAndSet(RUNNING, RUNNING_DIRTY))) {
+                orderMetrics.incrementCoalescedPublishTriggers();
+                return;
+            }
+        }
+    }
+
+    private void startDrain() {
+        try {
+            taskExecutor.execute(this::drain);
+        } catch (RuntimeException e) {
+            state.set(IDLE);
+            throw e;
+        }
+    }
+
+    private void drain() {
+        do {
+            state.set(RUNNING);
+            tryPublishPendingEvents();
+        } while (!state.compareAndSet(RUNNING, IDLE));
+    }
+
+    private void tryPublishPendingEvents() {
+        try {
+            service.publishPendingEvents();
+        } catch (RuntimeException e) {
+            LOGGER.error("Falha ao publicar eventos pendentes: error={}", e.getMessage(), e);
+        }
     }
 }
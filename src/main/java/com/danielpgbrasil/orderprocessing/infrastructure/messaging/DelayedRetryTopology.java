@@ -0,0 +1,74 @@
+package com.danielpgbrasil.orderprocessing.infrastructure.messaging;
+
+import org.springframework.amqp.core.*;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+@Component
+public class DelayedRetryTopology {
+
+    public static final String RETRY_ATTEMPT_HEADER = "x-retry-attempt";
+
+    private static final String RETRY_SUFFIX = ".retry.";
+
+    private final boolean enabled;
+    private final List<Duration> delays;
+
+    public DelayedRetryTopology(@Value("${app.consumer.retry.delayed.enabled:false}") boolean enabled,
+                                @Value("${app.consumer.retry.delays:1s,2s,4s,8s}") List<Duration> delays) {
+        if (delays.stream().anyMatch(delay -> delay.isZero() || delay.isNegative())) {
+            throw new IllegalArgumentException("Os atrasos entre tentativas devem ser positivos.");
+        }
+        this.enabled = enabled;
+        this.delays = List.copyOf(delays);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public Optional<String> nextRetryQueue(Message message, String queue) {
+        var next = attemptOf(message) + 1;
+        if (!enabled || next > delays.size()) {
+            return Optional.empty();
+        }
+        return Optional.of(retryQueue(queue, next));
+    }
+
+    public Message withNextAttempt(Message message) {
+        return MessageBuilder.fromMessage(message)
+                .setHeader(RETRY_ATTEMPT_HEADER, attemptOf(message) + 1)
+                .build();
+    }
+
+    public Declarables declarables(String queue, DirectExchange exchange, String routingKey) {
+        var declarables = new ArrayList<Declarable>();
+        if (!enabled) {
+            return new Declarables(declarables);
+        }
+        for (var attempt = 1; attempt <= delays.size(); attempt++) {
+            var retryQueue = QueueBuilder.durable(retryQueue(queue, attempt))
+                    .ttl((int) delays.get(attempt - 1).toMillis())
+                    .deadLetterExchange(exchange.getName())
+                    .deadLetterRoutingKey(routingKey)
+                    .build();
+            declarables.add(retryQueue);
+            declarables.add(BindingBuilder.bind(retryQueue).to(exchange).with(retryQueue.getName()));
+        }
+        return new Declarables(declarables);
+    }
+
+    private static int attemptOf(Message message) {
+        return message.getMessageProperties().getHeader(RETRY_ATTEMPT_HEADER) instanceof Number attempt
+                ? attempt.intValue() : 0;
+    }
+
+    private static String retryQueue(String queue, int attempt) {
+        return queue + RETRY_SUFFIX + attempt;
+    }
+}
@@ -3,10 +3,14 @@ package com.danielpgbrasil.orderprocessing.infrastructure.messaging;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.retry.MessageBatchRecoverer;
 import org.springframework.amqp.rabbit.retry.MessageRecoverer;
 import org.springframework.amqp.core.Message;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+import java.util.Optional;
+
 @Component
 public class DynamicMessageRecovererFactory {
 
@@ -14,20 +18,46 @@ public class DynamicMessageRecovererFactory {
 
     private final RabbitTemplate rabbitTemplate;
     private final FailedMessageEnricher failedMessageEnricher;
+    private final DelayedRetryTopology retryTopology;
+    private final RetryableExceptionClassifier exceptionClassifier;
 
-    public DynamicMessageRecovererFactory(RabbitTemplate rabbitTemplate, FailedMessageEnricher failedMessageEnricher) {
+    public DynamicMessageRecovererFactory(RabbitTemplate rabbitTemplate,
+                                          FailedMessageEnricher failedMessageEnricher,
+                                          DelayedRetryTopology retryTopology,
+                                          RetryableExceptionClassifier exceptionClassifier) {
         this.rabbitTemplate = rabbitTemplate;
         this.failedMessageEnricher = failedMessageEnricher;
+        this.retryTopology = retryTopology;
+        this.exceptionClassifier = exceptionClassifier;
     }
 
     public MessageRecoverer create(String errorSuffix, String queueSuffixRegex, String exchangeSuffix) {
-        return (Message message, Throwable cause) -> {
+        MessageRecoverer single = (Message message, Throwable cause) -> {
             var originalQueue = message.getMessageProperties().getConsumerQueue();
-            var errorRoutingKey = originalQueue + errorSuffix;
             var exchange = originalQueue.replaceFirst(queueSuffixRegex, exchangeSuffix);
+            var retryQueue = exceptionClassifier.isRetryable(cause)
+                    ? retryTopology.nextRetryQueue(message, originalQueue)
+                    : Optional.<String>empty();
+            if (retryQueue.isPresent()) {
+                rabbitTemplate.convertAndSend(exchange, retryQueue.get(), retryTopology.withNextAttempt(message));
+                LOGGER.warn("Mensagem agendada para nova tentativa: {}", retryQueue.get());
+                return;
+            }
+            var errorRoutingKey = originalQueue + errorSuffix;
             var messageCopy = failedMessageEnricher.enrich(message, cause);
             rabbitTemplate.convertAndSend(exchange, errorRoutingKey, messageCopy);
             LOGGER.error("Mensagem movida para fila de erro: {}", errorRoutingKey);
         };
+        return new MessageBatchRecoverer() {
+            @Override
+            public void recover(Message message, Throwable cause) {
+                single.recover(message, cause);
+            }
+
+            @Override
+            public void recover(List<Message> messages, Throwable cause) {
+                messages.forEach(message -> single.recover(message, cause));
+            }
+        };
     }
 }
@@ -0,0 +1,45 @@
+package com.danielpgbrasil.orderprocessing.infrastructure.messaging;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+@Component
+@Endpoint(id = "errorreplay")
+public class ErrorQueueReplayEndpoint {
+
+    private final ErrorQueueReplayer replayer;
+    private final long defaultLimit;
+    private final double defaultRate;
+    private final int defaultConcurrency;
+
+    public ErrorQueueReplayEndpoint(ErrorQueueReplayer replayer,
+                                    @Value("${app.replay.limit:10000}") long defaultLimit,
+                                    @Value("${app.replay.rate:50}") double defaultRate,
+                                    @Value("${app.replay.concurrency:2}") int defaultConcurrency) {
+        this.replayer = replayer;
+        this.defaultLimit = defaultLimit;
+        this.defaultRate = defaultRate;
+        this.defaultConcurrency = defaultConcurrency;
+    }
+
+    @ReadOperation
+    public ReplayStatus status() {
+        return replayer.status();
+    }
+
+    @WriteOperation
+    public ReplayStatus replay(@Nullable String errorRoot,
+                               @Nullable String fingerprint,
+                               @Nullable Long limit,
+                               @Nullable Double rate,
+                               @Nullable Integer concurrency) {
+        return replayer.start(new ReplayFilter(errorRoot, fingerprint),
+                limit == null ? defaultLimit : limit,
+                rate == null ? defaultRate : rate,
+                concurrency == null ? defaultConcurrency : concurrency);
+    }
+}
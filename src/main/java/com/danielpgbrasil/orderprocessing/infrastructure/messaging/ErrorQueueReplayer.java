@@ -0,0 +1,272 @@
+package com.danielpgbrasil.orderprocessing.infrastructure.messaging;
+
+import com.rabbitmq.client.Channel;
+import com.rabbitmq.client.GetResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.support.DefaultMessagePropertiesConverter;
+import org.springframework.amqp.rabbit.support.MessagePropertiesConverter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+
+import static com.danielpgbrasil.orderprocessing.infrastructure.messaging.RabbitMqConfig.*;
+
+@Component
+public class ErrorQueueReplayer {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ErrorQueueReplayer.class);
+
+    private final RabbitTemplate rabbitTemplate;
+    private final int batchSize;
+    private final Duration confirmTimeout;
+    private final MessagePropertiesConverter propertiesConverter = new DefaultMessagePropertiesConverter();
+    private final AtomicReference<Job> current = new AtomicReference<>();
+    private final AtomicLong remainingGauge = new AtomicLong();
+    private final Counter replayedCounter;
+    private final Counter skippedCounter;
+    private final Counter failedCounter;
+
+    public ErrorQueueReplayer(RabbitTemplate rabbitTemplate,
+                              MeterRegistry registry,
+                              @Value("${app.replay.batch-size:100}") int batchSize,
+                              @Value("${app.outbox.confirm-timeout:5s}") Duration confirmTimeout) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("O tamanho do lote de reprocessamento deve ser positivo.");
+        }
+        this.rabbitTemplate = rabbitTemplate;
+        this.batchSize = batchSize;
+        this.confirmTimeout = confirmTimeout;
+        Gauge.builder("error_queue_replay_remaining", remainingGauge, AtomicLong::get)
+                .description("Mensagens da fila de erro ainda não examinadas pelo reprocessamento em andamento")
+                .register(registry);
+        replayedCounter = replayCounter(registry, "replayed");
+        skippedCounter = replayCounter(registry, "skipped");
+        failedCounter = replayCounter(registry, "failed");
+    }
+
+    public ReplayStatus status() {
+        var job = current.get();
+        return job == null ? ReplayStatus.idle() : job.status();
+    }
+
+    public ReplayStatus start(ReplayFilter filter, long limit, double ratePerSecond, int concurrency) {
+        if (limit <= 0 || concurrency <= 0) {
+            throw new IllegalArgumentException("O limite e a concorrência do reprocessamento devem ser positivos.");
+        }
+        var rateLimiter = new ReplayRateLimiter(ratePerSecond);
+        var running = current.get();
+        if (running != null && running.isRunning()) {
+            return running.status();
+        }
+        var total = Math.min(limit, errorQueueDepth());
+        var job = new Job(filter, rateLimiter, total);
+        if (!current.compareAndSet(running, job)) {
+            return current.get().status();
+        }
+        remainingGauge.set(total);
+        LOGGER.info("Reprocessamento da fila de erro iniciado: total={}, filter={}, rate={}, concurrency={}",
+                total, filter, ratePerSecond, concurrency);
+        var threadFactory = Thread.ofPlatform().name("error-replay-", 0).daemon(true).factory();
+        var executor = Executors.newFixedThreadPool(concurrency, threadFactory);
+        var workers = IntStream.range(0, concurrency)
+                .mapToObj(i -> CompletableFuture.runAsync(() -> drain(job), executor))
+                .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(workers).whenComplete((ignored, error) -> {
+            executor.shutdown();
+            job.finish();
+            remainingGauge.set(0);
+            if (error != null) {
+                LOGGER.error("Falha no reprocessamento da fila de erro: error={}", error.getMessage(), error);
+            }
+            LOGGER.info("Reprocessamento da fila de erro concluído: {}", job.status());
+        });
+        return job.status();
+    }
+
+    private void drain(Job job) {
+        int claimed;
+        while ((claimed = job.claim(batchSize)) > 0) {
+            var count = claimed;
+            var more = rabbitTemplate.execute(channel -> replayBatch(channel, job, count));
+            if (!Boolean.TRUE.equals(more)) {
+                job.stop();
+            }
+            remainingGauge.set(job.remaining());
+        }
+    }
+
+    private boolean replayBatch(Channel channel, Job job, int count) throws IOException {
+        for (var i = 0; i < count; i++) {
+            var response = channel.basicGet(ORDER_EVENTS_ERROR_QUEUE, false);
+            if (response == null) {
+                return false;
+            }
+            var message = toMessage(response);
+            var deliveryTag = response.getEnvelope().getDeliveryTag();
+            var replay = job.filter().matches(message);
+            if (replay) {
+                job.rateLimiter().acquire();
+            }
+            var sent = replay
+                    ? send(originalExchange(message), originalRoutingKey(message), replayable(message))
+                    : send(ORDER_EVENTS_EXCHANGE, ORDER_EVENTS_ERROR_QUEUE, message);
+            if (!sent) {
+                channel.basicNack(deliveryTag, false, true);
+                job.failed();
+                failedCounter.increment();
+            } else if (replay) {
+                channel.basicAck(deliveryTag, false);
+                job.replayed();
+                replayedCounter.increment();
+            } else {
+                channel.basicAck(deliveryTag, false);
+                job.skipped();
+                skippedCounter.increment();
+            }
+        }
+        return true;
+    }
+
+    private long errorQueueDepth() {
+        var depth = rabbitTemplate.execute(channel ->
+                channel.queueDeclarePassive(ORDER_EVENTS_ERROR_QUEUE).getMessageCount());
+        return depth == null ? 0 : depth;
+    }
+
+    private Message toMessage(GetResponse response) {
+        var properties = propertiesConverter.toMessageProperties(response.getProps(), response.getEnvelope(),
+                StandardCharsets.UTF_8.name());
+        return new Message(response.getBody(), properties);
+    }
+
+    private static Message replayable(Message message) {
+        var properties = message.getMessageProperties();
+        properties.getHeaders().remove(DelayedRetryTopology.RETRY_ATTEMPT_HEADER);
+        properties.getHeaders().remove(FailedMessageEnricher.ERROR_TRACE_HEADER);
+        return MessageBuilder.fromMessage(message).build();
+    }
+
+    private static String originalExchange(Message message) {
+        var exchange = message.getMessageProperties().getHeader(FailedMessageEnricher.ORIGINAL_EXCHANGE_HEADER);
+        return exchange == null ? ORDER_EVENTS_EXCHANGE : exchange.toString();
+    }
+
+    private static String originalRoutingKey(Message message) {
+        var routingKey = message.getMessageProperties().getHeader(FailedMessageEnricher.ORIGINAL_ROUTING_KEY_HEADER);
+        return routingKey == null ? ORDER_ROUTING_KEY : routingKey.toString();
+    }
+
+    private boolean send(String exchange, String routingKey, Message message) {
+        var correlation = new CorrelationData(UUID.randomUUID().toString());
+        try {
+            rabbitTemplate.send(exchange, routingKey, message, correlation);
+            var confirm = correlation.getFuture().get(confirmTimeout.toMillis(), TimeUnit.MILLISECONDS);
+            return confirm.isAck() && correlation.getReturned() == null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException | TimeoutException | RuntimeException e) {
+            LOGGER.warn("Mensagem não reenviada pelo reprocessamento: exchange={}, routingKey={}, error={}",
+                    exchange, routingKey, e.getMessage());
+            return false;
+        }
+    }
+
+    private static Counter replayCounter(MeterRegistry registry, String result) {
+        return Counter.builder("error_queue_replay_messages")
+                .description("Mensagens da fila de erro examinadas pelo reprocessamento, por resultado")
+                .tag("result", result)
+                .register(registry);
+    }
+
+    static class Job {
+
+        private final ReplayFilter filter;
+        private final ReplayRateLimiter rateLimiter;
+        private final long total;
+        private final AtomicLong remaining;
+        private final AtomicLong replayed = new AtomicLong();
+        private final AtomicLong skipped = new AtomicLong();
+        private final AtomicLong failed = new AtomicLong();
+        private volatile boolean finished;
+
+        Job(ReplayFilter filter, ReplayRateLimiter rateLimiter, long total) {
+            this.filter = filter;
+            this.rateLimiter = rateLimiter;
+            this.total = total;
+            this.remaining = new AtomicLong(total);
+        }
+
+        ReplayFilter filter() {
+            return filter;
+        }
+
+        ReplayRateLimiter rateLimiter() {
+            return rateLimiter;
+        }
+
+        int claim(int max) {
+            while (true) {
+                var current = remaining.get();
+                var claimed = (int) Math.min(current, max);
+                if (claimed == 0 || remaining.compareAndSet(current, current - claimed)) {
+                    return claimed;
+                }
+            }
+        }
+
+        long remaining() {
+            return remaining.get();
+        }
+
+        void stop() {
+            remaining.set(0);
+        }
+
+        void replayed() {
+            replayed.incrementAndGet();
+        }
+
+        void skipped() {
+            skipped.incrementAndGet();
+        }
+
+        void failed() {
+            failed.incrementAndGet();
+        }
+
+        void finish() {
+            finished = true;
+        }
+
+        boolean isRunning() {
+            return !finished;
+        }
+
+        ReplayStatus status() {
+            var done = replayed.get() + skipped.get() + failed.get();
+            var state = finished ? ReplayStatus.State.FINISHED : ReplayStatus.State.RUNNING;
+            return new ReplayStatus(state, total, done, replayed.get(), skipped.get(), failed.get());
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.danielpgbrasil.orderprocessing.infrastructure.messaging;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+@Component
+@Endpoint(id = "errortraces")
+public class ErrorTraceEndpoint {
+
+    private final ErrorTraceStore errorTraceStore;
+
+    public ErrorTraceEndpoint(ErrorTraceStore errorTraceStore) {
+        this.errorTraceStore = errorTraceStore;
+    }
+
+    @ReadOperation
+    public String trace(@Selector String fingerprint) {
+        return errorTraceStore.find(fingerprint).orElse(null);
+    }
+}
@@ -0,0 +1,10 @@
+package com.danielpgbrasil.orderprocessing.infrastructure.messaging;
+
+import com.danielpgbrasil.orderprocessing.domain.shared.TimeMillis;
+
+import java.util.Optional;
+
+public interface ErrorTraceStore {
+    void save(String fingerprint, String trace, TimeMillis createdAt);
+    Optional<String> find(String fingerprint);
+}
@@ -1,27 +1,114 @@
 package com.danielpgbrasil.orderprocessing.infrastructure.messaging;
 
+import com.danielpgbrasil.orderprocessing.domain.shared.AppClock;
 import com.danielpgbrasil.orderprocessing.infrastructure.shared.ExceptionDetailsExtractor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.amqp.core.Message;
 import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 @Component
 public class FailedMessageEnricher {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(FailedMessageEnricher.class);
+
+    public static final String ERROR_ROOT_HEADER = "x-error-root";
+    public static final String ERROR_TRACE_HEADER = "x-error-trace";
+    public static final String ERROR_FINGERPRINT_HEADER = "x-error-fingerprint";
+    public static final String ERROR_TIME_HEADER = "x-error-time";
+    public static final String ORIGINAL_EXCHANGE_HEADER = "x-original-exchange";
+    public static final String ORIGINAL_ROUTING_KEY_HEADER = "x-original-routing-key";
+
+    private static final int MAX_KNOWN_FINGERPRINTS = 1000;
+
     private final ExceptionDetailsExtractor exceptionDetailsExtractor;
+    private final ErrorTraceStore errorTraceStore;
+    private final AppClock clock;
+    private final boolean fingerprintMode;
+    private final int maxTraceLength;
+    private final Lock storedFingerprintsLock = new ReentrantLock();
+    private final Map<String, Boolean> storedFingerprints = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+            return size() > MAX_KNOWN_FINGERPRINTS;
+        }
+    };
 
-    public FailedMessageEnricher(ExceptionDetailsExtractor exceptionDetailsExtractor) {
+    public FailedMessageEnricher(ExceptionDetailsExtractor exceptionDetailsExtractor,
+                                 ErrorTraceStore errorTraceStore,
+                                 AppClock clock,
+                                 @Value("${app.consumer.error-trace.mode:full}") String mode,
+                                 @Value("${app.consumer.error-trace.max-length:1024}") int maxTraceLength) {
+        if (!mode.equals("full") && !mode.equals("fingerprint")) {
+            throw new IllegalArgumentException("Modo de stack trace não suportado: " + mode);
+        }
+        if (maxTraceLength <= 0) {
+            throw new IllegalArgumentException("O tamanho máximo do stack trace deve ser positivo.");
+        }
         this.exceptionDetailsExtractor = exceptionDetailsExtractor;
+        this.errorTraceStore = errorTraceStore;
+        this.clock = clock;
+        this.fingerprintMode = mode.equals("fingerprint");
+        this.maxTraceLength = maxTraceLength;
     }
 
     public Message enrich(Message message, Throwable cause) {
-        return MessageBuilder
+        var builder = MessageBuilder
                 .fromMessage(message)
-                .setHeader("x-error-root", exceptionDetailsExtractor.rootCauseMessage(cause))
-                .setHeader("x-error-trace", exceptionDetailsExtractor.stackTraceToString(cause))
-                .setHeader("x-error-time", Instant.now().toString())
+                .setHeader(ERROR_ROOT_HEADER, exceptionDetailsExtractor.rootCauseMessage(cause));
+        if (fingerprintMode) {
+            var fingerprint = exceptionDetailsExtractor.fingerprint(cause);
+            storeTrace(fingerprint, cause);
+            builder.setHeader(ERROR_FINGERPRINT_HEADER, fingerprint)
+                    .setHeader(ERROR_TRACE_HEADER, exceptionDetailsExtractor.truncatedStackTrace(cause, maxTraceLength));
+        } else {
+            builder.setHeader(ERROR_TRACE_HEADER, exceptionDetailsExtractor.stackTraceToString(cause));
+        }
+        var properties = message.getMessageProperties();
+        if (properties.getReceivedExchange() != null) {
+            builder.setHeader(ORIGINAL_EXCHANGE_HEADER, properties.getReceivedExchange())
+                    .setHeader(ORIGINAL_ROUTING_KEY_HEADER, properties.getReceivedRoutingKey());
+        }
+        return builder
+                .setHeader(ERROR_TIME_HEADER, Instant.ofEpochMilli(clock.now().value()).toString())
                 .build();
     }
+
+    private void storeTrace(String fingerprint, Throwable cause) {
+        if (isStored(fingerprint)) {
+            return;
+        }
+        try {
+            errorTraceStore.save(fingerprint, exceptionDetailsExtractor.stackTraceToString(cause), clock.now());
+            markStored(fingerprint);
+        } catch (RuntimeException e) {
+            LOGGER.warn("Falha ao guardar stack trace: fingerprint={}, error={}", fingerprint, e.getMessage());
+        }
+    }
+
+    private boolean isStored(String fingerprint) {
+        storedFingerprintsLock.lock();
+        try {
+            return storedFingerprints.get(fingerprint) != null;
+        } finally {
+            storedFingerprintsLock.unlock();
+        }
+    }
+
+    private void markStored(String fingerprint) {
+        storedFingerprintsLock.lock();
+        try {
+            storedFingerprints.put(fingerprint, Boolean.TRUE);
+        } finally {
+            storedFingerprintsLock.unlock();
+        }
+    }
 }
@@ -0,0 +1,65 @@
+package com.danielpgbrasil.orderprocessing.infrastructure.messaging;
+
+import com.danielpgbrasil.orderprocessing.application.metrics.OrderMetrics;
+import com.danielpgbrasil.orderprocessing.application.order.ProcessOrderEventService;
+import com.danielpgbrasil.orderprocessing.application.order.event.OrderEventPipeline;
+import com.danielpgbrasil.orderprocessing.domain.order.event.OrderEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.RejectedExecutionException;
+
+@Component
+public class InProcessOrderEventPipeline implements OrderEventPipeline {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(InProcessOrderEventPipeline.class);
+
+    private final ProcessOrderEventService processService;
+    private final OrderLanes orderLanes;
+    private final OrderMetrics orderMetrics;
+    private final boolean enabled;
+
+    public InProcessOrderEventPipeline(@Lazy ProcessOrderEventService processService,
+                                       OrderLanes orderLanes,
+                                       OrderMetrics orderMetrics,
+                                       @Value("${app.pipeline.in-process.enabled:false}") boolean enabled) {
+        this.processService = processService;
+        this.orderLanes = orderLanes;
+        this.orderMetrics = orderMetrics;
+        this.enabled = enabled;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public void submit(OrderEvent event) {
+        if (!enabled || !processService.triggersTransition(event.type())) {
+            return;
+        }
+        try {
+            orderLanes.submit(event.orderId(), () -> process(event));
+        } catch (RejectedExecutionException e) {
+            LOGGER.warn("Transição local recusada, aguardando entrega pelo broker: id={}, orderId={}, error={}",
+                    event.id().value(), event.orderId().value(), e.getMessage());
+            orderMetrics.incrementInProcessFallbacks();
+        }
+    }
+
+    private void process(OrderEvent event) {
+        try {
+            if (processService.process(event)) {
+                orderMetrics.incrementInProcessTransitions();
+            }
+        } catch (RuntimeException e) {
+            LOGGER.error("Falha na transição local, aguardando entrega pelo broker: id={}, orderId={}, type={}",
+                    event.id().value(), event.orderId().value(), event.type(), e);
+            orderMetrics.incrementInProcessFallbacks();
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.danielpgbrasil.orderprocessing.infrastructure.messaging;
+
+import com.danielpgbrasil.orderprocessing.application.metrics.OrderMetrics;
+import org.springframework.boot.autoconfigure.amqp.RabbitProperties;
+import org.springframework.boot.autoconfigure.amqp.RabbitRetryTemplateCustomizer;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.retry.RetryCallback;
+import org.springframework.retry.RetryContext;
+import org.springframework.retry.RetryListener;
+import org.springframework.retry.backoff.NoBackOffPolicy;
+import org.springframework.retry.policy.SimpleRetryPolicy;
+import org.springframework.retry.support.RetryTemplate;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ListenerRetryTemplateCustomizer implements RabbitRetryTemplateCustomizer {
+
+    private final RetryableExceptionClassifier exceptionClassifier;
+    private final DelayedRetryTopology retryTopology;
+    private final OrderMetrics orderMetrics;
+    private final int maxAttempts;
+
+    public ListenerRetryTemplateCustomizer(RetryableExceptionClassifier exceptionClassifier,
+                                           DelayedRetryTopology retryTopology,
+                                           OrderMetrics orderMetrics,
+                                           RabbitProperties rabbitProperties) {
+        this.exceptionClassifier = exceptionClassifier;
+        this.retryTopology = retryTopology;
+        this.orderMetrics = orderMetrics;
+        this.maxAttempts = rabbitProperties.getListener().getSimple().getRetry().getMaxAttempts();
+    }
+
+    @Override
+    public void customize(Target target, RetryTemplate template) {
+        if (target != Target.LISTENER) {
+            return;
+        }
+        var attempts = retryTopology.isEnabled() ? 1 : maxAttempts;
+        template.setRetryPolicy(new SimpleRetryPolicy(attempts, exceptionClassifier.classifier()));
+        if (retryTopology.isEnabled()) {
+            template.setBackOffPolicy(new NoBackOffPolicy());
+        }
+        template.registerListener(new RetryListener() {
+            @Override
+            public <T, E extends Throwable> void onError(RetryContext context, RetryCallback<T, E> callback,
+                                                         Throwable throwable) {
+                recordFailedAttempt(throwable);
+            }
+        });
+    }
+
+    public void recordFailedAttempt(Throwable throwable) {
+        var cause = NestedExceptionUtils.getMostSpecificCause(throwable);
+        orderMetrics.consumerRetryAttempt(cause.getClass().getSimpleName(), exceptionClassifier.isRetryable(throwable));
+    }
+}
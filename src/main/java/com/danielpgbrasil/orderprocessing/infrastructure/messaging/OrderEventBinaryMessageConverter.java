@@ -0,0 +1,81 @@
+package com.danielpgbrasil.orderprocessing.infrastructure.messaging;
+
+import com.danielpgbrasil.orderprocessing.domain.order.OrderId;
+import com.danielpgbrasil.orderprocessing.domain.order.event.OrderEvent;
+import com.danielpgbrasil.orderprocessing.domain.order.event.OrderEventId;
+import com.danielpgbrasil.orderprocessing.domain.order.event.OrderEventType;
+import com.danielpgbrasil.orderprocessing.domain.shared.TimeMillis;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.amqp.support.converter.MessageConverter;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+public class OrderEventBinaryMessageConverter implements MessageConverter {
+
+    public static final String CONTENT_TYPE = "application/x-order-event";
+    public static final byte VERSION = 1;
+    public static final int SIZE = 2 * Byte.BYTES + 3 * Long.BYTES + Byte.BYTES;
+
+    private static final byte HAS_ID = 1;
+    private static final byte PUBLISHED = 1 << 1;
+    private static final OrderEventType[] TYPES = OrderEventType.values();
+
+    @Override
+    public Message toMessage(Object object, MessageProperties messageProperties) {
+        if (!(object instanceof OrderEvent event)) {
+            throw new MessageConversionException("Formato binário suporta apenas eventos de pedido.");
+        }
+        var buffer = ByteBuffer.allocate(SIZE)
+                .put(VERSION)
+                .put(flags(event))
+                .putLong(event.id() == null ? 0L : event.id().value())
+                .putLong(event.orderId().value())
+                .putLong(event.createdAt().value())
+                .put((byte) event.type().ordinal());
+        messageProperties.setContentType(CONTENT_TYPE);
+        messageProperties.setContentLength(SIZE);
+        return new Message(buffer.array(), messageProperties);
+    }
+
+    @Override
+    public Object fromMessage(Message message) {
+        var buffer = ByteBuffer.wrap(message.getBody());
+        try {
+            var version = buffer.get();
+            if (version != VERSION) {
+                throw new MessageConversionException("Versão do formato binário não suportada: " + version);
+            }
+            var flags = buffer.get();
+            var id = buffer.getLong();
+            var orderId = buffer.getLong();
+            var createdAt = buffer.getLong();
+            var type = buffer.get();
+            if (type < 0 || type >= TYPES.length) {
+                throw new MessageConversionException("Tipo de evento desconhecido: " + type);
+            }
+            return OrderEvent.builder()
+                    .withId((flags & HAS_ID) != 0 ? OrderEventId.of(id) : null)
+                    .withOrderId(OrderId.of(orderId))
+                    .withType(TYPES[type])
+                    .withCreatedAt(TimeMillis.of(createdAt))
+                    .withPublished((flags & PUBLISHED) != 0)
+                    .build();
+        } catch (BufferUnderflowException e) {
+            throw new MessageConversionException("Mensagem binária incompleta.", e);
+        }
+    }
+
+    private static byte flags(OrderEvent event) {
+        var flags = 0;
+        if (event.id() != null) {
+            flags |= HAS_ID;
+        }
+        if (event.isPublished()) {
+            flags |= PUBLISHED;
+        }
+        return (byte) flags;
+    }
+}
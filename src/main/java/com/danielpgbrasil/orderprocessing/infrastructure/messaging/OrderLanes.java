@@ -0,0 +1,60 @@
+package com.danielpgbrasil.orderprocessing.infrastructure.messaging;
+
+import com.danielpgbrasil.orderprocessing.domain.order.OrderId;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+@Component
+public class OrderLanes {
+
+    private final ExecutorService[] lanes;
+
+    public OrderLanes(@Value("${app.consumer.lanes:64}") int lanes,
+                      @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        if (lanes <= 0) {
+            throw new IllegalArgumentException("A quantidade de raias deve ser positiva.");
+        }
+        var threadFactory = virtualThreads
+                ? Thread.ofVirtual().name("order-lane-", 0).factory()
+                : Thread.ofPlatform().name("order-lane-", 0).daemon(true).factory();
+        this.lanes = IntStream.range(0, lanes)
+                .mapToObj(index -> Executors.newSingleThreadExecutor(threadFactory))
+                .toArray(ExecutorService[]::new);
+    }
+
+    public int size() {
+        return lanes.length;
+    }
+
+    public int laneOf(OrderId orderId) {
+        return (int) Math.floorMod(orderId.value(), (long) lanes.length);
+    }
+
+    public CompletableFuture<Void> submit(OrderId orderId, Runnable action) {
+        return CompletableFuture.runAsync(action, lanes[laneOf(orderId)]);
+    }
+
+    public <T> Collection<List<T>> groupByLane(List<T> items, Function<T, OrderId> orderIdOf) {
+        return items.stream()
+                .collect(Collectors.groupingBy(item -> laneOf(orderIdOf.apply(item)), LinkedHashMap::new,
+                        Collectors.toList()))
+                .values();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        Arrays.stream(lanes).forEach(ExecutorService::shutdown);
+    }
+}
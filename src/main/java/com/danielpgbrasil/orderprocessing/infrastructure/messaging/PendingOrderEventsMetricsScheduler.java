@@ -0,0 +1,28 @@
+package com.danielpgbrasil.orderprocessing.infrastructure.messaging;
+
+import com.danielpgbrasil.orderprocessing.application.order.event.MeasurePendingOrderEventsService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class PendingOrderEventsMetricsScheduler {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PendingOrderEventsMetricsScheduler.class);
+
+    private final MeasurePendingOrderEventsService measureService;
+
+    public PendingOrderEventsMetricsScheduler(MeasurePendingOrderEventsService measureService) {
+        this.measureService = measureService;
+    }
+
+    @Scheduled(fixedDelayString = "${app.outbox.metrics.interval:15s}")
+    public void run() {
+        try {
+            measureService.measurePendingEvents();
+        } catch (RuntimeException e) {
+            LOGGER.error("Falha ao medir eventos pendentes: error={}", e.getMessage(), e);
+        }
+    }
+}
@@ -1,20 +1,82 @@
 package com.danielpgbrasil.orderprocessing.infrastructure.messaging;
 
+import com.danielpgbrasil.orderprocessing.application.metrics.OrderMetrics;
 import com.danielpgbrasil.orderprocessing.application.order.event.PublishPendingOrderEventsService;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.TriggerContext;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.time.Instant;
+
 @Component
-public class PublishPendingOrderEventsScheduler {
+public class PublishPendingOrderEventsScheduler implements SchedulingConfigurer {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PublishPendingOrderEventsScheduler.class);
 
     private final PublishPendingOrderEventsService publishService;
+    private final OrderMetrics orderMetrics;
+    private final Duration floor;
+    private final Duration ceiling;
+    private final double backoffFactor;
+    private volatile Duration interval;
 
-    public PublishPendingOrderEventsScheduler(PublishPendingOrderEventsService publishService) {
+    public PublishPendingOrderEventsScheduler(PublishPendingOrderEventsService publishService,
+                                              OrderMetrics orderMetrics,
+                                              @Value("${app.outbox.polling.floor:100ms}") Duration floor,
+                                              @Value("${app.outbox.polling.ceiling:10s}") Duration ceiling,
+                                              @Value("${app.outbox.polling.backoff-factor:2.0}") double backoffFactor) {
+        if (floor.isNegative() || floor.compareTo(ceiling) > 0) {
+            throw new IllegalArgumentException("O intervalo mínimo deve ser de zero até o intervalo máximo.");
+        }
+        if (backoffFactor < 1.0) {
+            throw new IllegalArgumentException("O fator de recuo deve ser maior ou igual a 1.");
+        }
         this.publishService = publishService;
+        this.orderMetrics = orderMetrics;
+        this.floor = floor;
+        this.ceiling = ceiling;
+        this.backoffFactor = backoffFactor;
+        updateInterval(floor);
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        registrar.addTriggerTask(this::run, this::nextExecution);
     }
 
-    @Scheduled(fixedDelay = 10000L)
     public void run() {
-        publishService.publishPendingEvents();
+        try {
+            var result = publishService.publishPendingEvents();
+            updateInterval(result.published() > 0 && result.failed() == 0 ? floor : backOff());
+        } catch (RuntimeException e) {
+            LOGGER.error("Falha ao verificar eventos pendentes: error={}", e.getMessage(), e);
+            updateInterval(backOff());
+        }
+    }
+
+    public Instant nextExecution(TriggerContext context) {
+        var lastCompletion = context.lastCompletion();
+        var base = lastCompletion == null ? context.getClock().instant() : lastCompletion;
+        return base.plus(interval);
+    }
+
+    public Duration currentInterval() {
+        return interval;
+    }
+
+    private Duration backOff() {
+        var nextMillis = Math.max(1L, (long) Math.ceil(interval.toMillis() * backoffFactor));
+        var next = Duration.ofMillis(nextMillis);
+        return next.compareTo(ceiling) > 0 ? ceiling : next;
+    }
+
+    private void updateInterval(Duration newInterval) {
+        interval = newInterval;
+        orderMetrics.publishPollingInterval(newInterval);
     }
 }
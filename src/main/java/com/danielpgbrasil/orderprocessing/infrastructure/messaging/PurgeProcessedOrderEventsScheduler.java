@@ -0,0 +1,22 @@
+package com.danielpgbrasil.orderprocessing.infrastructure.messaging;
+
+import com.danielpgbrasil.orderprocessing.application.order.event.PurgeProcessedOrderEventsService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "app.consumer.dedupe.retention.enabled", havingValue = "true")
+public class PurgeProcessedOrderEventsScheduler {
+
+    private final PurgeProcessedOrderEventsService purgeService;
+
+    public PurgeProcessedOrderEventsScheduler(PurgeProcessedOrderEventsService purgeService) {
+        this.purgeService = purgeService;
+    }
+
+    @Scheduled(fixedDelayString = "${app.consumer.dedupe.retention.interval:PT1H}")
+    public void run() {
+        purgeService.purgeProcessedEvents();
+    }
+}
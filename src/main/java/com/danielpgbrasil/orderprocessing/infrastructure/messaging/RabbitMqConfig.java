@@ -6,12 +6,22 @@ import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFacto
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.amqp.rabbit.retry.MessageRecoverer;
+import org.springframework.amqp.support.converter.ContentTypeDelegatingMessageConverter;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
 import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.amqp.RabbitProperties;
+import org.springframework.boot.autoconfigure.amqp.RabbitRetryTemplateCustomizer;
 import org.springframework.boot.autoconfigure.amqp.SimpleRabbitListenerContainerFactoryConfigurer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Lazy;
+import org.springframework.retry.RetryOperations;
+import org.springframework.retry.backoff.ExponentialBackOffPolicy;
+import org.springframework.retry.support.RetryTemplate;
+
+import java.time.Duration;
 
 @Configuration
 public class RabbitMqConfig {
@@ -24,16 +34,32 @@ public class RabbitMqConfig {
     public static final String ORDER_ROUTING_KEY = "order-events";
     public static final String ORDER_EVENTS_QUEUE = ORDER_ROUTING_KEY + QUEUE_SUFFIX;
     public static final String ORDER_EVENTS_EXCHANGE = ORDER_ROUTING_KEY + EXCHANGE_SUFFIX;
+    public static final String ORDER_EVENTS_ERROR_QUEUE = ORDER_EVENTS_QUEUE + ERROR_SUFFIX;
+    public static final String BATCH_LISTENER_CONTAINER_FACTORY = "batchRabbitListenerContainerFactory";
 
     private final DynamicMessageRecovererFactory dynamicMessageRecovererFactory;
+    private final DelayedRetryTopology delayedRetryTopology;
 
-    public RabbitMqConfig(@Lazy DynamicMessageRecovererFactory dynamicMessageRecovererFactory) {
+    public RabbitMqConfig(@Lazy DynamicMessageRecovererFactory dynamicMessageRecovererFactory,
+                          DelayedRetryTopology delayedRetryTopology) {
         this.dynamicMessageRecovererFactory = dynamicMessageRecovererFactory;
+        this.delayedRetryTopology = delayedRetryTopology;
     }
 
     @Bean
-    public MessageConverter jsonMessageConverter(ObjectMapper objectMapper) {
-        return new Jackson2JsonMessageConverter(objectMapper);
+    public MessageConverter messageConverter(ObjectMapper objectMapper,
+                                             @Value("${app.messaging.wire-format:json}") String wireFormat) {
+        var json = new Jackson2JsonMessageConverter(objectMapper);
+        var binary = new OrderEventBinaryMessageConverter();
+        var defaultConverter = switch (wireFormat) {
+            case "json" -> json;
+            case "binary" -> binary;
+            default -> throw new IllegalArgumentException("Formato de mensagem não suportado: " + wireFormat);
+        };
+        var converter = new ContentTypeDelegatingMessageConverter(defaultConverter);
+        converter.addDelegate(MessageProperties.CONTENT_TYPE_JSON, json);
+        converter.addDelegate(OrderEventBinaryMessageConverter.CONTENT_TYPE, binary);
+        return converter;
     }
 
     @Bean
@@ -53,12 +79,17 @@ public class RabbitMqConfig {
 
     @Bean
     public Queue orderErrorQueue() {
-        return QueueBuilder.durable(ORDER_EVENTS_QUEUE + ERROR_SUFFIX).build();
+        return QueueBuilder.durable(ORDER_EVENTS_ERROR_QUEUE).build();
     }
 
     @Bean
     public Binding orderErrorBinding(Queue orderErrorQueue, DirectExchange orderExchange) {
-        return BindingBuilder.bind(orderErrorQueue).to(orderExchange).with(ORDER_EVENTS_QUEUE + ERROR_SUFFIX);
+        return BindingBuilder.bind(orderErrorQueue).to(orderExchange).with(ORDER_EVENTS_ERROR_QUEUE);
+    }
+
+    @Bean
+    public Declarables orderRetryDeclarables(DirectExchange orderExchange) {
+        return delayedRetryTopology.declarables(ORDER_EVENTS_QUEUE, orderExchange, ORDER_ROUTING_KEY);
     }
 
     @Bean
@@ -70,6 +101,36 @@ public class RabbitMqConfig {
         return factory;
     }
 
+    @Bean(BATCH_LISTENER_CONTAINER_FACTORY)
+    @ConditionalOnProperty(name = "app.consumer.batch.enabled", havingValue = "true")
+    public SimpleRabbitListenerContainerFactory batchRabbitListenerContainerFactory(
+            ConnectionFactory connectionFactory,
+            SimpleRabbitListenerContainerFactoryConfigurer configurer,
+            @Value("${app.consumer.batch.size:50}") int batchSize,
+            @Value("${app.consumer.batch.receive-timeout:1s}") Duration receiveTimeout) {
+        var factory = new SimpleRabbitListenerContainerFactory();
+        configurer.configure(factory, connectionFactory);
+        factory.setBatchListener(true);
+        factory.setConsumerBatchEnabled(true);
+        factory.setBatchSize(batchSize);
+        factory.setReceiveTimeout(receiveTimeout.toMillis());
+        return factory;
+    }
+
+    @Bean
+    public RetryOperations orderEventRetryOperations(RabbitProperties rabbitProperties,
+                                                     ListenerRetryTemplateCustomizer retryTemplateCustomizer) {
+        var retry = rabbitProperties.getListener().getSimple().getRetry();
+        var backOff = new ExponentialBackOffPolicy();
+        backOff.setInitialInterval(retry.getInitialInterval().toMillis());
+        backOff.setMultiplier(retry.getMultiplier());
+        backOff.setMaxInterval(retry.getMaxInterval().toMillis());
+        var template = new RetryTemplate();
+        template.setBackOffPolicy(backOff);
+        retryTemplateCustomizer.customize(RabbitRetryTemplateCustomizer.Target.LISTENER, template);
+        return template;
+    }
+
     @Bean
     public MessageRecoverer dynamicMessageRecoverer(RabbitTemplate rabbitTemplate) {
         return dynamicMessageRecovererFactory.create(ERROR_SUFFIX, QUEUE_SUFFIX_REGEX, EXCHANGE_SUFFIX);
@@ -0,0 +1,153 @@
+package com.danielpgbrasil.orderprocessing.infrastructure.messaging;
+
+import com.danielpgbrasil.orderprocessing.application.metrics.OrderMetrics;
+import com.danielpgbrasil.orderprocessing.application.order.ApplyOrderEventsService;
+import com.danielpgbrasil.orderprocessing.domain.order.event.OrderEvent;
+import com.rabbitmq.client.Channel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.rabbit.retry.MessageRecoverer;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.retry.RetryOperations;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+
+@Component
+@ConditionalOnProperty(name = "app.consumer.batch.enabled", havingValue = "true")
+public class RabbitMqOrderEventBatchConsumer {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RabbitMqOrderEventBatchConsumer.class);
+
+    private final ApplyOrderEventsService applyService;
+    private final MessageConverter messageConverter;
+    private final MessageRecoverer messageRecoverer;
+    private final RetryOperations retryOperations;
+    private final OrderMetrics orderMetrics;
+    private final OrderLanes orderLanes;
+
+    public RabbitMqOrderEventBatchConsumer(ApplyOrderEventsService applyService,
+                                           MessageConverter messageConverter,
+                                           MessageRecoverer messageRecoverer,
+                                           RetryOperations retryOperations,
+                                           OrderMetrics orderMetrics,
+                                           OrderLanes orderLanes) {
+        this.applyService = applyService;
+        this.messageConverter = messageConverter;
+        this.messageRecoverer = messageRecoverer;
+        this.retryOperations = retryOperations;
+        this.orderMetrics = orderMetrics;
+        this.orderLanes = orderLanes;
+    }
+
+    @RabbitListener(queues = RabbitMqConfig.ORDER_EVENTS_QUEUE,
+            containerFactory = RabbitMqConfig.BATCH_LISTENER_CONTAINER_FACTORY, ackMode = "MANUAL")
+    public void handleOrderEvents(List<Message> messages, Channel channel) {
+        LOGGER.info("Consumindo lote de eventos: count={}", messages.size());
+        var events = new ArrayList<OrderEvent>(messages.size());
+        var messagesByEvent = new IdentityHashMap<OrderEvent, Message>();
+        for (var message : messages) {
+            try {
+                var event = convert(message);
+                events.add(event);
+                messagesByEvent.put(event, message);
+            } catch (MessageConversionException e) {
+                LOGGER.error("Mensagem inválida no lote: error={}", e.getMessage(), e);
+                settle(channel, List.of(message), () -> recover(message, e));
+            }
+        }
+        for (var group : orderLanes.groupByLane(events, OrderEvent::orderId)) {
+            var groupMessages = group.stream().map(messagesByEvent::get).toList();
+            try {
+                orderLanes.submit(group.getFirst().orderId(),
+                        () -> settle(channel, groupMessages, () -> apply(group, messagesByEvent)));
+            } catch (RejectedExecutionException e) {
+                LOGGER.warn("Raia recusou os eventos, devolvendo à fila: count={}", group.size());
+                requeue(channel, groupMessages);
+            }
+        }
+    }
+
+    private void apply(List<OrderEvent> group, Map<OrderEvent, Message> messagesByEvent) {
+        var failures = retryOperations.execute(
+                context -> applyOnce(group),
+                context -> {
+                    group.forEach(event -> messageRecoverer.recover(messagesByEvent.get(event),
+                            context.getLastThrowable()));
+                    return List.<ApplyOrderEventsService.Failure>of();
+                });
+        failures.forEach(failure -> {
+            var event = failure.event();
+            LOGGER.error("Erro consumindo evento: id={}, orderId={}, type={}",
+                    event.id().value(), event.orderId().value(), event.type(), failure.cause());
+            recover(messagesByEvent.get(event), failure.cause());
+        });
+    }
+
+    private List<ApplyOrderEventsService.Failure> applyOnce(List<OrderEvent> group) {
+        try {
+            group.forEach(RabbitMqOrderEventBatchConsumer::testRetry);
+            return applyService.applyAll(group);
+        } catch (RuntimeException e) { //NOSONAR
+            LOGGER.error("Erro consumindo lote de eventos: count={}", group.size(), e);
+            group.forEach(event -> orderMetrics.incrementFailedEvents());
+            throw e;
+        }
+    }
+
+    private void settle(Channel channel, List<Message> messages, Runnable work) {
+        try {
+            work.run();
+        } catch (RuntimeException e) {
+            LOGGER.error("Falha ao tratar mensagens, devolvendo à fila: count={}", messages.size(), e);
+            requeue(channel, messages);
+            return;
+        }
+        for (var message : messages) {
+            try {
+                channel.basicAck(message.getMessageProperties().getDeliveryTag(), false);
+            } catch (IOException e) {
+                LOGGER.error("Falha ao confirmar mensagem: deliveryTag={}",
+                        message.getMessageProperties().getDeliveryTag(), e);
+            }
+        }
+    }
+
+    private static void requeue(Channel channel, List<Message> messages) {
+        for (var message : messages) {
+            try {
+                channel.basicNack(message.getMessageProperties().getDeliveryTag(), false, true);
+            } catch (IOException e) {
+                LOGGER.error("Falha ao devolver mensagem à fila: deliveryTag={}",
+                        message.getMessageProperties().getDeliveryTag(), e);
+            }
+        }
+    }
+
+    private OrderEvent convert(Message message) {
+        if (messageConverter.fromMessage(message) instanceof OrderEvent event) {
+            return event;
+        }
+        throw new MessageConversionException("Mensagem não contém um evento de pedido.");
+    }
+
+    private void recover(Message message, RuntimeException cause) {
+        orderMetrics.incrementFailedEvents();
+        messageRecoverer.recover(message, cause);
+    }
+
+    private static void testRetry(OrderEvent event) {
+        if (event.createdAt().value() == 0) {
+            throw new IllegalStateException("Teste de retry");
+        }
+    }
+}
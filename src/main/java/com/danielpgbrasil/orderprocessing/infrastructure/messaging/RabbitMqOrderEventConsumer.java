@@ -1,43 +1,89 @@
 package com.danielpgbrasil.orderprocessing.infrastructure.messaging;
 
 import com.danielpgbrasil.orderprocessing.application.metrics.OrderMetrics;
-import com.danielpgbrasil.orderprocessing.application.order.MarkOrderDeliveredService;
-import com.danielpgbrasil.orderprocessing.application.order.StartOrderPickingService;
-import com.danielpgbrasil.orderprocessing.application.order.StartOrderTransitService;
+import com.danielpgbrasil.orderprocessing.application.order.ProcessOrderEventService;
 import com.danielpgbrasil.orderprocessing.domain.order.event.OrderEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.amqp.ImmediateRequeueAmqpException;
+import org.springframework.amqp.core.Message;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.rabbit.retry.MessageRecoverer;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.retry.RetryOperations;
 import org.springframework.stereotype.Component;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+
 @Component
+@ConditionalOnProperty(name = "app.consumer.batch.enabled", havingValue = "false", matchIfMissing = true)
 public class RabbitMqOrderEventConsumer {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(RabbitMqOrderEventConsumer.class);
 
-    private final StartOrderPickingService pickingService;
-    private final StartOrderTransitService transitService;
-    private final MarkOrderDeliveredService deliveryService;
+    private final ProcessOrderEventService processService;
+    private final MessageConverter messageConverter;
+    private final MessageRecoverer messageRecoverer;
+    private final RetryOperations retryOperations;
     private final OrderMetrics orderMetrics;
+    private final OrderLanes orderLanes;
 
     public RabbitMqOrderEventConsumer(
-            StartOrderPickingService pickingService,
-            StartOrderTransitService transitService,
-            MarkOrderDeliveredService deliveryService,
-            OrderMetrics orderMetrics) {
-        this.pickingService = pickingService;
-        this.transitService = transitService;
-        this.deliveryService = deliveryService;
+            ProcessOrderEventService processService,
+            MessageConverter messageConverter,
+            MessageRecoverer messageRecoverer,
+            RetryOperations retryOperations,
+            OrderMetrics orderMetrics,
+            OrderLanes orderLanes) {
+        this.processService = processService;
+        this.messageConverter = messageConverter;
+        this.messageRecoverer = messageRecoverer;
+        this.retryOperations = retryOperations;
         this.orderMetrics = orderMetrics;
+        this.orderLanes = orderLanes;
+    }
+
+    @RabbitListener(queues = RabbitMqConfig.ORDER_EVENTS_QUEUE, ackMode = "MANUAL")
+    public CompletableFuture<Void> handleOrderEvent(Message message) {
+        OrderEvent event;
+        try {
+            event = convert(message);
+        } catch (MessageConversionException e) {
+            LOGGER.error("Mensagem inválida: error={}", e.getMessage(), e);
+            return recoverNow(message, e);
+        }
+        LOGGER.info("Consumindo evento: id={}, orderId={}, type={}",
+                event.id().value(), event.orderId().value(), event.type());
+        try {
+            return orderLanes.submit(event.orderId(), () -> retryOperations.execute(
+                            context -> {
+                                consume(event);
+                                return null;
+                            },
+                            context -> {
+                                messageRecoverer.recover(message, context.getLastThrowable());
+                                return null;
+                            }))
+                    .exceptionally(e -> {
+                        throw requeue(e);
+                    });
+        } catch (RejectedExecutionException e) {
+            LOGGER.warn("Raia recusou o evento, devolvendo à fila: id={}, orderId={}",
+                    event.id().value(), event.orderId().value());
+            return CompletableFuture.failedFuture(requeue(e));
+        }
     }
 
-    @RabbitListener(queues = RabbitMqConfig.ORDER_EVENTS_QUEUE)
-    public void handleOrderEvent(OrderEvent event) {
+    private void consume(OrderEvent event) {
         try {
-            LOGGER.info("Consumindo evento: id={}, orderId={}, type={}",
-                    event.id().value(), event.orderId().value(), event.type());
             testRetry(event);
-            tryProcessEvent(event);
+            if (!processService.process(event)) {
+                LOGGER.info("Evento duplicado ignorado: id={}, orderId={}, type={}",
+                        event.id().value(), event.orderId().value(), event.type());
+            }
         } catch (RuntimeException e) { //NOSONAR
             LOGGER.error("Erro consumindo evento: id={}, orderId={}, type={}",
                     event.id().value(), event.orderId().value(), event.type(), e);
@@ -46,18 +92,30 @@ public class RabbitMqOrderEventConsumer {
         }
     }
 
-    private static void testRetry(OrderEvent event) {
-        if (event.createdAt().value() == 0) {
-            throw new IllegalStateException("Teste de retry");
+    private CompletableFuture<Void> recoverNow(Message message, MessageConversionException cause) {
+        try {
+            orderMetrics.incrementFailedEvents();
+            messageRecoverer.recover(message, cause);
+            return CompletableFuture.completedFuture(null);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(requeue(e));
+        }
+    }
+
+    private OrderEvent convert(Message message) {
+        if (messageConverter.fromMessage(message) instanceof OrderEvent event) {
+            return event;
         }
+        throw new MessageConversionException("Mensagem não contém um evento de pedido.");
     }
 
-    private void tryProcessEvent(OrderEvent event) {
-        switch (event.type()) {
-            case CREATED -> pickingService.startPicking(event.orderId());
-            case PICKING_STARTED -> transitService.startTransit(event.orderId());
-            case TRANSIT_STARTED -> deliveryService.markDelivered(event.orderId());
-            default -> LOGGER.info("Evento ignorado: orderId={}, type={}", event.orderId().value(), event.type());
+    private static ImmediateRequeueAmqpException requeue(Throwable cause) {
+        return new ImmediateRequeueAmqpException("Evento devolvido à fila para nova entrega.", cause);
+    }
+
+    private static void testRetry(OrderEvent event) {
+        if (event.createdAt().value() == 0) {
+            throw new IllegalStateException("Teste de retry");
         }
     }
 }
@@ -2,20 +2,35 @@ package com.danielpgbrasil.orderprocessing.infrastructure.messaging;
 
 import com.danielpgbrasil.orderprocessing.application.order.event.OrderEventPublisher;
 import com.danielpgbrasil.orderprocessing.domain.order.event.OrderEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.amqp.core.Message;
 import org.springframework.amqp.core.MessageDeliveryMode;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
 import static com.danielpgbrasil.orderprocessing.infrastructure.messaging.RabbitMqConfig.*;
 
 @Component
 public class RabbitMqOrderEventPublisher implements OrderEventPublisher {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(RabbitMqOrderEventPublisher.class);
+
     private final RabbitTemplate rabbitTemplate;
+    private final Duration confirmTimeout;
 
-    public RabbitMqOrderEventPublisher(RabbitTemplate rabbitTemplate) {
+    public RabbitMqOrderEventPublisher(RabbitTemplate rabbitTemplate,
+                                       @Value("${app.outbox.confirm-timeout:5s}") Duration confirmTimeout) {
         this.rabbitTemplate = rabbitTemplate;
+        this.confirmTimeout = confirmTimeout;
     }
 
     @Override
@@ -28,8 +43,65 @@ public class RabbitMqOrderEventPublisher implements OrderEventPublisher {
                 );
     }
 
+    @Override
+    public List<OrderEvent> publishAll(List<OrderEvent> events) {
+        var sent = events.stream().map(this::send).toList();
+        var deadline = System.nanoTime() + confirmTimeout.toNanos();
+        return sent.stream()
+                .filter(pending -> awaitConfirm(pending, deadline))
+                .map(PendingConfirm::event)
+                .toList();
+    }
+
+    private PendingConfirm send(OrderEvent event) {
+        var correlation = new CorrelationData(String.valueOf(event.id().value()));
+        try {
+            rabbitTemplate.convertAndSend(
+                    ORDER_EVENTS_EXCHANGE,
+                    ORDER_ROUTING_KEY,
+                    event,
+                    RabbitMqOrderEventPublisher::makePersistent,
+                    correlation
+            );
+            return new PendingConfirm(event, correlation);
+        } catch (RuntimeException e) {
+            LOGGER.error("Falha ao enviar o evento: id={}, error={}", event.id().value(), e.getMessage(), e);
+            return new PendingConfirm(event, null);
+        }
+    }
+
+    private static boolean awaitConfirm(PendingConfirm pending, long deadline) {
+        if (pending.correlation() == null) {
+            return false;
+        }
+        var eventId = pending.event().id().value();
+        try {
+            var remaining = Math.max(0L, deadline - System.nanoTime());
+            var confirm = pending.correlation().getFuture().get(remaining, TimeUnit.NANOSECONDS);
+            if (!confirm.isAck()) {
+                LOGGER.warn("Evento não confirmado pelo broker: id={}, reason={}", eventId, confirm.getReason());
+                return false;
+            }
+            var returned = pending.correlation().getReturned();
+            if (returned != null) {
+                LOGGER.warn("Evento devolvido pelo broker sem rota: id={}, replyText={}",
+                        eventId, returned.getReplyText());
+                return false;
+            }
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException | TimeoutException e) {
+            LOGGER.warn("Confirmação do evento não recebida: id={}", eventId);
+            return false;
+        }
+    }
+
     private static Message makePersistent(Message msg) {
         msg.getMessageProperties().setDeliveryMode(MessageDeliveryMode.PERSISTENT);
         return msg;
     }
+
+    private record PendingConfirm(OrderEvent event, CorrelationData correlation) {}
 }
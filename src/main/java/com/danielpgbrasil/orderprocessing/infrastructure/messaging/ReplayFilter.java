@@ -0,0 +1,22 @@
+package com.danielpgbrasil.orderprocessing.infrastructure.messaging;
+
+import org.springframework.amqp.core.Message;
+
+public record ReplayFilter(String errorRoot, String fingerprint) {
+
+    public boolean matches(Message message) {
+        var headers = message.getMessageProperties();
+        return matches(errorRoot, headers.getHeader(FailedMessageEnricher.ERROR_ROOT_HEADER), true)
+                && matches(fingerprint, headers.getHeader(FailedMessageEnricher.ERROR_FINGERPRINT_HEADER), false);
+    }
+
+    private static boolean matches(String expected, Object actual, boolean partial) {
+        if (expected == null || expected.isBlank()) {
+            return true;
+        }
+        if (actual == null) {
+            return false;
+        }
+        return partial ? actual.toString().contains(expected) : actual.toString().equals(expected);
+    }
+}
@@ -0,0 +1,40 @@
+package com.danielpgbrasil.orderprocessing.infrastructure.messaging;
+
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongConsumer;
+import java.util.function.LongSupplier;
+
+public class ReplayRateLimiter {
+
+    private final long intervalNanos;
+    private final LongSupplier nanoTime;
+    private final LongConsumer sleeper;
+    private long nextSlot;
+
+    public ReplayRateLimiter(double permitsPerSecond) {
+        this(permitsPerSecond, System::nanoTime, LockSupport::parkNanos);
+    }
+
+    public ReplayRateLimiter(double permitsPerSecond, LongSupplier nanoTime, LongConsumer sleeper) {
+        if (permitsPerSecond <= 0) {
+            throw new IllegalArgumentException("A taxa de reprocessamento deve ser positiva.");
+        }
+        this.intervalNanos = (long) (1_000_000_000L / permitsPerSecond);
+        this.nanoTime = nanoTime;
+        this.sleeper = sleeper;
+        this.nextSlot = nanoTime.getAsLong();
+    }
+
+    public void acquire() {
+        long slot;
+        synchronized (this) {
+            var now = nanoTime.getAsLong();
+            slot = Math.max(now, nextSlot);
+            nextSlot = slot + intervalNanos;
+        }
+        var wait = slot - nanoTime.getAsLong();
+        if (wait > 0) {
+            sleeper.accept(wait);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.danielpgbrasil.orderprocessing.infrastructure.messaging;
+
+public record ReplayStatus(State state, long total, long scanned, long replayed, long skipped, long failed) {
+
+    public static ReplayStatus idle() {
+        return new ReplayStatus(State.IDLE, 0, 0, 0, 0, 0);
+    }
+
+    public enum State {
+        IDLE,
+        RUNNING,
+        FINISHED
+    }
+}
@@ -0,0 +1,51 @@
+package com.danielpgbrasil.orderprocessing.infrastructure.messaging;
+
+import com.danielpgbrasil.orderprocessing.domain.order.InvalidOrderStatusException;
+import com.danielpgbrasil.orderprocessing.domain.shared.AbstractNotFoundException;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.classify.BinaryExceptionClassifier;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Component
+public class RetryableExceptionClassifier {
+
+    private static final List<Class<? extends Throwable>> NON_RETRYABLE = List.of(
+            AbstractNotFoundException.class,
+            InvalidOrderStatusException.class,
+            MessageConversionException.class
+    );
+
+    private final BinaryExceptionClassifier classifier;
+
+    public RetryableExceptionClassifier(@Value("${app.consumer.retry.non-retryable:}") List<String> nonRetryable) {
+        var classified = new HashMap<Class<? extends Throwable>, Boolean>();
+        NON_RETRYABLE.forEach(type -> classified.put(type, false));
+        nonRetryable.stream()
+                .filter(name -> !name.isBlank())
+                .forEach(name -> classified.put(throwableClass(name.trim()), false));
+        this.classifier = new BinaryExceptionClassifier(Map.copyOf(classified), true);
+        this.classifier.setTraverseCauses(true);
+    }
+
+    public boolean isRetryable(Throwable cause) {
+        return cause == null || classifier.classify(cause);
+    }
+
+    public BinaryExceptionClassifier classifier() {
+        return classifier;
+    }
+
+    private static Class<? extends Throwable> throwableClass(String name) {
+        var type = ClassUtils.resolveClassName(name, RetryableExceptionClassifier.class.getClassLoader());
+        if (!Throwable.class.isAssignableFrom(type)) {
+            throw new IllegalArgumentException("A classe não é uma exceção: " + name);
+        }
+        return type.asSubclass(Throwable.class);
+    }
+}
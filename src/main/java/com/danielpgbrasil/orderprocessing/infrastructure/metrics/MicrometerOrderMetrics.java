@@ -1,15 +1,18 @@
 package com.danielpgbrasil.orderprocessing.infrastructure.metrics;
 
 import com.danielpgbrasil.orderprocessing.application.metrics.OrderMetrics;
+import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Component
 public class MicrometerOrderMetrics implements OrderMetrics {
@@ -19,15 +22,60 @@ public class MicrometerOrderMetrics implements OrderMetrics {
     private final Queue<Long> failedEventsTimestamps = new ConcurrentLinkedQueue<>();
     private final AtomicInteger failedEventsLastHourGauge = new AtomicInteger(0);
 
-    private final AtomicInteger pendingEventsGauge = new AtomicInteger(0);
+    private final AtomicLong pendingEventsGauge = new AtomicLong(0);
+
+    private final AtomicLong oldestPendingEventAgeMillis = new AtomicLong(0);
+
+    private final Counter coalescedPublishTriggersCounter;
+
+    private final Counter dedupeDuplicatesCounter;
+
+    private final Counter dedupeUniqueCounter;
+
+    private final Counter inProcessTransitionsCounter;
+
+    private final Counter inProcessFallbacksCounter;
+
+    private final AtomicLong publishPollingIntervalMillis = new AtomicLong(0);
+
+    private final MeterRegistry registry;
 
     public MicrometerOrderMetrics(MeterRegistry registry) {
+        this.registry = registry;
 
         Gauge.builder("failed_events_last_hour", failedEventsLastHourGauge, AtomicInteger::get)
                 .description("Número de eventos que falharam nos últimos 60 minutos")
                 .register(registry);
 
         registry.gauge("pending_events", pendingEventsGauge);
+
+        Gauge.builder("oldest_pending_event_age_seconds", oldestPendingEventAgeMillis, millis -> millis.get() / 1000.0)
+                .description("Idade do evento mais antigo aguardando publicação")
+                .register(registry);
+
+        coalescedPublishTriggersCounter = Counter.builder("coalesced_publish_triggers")
+                .description("Número de disparos de publicação absorvidos por uma publicação em andamento")
+                .register(registry);
+
+        dedupeDuplicatesCounter = Counter.builder("order_event_dedupe_hits")
+                .description("Número de eventos consumidos descartados por já terem sido processados")
+                .register(registry);
+
+        dedupeUniqueCounter = Counter.builder("order_event_dedupe_misses")
+                .description("Número de eventos consumidos que ainda não tinham sido processados")
+                .register(registry);
+
+        inProcessTransitionsCounter = Counter.builder("in_process_transitions")
+                .description("Número de transições aplicadas pelo pipeline local antes da entrega pelo broker")
+                .register(registry);
+
+        inProcessFallbacksCounter = Counter.builder("in_process_fallbacks")
+                .description("Número de transições locais recusadas ou com falha, deixadas para a entrega pelo broker")
+                .register(registry);
+
+        Gauge.builder("outbox_polling_interval_seconds", publishPollingIntervalMillis, millis -> millis.get() / 1000.0)
+                .description("Intervalo atual entre verificações de eventos pendentes")
+                .register(registry);
     }
 
     @Override
@@ -44,10 +92,66 @@ public class MicrometerOrderMetrics implements OrderMetrics {
     }
 
     @Override
-    public void pendingEvents(int count) {
+    public void pendingEvents(long count) {
         pendingEventsGauge.set(count);
     }
 
+    @Override
+    public void oldestPendingEventAge(Duration age) {
+        oldestPendingEventAgeMillis.set(age.toMillis());
+    }
+
+    @Override
+    public void incrementCoalescedPublishTriggers() {
+        coalescedPublishTriggersCounter.increment();
+    }
+
+    @Override
+    public void partitionBatchPublished(int partition, int claimed, int published) {
+        var tag = String.valueOf(partition);
+        Counter.builder("outbox_partition_claimed_events")
+                .description("Número de eventos reservados para publicação por partição")
+                .tag("partition", tag)
+                .register(registry)
+                .increment(claimed);
+        Counter.builder("outbox_partition_published_events")
+                .description("Número de eventos publicados com confirmação por partição")
+                .tag("partition", tag)
+                .register(registry)
+                .increment(published);
+    }
+
+    @Override
+    public void publishPollingInterval(Duration interval) {
+        publishPollingIntervalMillis.set(interval.toMillis());
+    }
+
+    @Override
+    public void orderEventDedupe(int duplicates, int unique) {
+        dedupeDuplicatesCounter.increment(duplicates);
+        dedupeUniqueCounter.increment(unique);
+    }
+
+    @Override
+    public void incrementInProcessTransitions() {
+        inProcessTransitionsCounter.increment();
+    }
+
+    @Override
+    public void incrementInProcessFallbacks() {
+        inProcessFallbacksCounter.increment();
+    }
+
+    @Override
+    public void consumerRetryAttempt(String exception, boolean retryable) {
+        Counter.builder("consumer_retry_attempts")
+                .description("Número de tentativas de consumo com falha por tipo de exceção")
+                .tag("exception", exception)
+                .tag("retryable", String.valueOf(retryable))
+                .register(registry)
+                .increment();
+    }
+
     @Scheduled(fixedRate = 5000)
     public void scheduledUpdateFailedEventsGauge() {
         updateFailedEventsGauge();
@@ -4,10 +4,22 @@ import org.springframework.stereotype.Component;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.IdentityHashMap;
+import java.util.regex.Pattern;
 
 @Component
 public class ExceptionDetailsExtractor {
 
+    private static final int FINGERPRINT_BYTES = 16;
+    private static final String TRUNCATED_SUFFIX = "\n\t... (truncado)";
+    private static final Pattern GENERATED_CLASS_SUFFIX =
+            Pattern.compile("(\\$\\$Lambda|\\$Proxy|\\$\\$SpringCGLIB\\$\\$|GeneratedMethodAccessor)[^.]*");
+
     public String rootCauseMessage(Throwable throwable) {
         var root = findRootCause(throwable);
         var className = root.getClass().getName();
@@ -22,6 +34,43 @@ public class ExceptionDetailsExtractor {
         return sw.toString();
     }
 
+    public String truncatedStackTrace(Throwable throwable, int maxLength) {
+        var trace = stackTraceToString(throwable);
+        if (trace.length() <= maxLength) {
+            return trace;
+        }
+        return trace.substring(0, maxLength) + TRUNCATED_SUFFIX;
+    }
+
+    public String fingerprint(Throwable throwable) {
+        var digest = sha256();
+        var visited = Collections.newSetFromMap(new IdentityHashMap<Throwable, Boolean>());
+        for (var cause = throwable; cause != null && visited.add(cause); cause = cause.getCause()) {
+            update(digest, cause.getClass().getName());
+            for (var frame : cause.getStackTrace()) {
+                update(digest, normalizedClassName(frame.getClassName()) + "." + frame.getMethodName());
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest(), 0, FINGERPRINT_BYTES);
+    }
+
+    private static String normalizedClassName(String className) {
+        return GENERATED_CLASS_SUFFIX.matcher(className).replaceAll("$1");
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) '\n');
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Algoritmo SHA-256 indisponível.", e);
+        }
+    }
+
     private Throwable findRootCause(Throwable cause) {
         while (cause.getCause() != null) {
             cause = cause.getCause();
@@ -4,6 +4,7 @@ import com.danielpgbrasil.orderprocessing.application.shared.AppTransaction;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.transaction.support.TransactionTemplate;
 
@@ -27,4 +28,26 @@ public class SpringAppTransaction implements AppTransaction {
         template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRED);
         template.executeWithoutResult(status -> runnable.run());
     }
+
+    @Override
+    public void executeReadOnly(Runnable runnable) {
+        var template = new TransactionTemplate(transactionManager);
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRED);
+        template.setReadOnly(true);
+        template.executeWithoutResult(status -> runnable.run());
+    }
+
+    @Override
+    public void executeAfterCommit(Runnable runnable) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            runnable.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                runnable.run();
+            }
+        });
+    }
 }
@@ -21,6 +21,18 @@ public class AppTransactionFixture {
             when(transaction.inTransaction()).thenReturn(false);
             return null;
         }).when(transaction).execute(any());
+        doAnswer(invocationOnMock -> {
+            when(transaction.inTransaction()).thenReturn(true);
+            Runnable runnable = invocationOnMock.getArgument(0);
+            runnable.run();
+            when(transaction.inTransaction()).thenReturn(false);
+            return null;
+        }).when(transaction).executeReadOnly(any());
+        doAnswer(invocationOnMock -> {
+            Runnable runnable = invocationOnMock.getArgument(0);
+            runnable.run();
+            return null;
+        }).when(transaction).executeAfterCommit(any());
         return transaction;
     }
 
@@ -1,6 +1,10 @@
 package com.danielpgbrasil.orderprocessing.it.infrastructure.controller;
 
 import com.danielpgbrasil.orderprocessing.domain.order.*;
+import com.danielpgbrasil.orderprocessing.domain.order.event.OrderEvent;
+import com.danielpgbrasil.orderprocessing.domain.order.event.OrderEventRepository;
+import com.danielpgbrasil.orderprocessing.domain.order.event.OrderEventType;
+import org.json.JSONArray;
 import org.json.JSONException;
 import org.json.JSONObject;
 import org.junit.jupiter.api.Test;
@@ -12,6 +16,7 @@ import org.springframework.http.MediaType;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -84,6 +89,9 @@ class CreateOrderControllerTest extends ControllerTestBase {
     @Autowired
     private OrderRepository orderRepository;
 
+    @Autowired
+    private OrderEventRepository orderEventRepository;
+
     @Test
     void createOrderReturnsCreatedOrder() throws Exception {
         var requestBody = String.format(VALID_REQUEST_BODY, CUSTOMER_NAME, CUSTOMER_ADDRESS);
@@ -102,6 +110,51 @@ class CreateOrderControllerTest extends ControllerTestBase {
         JSONAssert.assertEquals(expectedJson, response, true);
     }
 
+    @Test
+    void createOrdersInBatchReturnsCreatedOrdersWithEvents() throws Exception {
+        var order = String.format(VALID_REQUEST_BODY, CUSTOMER_NAME, CUSTOMER_ADDRESS);
+
+        var response = mockMvc.perform(post(ENDPOINT + "/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[" + order + "," + order + "]"))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+
+        var orders = new JSONArray(response);
+        assertThat(orders.length(), is(2));
+        for (var i = 0; i < orders.length(); i++) {
+            var orderId = orders.getJSONObject(i).getLong("id");
+            JSONAssert.assertEquals(String.format(EXPECTED_RESPONSE_BODY, orderId), orders.getJSONObject(i), true);
+            assertThat(orderRepository.getOrThrow(OrderId.of(orderId)), equalTo(buildExpectedOrder(orderId)));
+            var events = orderEventRepository.findByOrderId(OrderId.of(orderId));
+            assertThat(events.stream().map(OrderEvent::type).toList(), is(List.of(OrderEventType.CREATED)));
+        }
+    }
+
+    @Test
+    void createOrdersInBatchReturnsBadRequestWhenAnyOrderIsInvalid() throws Exception {
+        var valid = String.format(VALID_REQUEST_BODY, CUSTOMER_NAME, CUSTOMER_ADDRESS);
+
+        mockMvc.perform(post(ENDPOINT + "/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[" + valid + "," + REQUEST_BODY_EMPTY_ITEMS + "]"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void createOrdersInBatchReturnsBadRequestWhenBatchExceedsMaxSize() throws Exception {
+        var order = String.format(VALID_REQUEST_BODY, CUSTOMER_NAME, CUSTOMER_ADDRESS);
+        var body = Stream.generate(() -> order).limit(1_001).collect(Collectors.joining(",", "[", "]"));
+
+        var response = mockMvc.perform(post(ENDPOINT + "/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isBadRequest())
+                .andReturn().getResponse().getContentAsString();
+
+        assertThat(new JSONObject(response).getString("message"), is("O lote deve ter no máximo 1000 pedidos."));
+    }
+
     private static Stream<String> invalidOrderRequests() {
         return Stream.of(
                 REQUEST_BODY_MISSING_NAME,
@@ -0,0 +1,155 @@
+package com.danielpgbrasil.orderprocessing.it.infrastructure.datasource;
+
+import com.danielpgbrasil.orderprocessing.application.order.GetOrderStatusService;
+import com.danielpgbrasil.orderprocessing.application.shared.AppTransaction;
+import com.danielpgbrasil.orderprocessing.domain.order.OrderId;
+import com.danielpgbrasil.orderprocessing.domain.order.OrderRepository;
+import com.danielpgbrasil.orderprocessing.domain.order.OrderStatus;
+import com.danielpgbrasil.orderprocessing.domain.shared.TimeMillis;
+import com.danielpgbrasil.orderprocessing.infrastructure.datasource.ReadYourWrites;
+import com.danielpgbrasil.orderprocessing.infrastructure.datasource.ReplicaLagMonitor;
+import com.danielpgbrasil.orderprocessing.infrastructure.datasource.ReplicaPool;
+import com.danielpgbrasil.orderprocessing.it.infrastructure.IntegrationTestBase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest(properties = {
+        "app.datasource.replicas.enabled=true",
+        "app.datasource.replicas.urls=jdbc:h2:mem:replica;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "app.datasource.replicas.max-lag=5s",
+        "app.datasource.replicas.check-interval=1h"
+})
+class ReplicaRoutingDataSourceTest extends IntegrationTestBase {
+
+    private static final OrderId ORDER_ID = OrderId.of(1L);
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource primaryDataSource;
+
+    @Autowired
+    private ReplicaPool replicaPool;
+
+    @Autowired
+    private ReplicaLagMonitor monitor;
+
+    @Autowired
+    private GetOrderStatusService getOrderStatusService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private AppTransaction transaction;
+
+    private JdbcTemplate replica;
+
+    @BeforeEach
+    void setUpReplica() {
+        replica = new JdbcTemplate(replicaPool.replicas().getFirst().dataSource());
+        replica.execute("DROP ALL OBJECTS");
+        replica.execute("CREATE TABLE tb_order (id BIGINT PRIMARY KEY, details TEXT NOT NULL, status VARCHAR(20) NOT NULL)");
+        replica.execute("CREATE TABLE tb_replica_heartbeat (id INT PRIMARY KEY, beat_at BIGINT NOT NULL)");
+        var details = new JdbcTemplate(primaryDataSource)
+                .queryForObject("SELECT details FROM tb_order WHERE id = 1", String.class);
+        replica.update("INSERT INTO tb_order (id, details, status) VALUES (1, ?, 'DELIVERED')", details);
+        replica.update("INSERT INTO tb_replica_heartbeat (id, beat_at) VALUES (1, 0)");
+    }
+
+    @AfterEach
+    void afterEach() {
+        ReadYourWrites.clear();
+    }
+
+    @Test
+    void routesQueriesToReplicaWithinLagLimit() {
+        beatOnPrimary(4_000L);
+        when(clock.now()).thenReturn(TimeMillis.of(5_000L));
+
+        monitor.check();
+
+        assertThat(replicaPool.replicas().getFirst().lag(), is(Duration.ofSeconds(4)));
+        assertThat(getOrderStatusService.getStatus(ORDER_ID), is(OrderStatus.DELIVERED));
+    }
+
+    @Test
+    void measuresNoLagWhenReplicaHasLastBeatWritten() {
+        beatOnPrimary(4_000L);
+        replica.update("UPDATE tb_replica_heartbeat SET beat_at = 4000 WHERE id = 1");
+        when(clock.now()).thenReturn(TimeMillis.of(10_000L));
+
+        monitor.check();
+
+        assertThat(replicaPool.replicas().getFirst().lag(), is(Duration.ZERO));
+        assertThat(replicaPool.replicas().getFirst().isHealthy(), is(true));
+    }
+
+    @Test
+    void keepsCommandsOnPrimary() {
+        monitor.check();
+        var status = new AtomicReference<OrderStatus>();
+
+        transaction.execute(() -> status.set(orderRepository.getOrThrow(ORDER_ID).status()));
+
+        assertThat(status.get(), is(OrderStatus.CREATED));
+        assertThat(orderRepository.getOrThrow(ORDER_ID).status(), is(OrderStatus.CREATED));
+    }
+
+    @Test
+    void writesHeartbeatOnPrimary() {
+        when(clock.now()).thenReturn(TimeMillis.of(1_234L));
+
+        monitor.check();
+
+        var beatAt = new JdbcTemplate(primaryDataSource)
+                .queryForObject("SELECT beat_at FROM tb_replica_heartbeat WHERE id = 1", Long.class);
+        assertThat(beatAt, is(1_234L));
+    }
+
+    @Test
+    void fallsBackToPrimaryWhenReplicaLags() {
+        beatOnPrimary(6_000L);
+        when(clock.now()).thenReturn(TimeMillis.of(7_000L));
+
+        monitor.check();
+
+        assertThat(replicaPool.replicas().getFirst().isHealthy(), is(false));
+        assertThat(getOrderStatusService.getStatus(ORDER_ID), is(OrderStatus.CREATED));
+    }
+
+    @Test
+    void fallsBackToPrimaryWhenReplicaIsUnavailable() {
+        replica.execute("DROP TABLE tb_replica_heartbeat");
+
+        monitor.check();
+
+        assertThat(replicaPool.replicas().getFirst().lag(), is(nullValue()));
+        assertThat(getOrderStatusService.getStatus(ORDER_ID), is(OrderStatus.CREATED));
+    }
+
+    @Test
+    void readsOwnWritesFromPrimary() {
+        monitor.check();
+        ReadYourWrites.stickToPrimary();
+
+        assertThat(getOrderStatusService.getStatus(ORDER_ID), is(OrderStatus.CREATED));
+    }
+
+    private void beatOnPrimary(long beatAt) {
+        new JdbcTemplate(primaryDataSource).update("UPDATE tb_replica_heartbeat SET beat_at = ? WHERE id = 1", beatAt);
+    }
+}
@@ -0,0 +1,40 @@
+package com.danielpgbrasil.orderprocessing.it.infrastructure.jdbc;
+
+import com.danielpgbrasil.orderprocessing.domain.shared.TimeMillis;
+import com.danielpgbrasil.orderprocessing.infrastructure.jdbc.JdbcErrorTraceStore;
+import com.danielpgbrasil.orderprocessing.it.infrastructure.IntegrationTestBase;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.Optional;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+@SpringBootTest
+class JdbcErrorTraceStoreTest extends IntegrationTestBase {
+
+    @Autowired
+    private JdbcErrorTraceStore store;
+
+    @Test
+    void findsSavedTraceByFingerprint() {
+        store.save("abc123", "java.lang.RuntimeException: Erro", TimeMillis.of(1000L));
+
+        assertThat(store.find("abc123"), is(Optional.of("java.lang.RuntimeException: Erro")));
+    }
+
+    @Test
+    void keepsFirstTraceForRepeatedFingerprint() {
+        store.save("abc123", "primeiro", TimeMillis.of(1000L));
+        store.save("abc123", "segundo", TimeMillis.of(2000L));
+
+        assertThat(store.find("abc123"), is(Optional.of("primeiro")));
+    }
+
+    @Test
+    void returnsEmptyForUnknownFingerprint() {
+        assertThat(store.find("desconhecido"), is(Optional.empty()));
+    }
+}
@@ -10,6 +10,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
 import java.util.List;
+import java.util.Set;
 
 import static com.danielpgbrasil.orderprocessing.fixture.OrderEventFixture.builder;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -34,6 +35,21 @@ class JdbcOrderEventRepositoryTest extends IntegrationTestBase {
         assertThat(retrievedEvent, is(savedEvent));
     }
 
+    @Test
+    void saveAllInsertsNewEventsInBatch() {
+        var events = List.of(
+                builder().withId(null).withOrderId(OrderId.of(1L)).withType(OrderEventType.CREATED).build(),
+                builder().withId(null).withOrderId(OrderId.of(2L)).withType(OrderEventType.PICKING_STARTED).build()
+        );
+
+        repository.saveAll(events);
+
+        assertThat(events.get(0).id(), notNullValue());
+        assertThat(events.get(1).id(), is(OrderEventId.of(events.get(0).id().value() + 1)));
+        assertThat(repository.getOrThrow(events.get(0).id()), is(events.get(0)));
+        assertThat(repository.getOrThrow(events.get(1).id()), is(events.get(1)));
+    }
+
     @Test
     void getByIdReturnsEmptyWhenNotFound() {
         var result = repository.get(NON_EXISTENT_ID);
@@ -88,7 +104,7 @@ class JdbcOrderEventRepositoryTest extends IntegrationTestBase {
         assertThat(retrieved, is(expected));
     }
     @Test
-    void findAllUnpublishedReturnsOnlyUnpublishedEvents() {
+    void claimUnpublishedReturnsOnlyUnpublishedEvents() {
         var expected = List.of(
                 createEvent(1L, 4L, OrderEventType.CREATED, 1700000300000L, false),
                 createEvent(4L, 2L, OrderEventType.CREATED, 1700000100000L, false),
@@ -97,7 +113,116 @@ class JdbcOrderEventRepositoryTest extends IntegrationTestBase {
                 createEvent(9L, 1L, OrderEventType.CREATED, 1700000000000L, false)
         );
 
-        var retrieved = repository.findAllUnpublished();
+        var retrieved = repository.claimUnpublished(OrderEventPartition.single(), 0L, 100);
+
+        assertThat(retrieved, is(expected));
+    }
+
+    @Test
+    void claimUnpublishedRespectsLimit() {
+        var expected = List.of(
+                createEvent(1L, 4L, OrderEventType.CREATED, 1700000300000L, false),
+                createEvent(4L, 2L, OrderEventType.CREATED, 1700000100000L, false)
+        );
+
+        var retrieved = repository.claimUnpublished(OrderEventPartition.single(), 0L, 2);
+
+        assertThat(retrieved, is(expected));
+    }
+
+    @Test
+    void claimUnpublishedReturnsOnlyEventsOfPartition() {
+        var expected = List.of(
+                createEvent(1L, 4L, OrderEventType.CREATED, 1700000300000L, false),
+                createEvent(4L, 2L, OrderEventType.CREATED, 1700000100000L, false)
+        );
+
+        var retrieved = repository.claimUnpublished(OrderEventPartition.of(0, 2), 0L, 100);
+
+        assertThat(retrieved, is(expected));
+    }
+
+    @Test
+    void claimUnpublishedReturnsOnlyEventsAfterCursor() {
+        var expected = List.of(
+                createEvent(6L, 3L, OrderEventType.CREATED, 1700000200000L, false),
+                createEvent(8L, 3L, OrderEventType.DELIVERED, 1700000208000L, false),
+                createEvent(9L, 1L, OrderEventType.CREATED, 1700000000000L, false)
+        );
+
+        var retrieved = repository.claimUnpublished(OrderEventPartition.single(), 4L, 100);
+
+        assertThat(retrieved, is(expected));
+    }
+
+    @Test
+    void summarizeUnpublishedCountsPendingEventsAndOldestCreation() {
+        var summary = repository.summarizeUnpublished();
+
+        assertThat(summary, is(PendingOrderEvents.of(5L, TimeMillis.of(1700000000000L))));
+    }
+
+    @Test
+    void summarizeUnpublishedReturnsNoneWhenAllPublished() {
+        repository.markPublished(List.of(OrderEventId.of(1L), OrderEventId.of(4L), OrderEventId.of(6L),
+                OrderEventId.of(8L), OrderEventId.of(9L)));
+
+        assertThat(repository.summarizeUnpublished(), is(PendingOrderEvents.none()));
+    }
+
+    @Test
+    void markPublishedUpdatesOnlyGivenEvents() {
+        repository.markPublished(List.of(OrderEventId.of(1L), OrderEventId.of(6L)));
+
+        var remaining = repository.claimUnpublished(OrderEventPartition.single(), 0L, 100).stream()
+                .map(OrderEvent::id)
+                .toList();
+
+        assertThat(remaining, is(List.of(OrderEventId.of(4L), OrderEventId.of(8L), OrderEventId.of(9L))));
+        assertThat(repository.getOrThrow(OrderEventId.of(1L)).isPublished(), is(true));
+    }
+
+    @Test
+    void markPublishedIgnoresEmptyAndAlreadyPublishedIds() {
+        repository.markPublished(List.of());
+        repository.markPublished(Set.of(OrderEventId.of(2L), NON_EXISTENT_ID));
+
+        assertThat(repository.getOrThrow(OrderEventId.of(2L)).isPublished(), is(true));
+        assertThat(repository.claimUnpublished(OrderEventPartition.single(), 0L, 100).size(), is(5));
+    }
+
+    @Test
+    void archivePublishedBeforeMovesOnlyOldPublishedEvents() {
+        var archived = repository.archivePublishedBefore(TimeMillis.of(1700000200000L), 100);
+
+        assertThat(archived, is(3));
+        assertThat(repository.get(OrderEventId.of(2L)).isEmpty(), is(true));
+        assertThat(repository.get(OrderEventId.of(3L)).isEmpty(), is(true));
+        assertThat(repository.get(OrderEventId.of(5L)).isEmpty(), is(true));
+        assertThat(repository.get(OrderEventId.of(7L)).isPresent(), is(true));
+        assertThat(repository.get(OrderEventId.of(9L)).isPresent(), is(true));
+    }
+
+    @Test
+    void archivePublishedBeforeRespectsLimit() {
+        var archived = repository.archivePublishedBefore(TimeMillis.of(1700000200000L), 2);
+
+        assertThat(archived, is(2));
+        assertThat(repository.get(OrderEventId.of(2L)).isEmpty(), is(true));
+        assertThat(repository.get(OrderEventId.of(3L)).isEmpty(), is(true));
+        assertThat(repository.get(OrderEventId.of(5L)).isPresent(), is(true));
+    }
+
+    @Test
+    void findByOrderIdIncludesArchivedEvents() {
+        var expected = List.of(
+                createEvent(2L, 1L, OrderEventType.PICKING_STARTED, 1700000005000L, true),
+                createEvent(3L, 1L, OrderEventType.TRANSIT_STARTED, 1700000010000L, true),
+                createEvent(9L, 1L, OrderEventType.CREATED, 1700000000000L, false)
+        );
+
+        repository.archivePublishedBefore(TimeMillis.of(1700000200000L), 100);
+        var retrieved = repository.findByOrderId(OrderId.of(1L));
 
         assertThat(retrieved, is(expected));
     }
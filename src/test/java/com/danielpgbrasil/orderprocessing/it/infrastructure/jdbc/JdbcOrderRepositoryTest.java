@@ -1,19 +1,32 @@
 package com.danielpgbrasil.orderprocessing.it.infrastructure.jdbc;
 
+import com.danielpgbrasil.orderprocessing.application.shared.AppTransaction;
 import com.danielpgbrasil.orderprocessing.domain.order.*;
 import com.danielpgbrasil.orderprocessing.infrastructure.jdbc.JdbcOrderRepository;
 import com.danielpgbrasil.orderprocessing.it.infrastructure.IntegrationTestBase;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
 
 import static com.danielpgbrasil.orderprocessing.fixture.OrderFixture.builder;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 
 @SpringBootTest
 class JdbcOrderRepositoryTest extends IntegrationTestBase {
@@ -23,6 +36,12 @@ class JdbcOrderRepositoryTest extends IntegrationTestBase {
     @Autowired
     private JdbcOrderRepository repository;
 
+    @Autowired
+    private AppTransaction transaction;
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbc;
+
     @Test
     void saveAndGetByIdSuccessfully() {
         var order = builder().withId(null).build();
@@ -54,6 +73,54 @@ class JdbcOrderRepositoryTest extends IntegrationTestBase {
         assertThat(exception.getMessage(), is(NON_EXISTENT_ID_MESSAGE));
     }
 
+    @Test
+    void getDoesNotWaitForOrderLockedByCommand() throws Exception {
+        var id = OrderId.of(1L);
+        var locked = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var command = CompletableFuture.runAsync(() -> transaction.execute(() -> {
+            repository.transitionStatus(id, OrderStatus.CREATED, OrderStatus.PICKING);
+            locked.countDown();
+            await(release);
+        }));
+        try {
+            assertThat(locked.await(5, TimeUnit.SECONDS), is(true));
+
+            var order = assertTimeoutPreemptively(Duration.ofMillis(500), () -> repository.getOrThrow(id));
+
+            assertThat(order.status(), is(OrderStatus.CREATED));
+        } finally {
+            release.countDown();
+            command.get(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    void transitionStatusesWaitsForOrderLockedByCommand() throws Exception {
+        var id = OrderId.of(1L);
+        var locked = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var command = CompletableFuture.runAsync(() -> transaction.execute(() -> {
+            repository.transitionStatus(id, OrderStatus.CREATED, OrderStatus.PICKING);
+            locked.countDown();
+            await(release);
+        }));
+        assertThat(locked.await(5, TimeUnit.SECONDS), is(true));
+
+        var competing = CompletableFuture.supplyAsync(() -> {
+            var holder = new AtomicReference<List<OrderId>>();
+            transaction.execute(() -> holder.set(
+                    repository.transitionStatuses(List.of(id), OrderStatus.CREATED, OrderStatus.PICKING)));
+            return holder.get();
+        });
+        Thread.sleep(200);
+        assertThat(competing.isDone(), is(false));
+
+        release.countDown();
+        command.get(5, TimeUnit.SECONDS);
+        assertThat(competing.get(5, TimeUnit.SECONDS), is(empty()));
+    }
+
     @Test
     void existsReturnsTrueForExistingOrder() {
         var id = OrderId.of(1L);
@@ -92,6 +159,148 @@ class JdbcOrderRepositoryTest extends IntegrationTestBase {
         assertThat(reloaded.status(), is(OrderStatus.PICKING));
     }
 
+    @Test
+    void transitionStatusAppliesWhenCurrentStatusMatches() {
+        var applied = repository.transitionStatus(OrderId.of(1L), OrderStatus.CREATED, OrderStatus.PICKING);
+
+        assertThat(applied, is(true));
+        assertThat(repository.getOrThrow(OrderId.of(1L)).status(), is(OrderStatus.PICKING));
+    }
+
+    @Test
+    void transitionStatusIsNotAppliedWhenCurrentStatusDiffers() {
+        var applied = repository.transitionStatus(OrderId.of(1L), OrderStatus.PICKING, OrderStatus.IN_TRANSIT);
+
+        assertThat(applied, is(false));
+        assertThat(repository.getOrThrow(OrderId.of(1L)).status(), is(OrderStatus.CREATED));
+    }
+
+    @Test
+    void transitionStatusIsNotAppliedWhenOrderDoesNotExist() {
+        var applied = repository.transitionStatus(OrderId.of(999L), OrderStatus.CREATED, OrderStatus.PICKING);
+
+        assertThat(applied, is(false));
+    }
+
+    @Test
+    void transitionStatusIsAppliedOnceUnderConcurrency() throws Exception {
+        var start = new CountDownLatch(1);
+        var attempts = IntStream.range(0, 8)
+                .mapToObj(i -> CompletableFuture.supplyAsync(() -> {
+                    await(start);
+                    var applied = new AtomicReference<Boolean>();
+                    transaction.execute(() -> applied.set(
+                            repository.transitionStatus(OrderId.of(1L), OrderStatus.CREATED, OrderStatus.PICKING)));
+                    return applied.get();
+                }))
+                .toList();
+
+        start.countDown();
+
+        var applied = 0;
+        for (var attempt : attempts) {
+            applied += attempt.get(5, TimeUnit.SECONDS) ? 1 : 0;
+        }
+        assertThat(applied, is(1));
+        assertThat(repository.getOrThrow(OrderId.of(1L)).status(), is(OrderStatus.PICKING));
+    }
+
+    @Test
+    void saveWritesOnlyStatusAfterTransition() {
+        var order = repository.getOrThrow(OrderId.of(1L));
+        var detailsJson = "{\"customerName\":\"Changed\",\"customerAddress\":\"Rua B\","
+                + "\"items\":[{\"productId\":5,\"quantity\":1,\"price\":1.0}]}";
+        jdbc.update("UPDATE tb_order SET details = :details WHERE id = 1", Map.of("details", detailsJson));
+
+        order.startPicking();
+        repository.save(order);
+
+        var reloaded = repository.getOrThrow(OrderId.of(1L));
+        assertThat(reloaded.status(), is(OrderStatus.PICKING));
+        assertThat(reloaded.details().customerName(), is("Changed"));
+        assertThat(order.hasChanges(), is(false));
+    }
+
+    @Test
+    void saveSkipsUnchangedOrder() {
+        var order = repository.getOrThrow(OrderId.of(1L));
+        jdbc.update("UPDATE tb_order SET status = 'PICKING' WHERE id = 1", Map.of());
+
+        repository.saveAll(List.of(order));
+        repository.save(order);
+
+        assertThat(repository.getOrThrow(OrderId.of(1L)).status(), is(OrderStatus.PICKING));
+    }
+
+    @Test
+    void saveAllWritesOnlyStatusOfTransitionedOrders() {
+        var first = repository.getOrThrow(OrderId.of(1L));
+        var second = builder().withId(OrderId.of(2L)).withStatus(OrderStatus.DELIVERED).build();
+        jdbc.update("UPDATE tb_order SET details = REPLACE(details, 'Silva', 'Santos') WHERE id = 1", Map.of());
+
+        first.startPicking();
+        repository.saveAll(List.of(first, second));
+
+        var reloadedFirst = repository.getOrThrow(OrderId.of(1L));
+        assertThat(reloadedFirst.status(), is(OrderStatus.PICKING));
+        assertThat(reloadedFirst.details(), is(not(first.details())));
+        assertThat(repository.getOrThrow(OrderId.of(2L)), is(second));
+    }
+
+    @Test
+    void transitionStatusesReturnsOnlyOrdersInExpectedStatus() {
+        var result = repository.transitionStatuses(
+                List.of(OrderId.of(3L), OrderId.of(999L), OrderId.of(1L), OrderId.of(3L)),
+                OrderStatus.CREATED, OrderStatus.PICKING);
+
+        assertThat(result, is(List.of(OrderId.of(1L))));
+        assertThat(repository.getOrThrow(OrderId.of(1L)).status(), is(OrderStatus.PICKING));
+        assertThat(repository.getOrThrow(OrderId.of(3L)).status(), is(OrderStatus.IN_TRANSIT));
+    }
+
+    @Test
+    void transitionStatusesReturnsEmptyListForNoIds() {
+        assertThat(repository.transitionStatuses(List.of(), OrderStatus.CREATED, OrderStatus.PICKING), is(empty()));
+    }
+
+    @Test
+    void saveAllUpdatesExistingAndInsertsNewOrders() {
+        var first = builder().withId(OrderId.of(1L)).withStatus(OrderStatus.PICKING).build();
+        var second = builder().withId(OrderId.of(2L)).withStatus(OrderStatus.IN_TRANSIT).build();
+        var created = builder().withId(null).build();
+
+        repository.saveAll(List.of(first, second, created));
+
+        assertThat(repository.getOrThrow(OrderId.of(1L)), is(first));
+        assertThat(repository.getOrThrow(OrderId.of(2L)), is(second));
+        assertThat(created.id(), notNullValue());
+        assertThat(repository.getOrThrow(created.id()), is(created));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Test
+    void saveAllInsertsNewOrdersInBatchesAndNotifiesListenerOnce() {
+        var listener = mock(OrderListener.class);
+        var orders = IntStream.range(0, 1_500)
+                .mapToObj(i -> builder().withId(null).withListener(listener).build())
+                .toList();
+
+        repository.saveAll(orders);
+
+        var ids = orders.stream().map(Order::id).toList();
+        assertThat(ids, everyItem(notNullValue()));
+        assertThat(Set.copyOf(ids).size(), is(orders.size()));
+        assertThat(repository.getOrThrow(ids.getLast()), is(orders.getLast()));
+        verify(listener).statusesChanged(orders);
+    }
+
     private Order createOriginalOrder() {
         return builder()
                 .withId(null)
@@ -0,0 +1,74 @@
+package com.danielpgbrasil.orderprocessing.it.infrastructure.jdbc;
+
+import com.danielpgbrasil.orderprocessing.domain.order.event.OrderEventId;
+import com.danielpgbrasil.orderprocessing.domain.shared.TimeMillis;
+import com.danielpgbrasil.orderprocessing.infrastructure.jdbc.JdbcProcessedOrderEventRepository;
+import com.danielpgbrasil.orderprocessing.it.infrastructure.IntegrationTestBase;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+@SpringBootTest
+class JdbcProcessedOrderEventRepositoryTest extends IntegrationTestBase {
+
+    @Autowired
+    private JdbcProcessedOrderEventRepository repository;
+
+    @Test
+    void findsOnlyProcessedIds() {
+        repository.markProcessed(List.of(OrderEventId.of(1L), OrderEventId.of(2L)), TimeMillis.of(1000L));
+
+        var processed = repository.findProcessed(List.of(OrderEventId.of(1L), OrderEventId.of(3L)));
+
+        assertThat(processed, is(Set.of(OrderEventId.of(1L))));
+    }
+
+    @Test
+    void findProcessedReturnsEmptyForNoIds() {
+        assertThat(repository.findProcessed(List.of()), is(Set.of()));
+    }
+
+    @Test
+    void markProcessedIgnoresAlreadyProcessedIds() {
+        repository.markProcessed(List.of(OrderEventId.of(1L)), TimeMillis.of(1000L));
+        repository.markProcessed(List.of(OrderEventId.of(1L), OrderEventId.of(2L)), TimeMillis.of(2000L));
+
+        var processed = repository.findProcessed(List.of(OrderEventId.of(1L), OrderEventId.of(2L)));
+
+        assertThat(processed, is(Set.of(OrderEventId.of(1L), OrderEventId.of(2L))));
+    }
+
+    @Test
+    void markProcessedIgnoresRepeatedIdsInSameBatch() {
+        repository.markProcessed(List.of(OrderEventId.of(1L), OrderEventId.of(1L)), TimeMillis.of(1000L));
+
+        assertThat(repository.findProcessed(List.of(OrderEventId.of(1L))), is(Set.of(OrderEventId.of(1L))));
+    }
+
+    @Test
+    void deleteReturnsZeroWhenNothingIsOlderThanCutoff() {
+        repository.markProcessed(List.of(OrderEventId.of(1L)), TimeMillis.of(5000L));
+
+        assertThat(repository.deleteProcessedBefore(TimeMillis.of(2000L), 10), is(0));
+    }
+
+    @Test
+    void deletesOnlyMarkersOlderThanCutoffUpToLimit() {
+        repository.markProcessed(List.of(OrderEventId.of(1L), OrderEventId.of(2L)), TimeMillis.of(1000L));
+        repository.markProcessed(List.of(OrderEventId.of(3L)), TimeMillis.of(5000L));
+
+        var firstChunk = repository.deleteProcessedBefore(TimeMillis.of(2000L), 1);
+        var secondChunk = repository.deleteProcessedBefore(TimeMillis.of(2000L), 10);
+
+        assertThat(firstChunk, is(1));
+        assertThat(secondChunk, is(1));
+        var remaining = repository.findProcessed(List.of(OrderEventId.of(1L), OrderEventId.of(2L), OrderEventId.of(3L)));
+        assertThat(remaining, is(Set.of(OrderEventId.of(3L))));
+    }
+}
@@ -8,9 +8,15 @@ import com.danielpgbrasil.orderprocessing.it.infrastructure.IntegrationTestBase;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
 import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -55,4 +61,54 @@ class SpringAppTransactionTest extends IntegrationTestBase {
         assertThat(event.id(), notNullValue());
         assertThat(repository.get(event.id()).isEmpty(), is(true));
     }
-}
\ No newline at end of file
+
+    @Test
+    void executeReadOnlyRunsInReadOnlyTransaction() {
+        appTransaction.executeReadOnly(() -> {
+            assertThat(appTransaction.inTransaction(), is(true));
+            assertThat(TransactionSynchronizationManager.isCurrentTransactionReadOnly(), is(true));
+        });
+
+        assertThat(appTransaction.inTransaction(), is(false));
+    }
+
+    @Test
+    void executeAfterCommitRunsOnlyAfterCommit() {
+        var event = OrderEventFixture.builder()
+                .withId(null)
+                .withOrderId(OrderId.of(1L))
+                .build();
+        var committedElsewhere = new AtomicReference<Boolean>();
+
+        appTransaction.execute(() -> {
+            repository.save(event);
+            appTransaction.executeAfterCommit(() -> committedElsewhere.set(CompletableFuture
+                    .supplyAsync(() -> repository.get(event.id()).isPresent())
+                    .join()));
+            assertThat(committedElsewhere.get(), nullValue());
+        });
+
+        assertThat(committedElsewhere.get(), is(true));
+    }
+
+    @Test
+    void executeAfterCommitDoesNotRunWhenTransactionRollsBack() {
+        var ran = new AtomicBoolean();
+
+        assertThrows(RuntimeException.class, () -> appTransaction.execute(() -> {
+            appTransaction.executeAfterCommit(() -> ran.set(true));
+            throw new RuntimeException("Before COMMIT");
+        }));
+
+        assertThat(ran.get(), is(false));
+    }
+
+    @Test
+    void executeAfterCommitRunsImmediatelyOutsideTransaction() {
+        var ran = new AtomicBoolean();
+
+        appTransaction.executeAfterCommit(() -> ran.set(true));
+
+        assertThat(ran.get(), is(true));
+    }
+}
@@ -0,0 +1,189 @@
+package com.danielpgbrasil.orderprocessing.ut.application.order;
+
+import com.danielpgbrasil.orderprocessing.application.order.ApplyOrderEventsService;
+import com.danielpgbrasil.orderprocessing.application.order.event.OrderEventDeduplicator;
+import com.danielpgbrasil.orderprocessing.application.shared.AppTransaction;
+import com.danielpgbrasil.orderprocessing.domain.order.*;
+import com.danielpgbrasil.orderprocessing.domain.order.event.OrderEvent;
+import com.danielpgbrasil.orderprocessing.domain.order.event.OrderEventId;
+import com.danielpgbrasil.orderprocessing.domain.order.event.OrderEventType;
+import com.danielpgbrasil.orderprocessing.fixture.AppTransactionFixture;
+import com.danielpgbrasil.orderprocessing.fixture.OrderEventFixture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static com.danielpgbrasil.orderprocessing.fixture.AppTransactionFixture.assertThatInTransaction;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+class ApplyOrderEventsServiceTest {
+
+    private static final OrderId ORDER_1 = OrderId.of(1L);
+    private static final OrderId ORDER_2 = OrderId.of(2L);
+    private static final OrderId ORDER_3 = OrderId.of(3L);
+
+    private AppTransaction transaction;
+    private OrderRepository repository;
+    private OrderListener listener;
+    private OrderEventDeduplicator deduplicator;
+    private ApplyOrderEventsService service;
+
+    @BeforeEach
+    void beforeEach() {
+        transaction = AppTransactionFixture.mockedTransaction();
+        repository = mock(OrderRepository.class);
+        listener = mock(OrderListener.class);
+        deduplicator = mock(OrderEventDeduplicator.class);
+        service = new ApplyOrderEventsService(transaction, repository, listener, deduplicator);
+
+        assertThatInTransaction(transaction).when(deduplicator).markProcessed(any());
+        when(deduplicator.unprocessed(any())).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    void appliesEachTypeWithOneCompareAndSetBatch() {
+        when(repository.transitionStatuses(List.of(ORDER_1), OrderStatus.CREATED, OrderStatus.PICKING))
+                .thenReturn(List.of(ORDER_1));
+        when(repository.transitionStatuses(List.of(ORDER_2), OrderStatus.PICKING, OrderStatus.IN_TRANSIT))
+                .thenReturn(List.of(ORDER_2));
+        when(repository.transitionStatuses(List.of(ORDER_3), OrderStatus.IN_TRANSIT, OrderStatus.DELIVERED))
+                .thenReturn(List.of(ORDER_3));
+
+        var failures = service.applyAll(List.of(
+                event(1L, ORDER_1, OrderEventType.CREATED),
+                event(2L, ORDER_2, OrderEventType.PICKING_STARTED),
+                event(3L, ORDER_3, OrderEventType.TRANSIT_STARTED)));
+
+        assertThat(failures, is(empty()));
+        verify(transaction).execute(any());
+        verify(listener).statusesChanged(List.of(ORDER_1), OrderStatus.PICKING);
+        verify(listener).statusesChanged(List.of(ORDER_2), OrderStatus.IN_TRANSIT);
+        verify(listener).statusesChanged(List.of(ORDER_3), OrderStatus.DELIVERED);
+        verify(repository, times(3)).transitionStatuses(any(), any(), any());
+        verifyNoMoreInteractions(repository);
+    }
+
+    @Test
+    void appliesEventsOfSameOrderInLifecycleOrder() {
+        when(repository.transitionStatuses(List.of(ORDER_1), OrderStatus.CREATED, OrderStatus.PICKING))
+                .thenReturn(List.of(ORDER_1));
+        when(repository.transitionStatuses(List.of(ORDER_1), OrderStatus.PICKING, OrderStatus.IN_TRANSIT))
+                .thenReturn(List.of(ORDER_1));
+
+        var failures = service.applyAll(List.of(
+                event(2L, ORDER_1, OrderEventType.PICKING_STARTED),
+                event(1L, ORDER_1, OrderEventType.CREATED)));
+
+        assertThat(failures, is(empty()));
+        var inOrder = inOrder(repository, listener);
+        inOrder.verify(repository).transitionStatuses(List.of(ORDER_1), OrderStatus.CREATED, OrderStatus.PICKING);
+        inOrder.verify(listener).statusesChanged(List.of(ORDER_1), OrderStatus.PICKING);
+        inOrder.verify(repository).transitionStatuses(List.of(ORDER_1), OrderStatus.PICKING, OrderStatus.IN_TRANSIT);
+        inOrder.verify(listener).statusesChanged(List.of(ORDER_1), OrderStatus.IN_TRANSIT);
+    }
+
+    @Test
+    void ignoresEventsThatDoNotMatchCurrentStatus() {
+        when(repository.transitionStatuses(any(), any(), any())).thenReturn(List.of());
+        when(repository.exists(ORDER_1)).thenReturn(true);
+
+        var failures = service.applyAll(List.of(
+                event(1L, ORDER_1, OrderEventType.CREATED),
+                event(2L, ORDER_1, OrderEventType.DELIVERED)));
+
+        assertThat(failures, is(empty()));
+        verify(repository).transitionStatuses(List.of(ORDER_1), OrderStatus.CREATED, OrderStatus.PICKING);
+        verify(repository).exists(ORDER_1);
+        verifyNoMoreInteractions(repository);
+        verifyNoInteractions(listener);
+        verify(deduplicator).markProcessed(List.of(OrderEventId.of(1L), OrderEventId.of(2L)));
+    }
+
+    @Test
+    void reportsMissingOrdersAndAppliesTheRest() {
+        var missing = event(2L, ORDER_2, OrderEventType.CREATED);
+        when(repository.transitionStatuses(List.of(ORDER_1, ORDER_2), OrderStatus.CREATED, OrderStatus.PICKING))
+                .thenReturn(List.of(ORDER_1));
+        when(repository.exists(ORDER_2)).thenReturn(false);
+
+        var failures = service.applyAll(List.of(event(1L, ORDER_1, OrderEventType.CREATED), missing));
+
+        assertThat(failures.size(), is(1));
+        assertThat(failures.getFirst().event(), is(missing));
+        assertThat(failures.getFirst().cause(), instanceOf(OrderNotFoundException.class));
+        verify(listener).statusesChanged(List.of(ORDER_1), OrderStatus.PICKING);
+        verify(deduplicator).markProcessed(List.of(OrderEventId.of(1L)));
+        verify(deduplicator).remember(List.of(OrderEventId.of(1L)));
+    }
+
+    @Test
+    void checksExistenceOfEachOrderOnlyOnce() {
+        when(repository.transitionStatuses(any(), any(), any())).thenReturn(List.of());
+        when(repository.exists(ORDER_1)).thenReturn(false);
+
+        var failures = service.applyAll(List.of(
+                event(1L, ORDER_1, OrderEventType.CREATED),
+                event(2L, ORDER_1, OrderEventType.PICKING_STARTED)));
+
+        assertThat(failures.size(), is(2));
+        verify(repository).exists(ORDER_1);
+        verify(deduplicator).markProcessed(List.of());
+    }
+
+    @Test
+    void marksAppliedEventsAsProcessedInsideTransaction() {
+        when(repository.transitionStatuses(any(), any(), any())).thenReturn(List.of(ORDER_1));
+
+        service.applyAll(List.of(event(1L, ORDER_1, OrderEventType.CREATED)));
+
+        var inOrder = inOrder(transaction, repository, deduplicator);
+        inOrder.verify(deduplicator).unprocessed(any());
+        inOrder.verify(transaction).execute(any());
+        inOrder.verify(repository).transitionStatuses(any(), any(), any());
+        inOrder.verify(deduplicator).markProcessed(List.of(OrderEventId.of(1L)));
+        inOrder.verify(deduplicator).remember(List.of(OrderEventId.of(1L)));
+    }
+
+    @Test
+    void skipsDuplicateEventsBeforeOpeningTransaction() {
+        var duplicate = event(1L, ORDER_1, OrderEventType.CREATED);
+        when(deduplicator.unprocessed(List.of(duplicate))).thenReturn(List.of());
+
+        var failures = service.applyAll(List.of(duplicate));
+
+        assertThat(failures, is(empty()));
+        verifyNoInteractions(transaction, repository, listener);
+        verify(deduplicator, never()).markProcessed(any());
+    }
+
+    @Test
+    void doesNothingForEmptyBatch() {
+        var failures = service.applyAll(List.of());
+
+        assertThat(failures, is(empty()));
+        verifyNoInteractions(transaction, repository, listener, deduplicator);
+    }
+
+    @Test
+    void propagatesExceptionWhenRepositoryFails() {
+        when(repository.transitionStatuses(any(), any(), any())).thenThrow(new RuntimeException("Database error"));
+
+        var events = List.of(event(1L, ORDER_1, OrderEventType.CREATED));
+        assertThrows(RuntimeException.class, () -> service.applyAll(events));
+
+        verifyNoInteractions(listener);
+        verify(deduplicator, never()).remember(any());
+    }
+
+    private static OrderEvent event(Long id, OrderId orderId, OrderEventType type) {
+        return OrderEventFixture.builder()
+                .withId(OrderEventId.of(id))
+                .withOrderId(orderId)
+                .withType(type)
+                .build();
+    }
+}
@@ -13,6 +13,8 @@ import com.danielpgbrasil.orderprocessing.fixture.OrderDetailsFixture;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+
 import com.danielpgbrasil.orderprocessing.application.order.CreateOrderService;
 import com.danielpgbrasil.orderprocessing.application.shared.AppTransaction;
 
@@ -45,6 +47,27 @@ class CreateOrderServiceTest {
         verify(listener, never()).statusChanged(any());
     }
 
+    @Test
+    void createsOrdersInBatch() {
+        assertThatInTransaction(transaction).when(repository).saveAll(any());
+        var otherDetails = OrderDetailsFixture.builder().withCustomerName("Maria").build();
+
+        var orders = service.createOrders(List.of(orderDetails, otherDetails));
+
+        assertThat(orders.stream().map(Order::details).toList(), is(List.of(orderDetails, otherDetails)));
+        assertThat(orders.stream().allMatch(order -> order.status() == OrderStatus.CREATED), is(true));
+        verify(repository).saveAll(orders);
+        verify(repository, never()).save(any());
+    }
+
+    @Test
+    void createsNothingForEmptyBatch() {
+        var orders = service.createOrders(List.of());
+
+        assertThat(orders, is(empty()));
+        verifyNoInteractions(repository, transaction);
+    }
+
     @Test
     void propagatesExceptionWhenRepositoryFails() {
         doThrow(RuntimeException.class).when(repository).save(any(Order.class));
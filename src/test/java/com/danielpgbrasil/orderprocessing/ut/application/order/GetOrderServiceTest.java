@@ -1,5 +1,6 @@
 package com.danielpgbrasil.orderprocessing.ut.application.order;
 
+import static com.danielpgbrasil.orderprocessing.fixture.AppTransactionFixture.mockedTransaction;
 import static com.danielpgbrasil.orderprocessing.fixture.OrderFixture.ORDER_ID;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
@@ -7,6 +8,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
 
 import com.danielpgbrasil.orderprocessing.application.order.GetOrderService;
+import com.danielpgbrasil.orderprocessing.application.shared.AppTransaction;
 import com.danielpgbrasil.orderprocessing.domain.order.OrderRepository;
 import com.danielpgbrasil.orderprocessing.domain.order.event.OrderEvent;
 import com.danielpgbrasil.orderprocessing.domain.order.event.OrderEventRepository;
@@ -19,15 +21,17 @@ import java.util.List;
 
 class GetOrderServiceTest {
 
+    private AppTransaction transaction;
     private OrderRepository orderRepository;
     private OrderEventRepository eventRepository;
     private GetOrderService service;
 
     @BeforeEach
     void beforeEach() {
+        transaction = mockedTransaction();
         orderRepository = mock(OrderRepository.class);
         eventRepository = mock(OrderEventRepository.class);
-        service = new GetOrderService(orderRepository, eventRepository);
+        service = new GetOrderService(transaction, orderRepository, eventRepository);
     }
 
     @Test
@@ -40,6 +44,7 @@ class GetOrderServiceTest {
         assertThat(result.order(), is(expectedOrder));
         assertThat(result.events(), is(empty()));
 
+        verify(transaction).executeReadOnly(any());
         verify(orderRepository).getOrThrow(expectedOrder.id());
         verifyNoInteractions(eventRepository);
     }
@@ -57,6 +62,7 @@ class GetOrderServiceTest {
         assertThat(result.order(), is(expectedOrder));
         assertThat(result.events(), is(expectedEvents));
 
+        verify(transaction).executeReadOnly(any());
         verify(orderRepository).getOrThrow(expectedOrder.id());
         verify(eventRepository).findByOrderId(expectedOrder.id());
     }
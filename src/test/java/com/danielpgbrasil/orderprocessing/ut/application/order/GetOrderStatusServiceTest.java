@@ -1,5 +1,6 @@
 package com.danielpgbrasil.orderprocessing.ut.application.order;
 
+import static com.danielpgbrasil.orderprocessing.fixture.AppTransactionFixture.mockedTransaction;
 import static com.danielpgbrasil.orderprocessing.fixture.OrderFixture.ORDER_ID;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
@@ -7,6 +8,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
 
 import com.danielpgbrasil.orderprocessing.application.order.GetOrderStatusService;
+import com.danielpgbrasil.orderprocessing.application.shared.AppTransaction;
 import com.danielpgbrasil.orderprocessing.domain.order.*;
 
 import com.danielpgbrasil.orderprocessing.fixture.OrderFixture;
@@ -17,13 +19,15 @@ import org.junit.jupiter.params.provider.EnumSource;
 
 class GetOrderStatusServiceTest {
 
+    private AppTransaction transaction;
     private OrderRepository repository;
     private GetOrderStatusService service;
 
     @BeforeEach
     void beforeEach() {
+        transaction = mockedTransaction();
         repository = mock(OrderRepository.class);
-        service = new GetOrderStatusService(repository);
+        service = new GetOrderStatusService(transaction, repository);
     }
 
     @ParameterizedTest
@@ -35,6 +39,7 @@ class GetOrderStatusServiceTest {
         var result = service.getStatus(order.id());
 
         assertThat(result, is(status));
+        verify(transaction).executeReadOnly(any());
         verify(repository).getOrThrow(order.id());
     }
 
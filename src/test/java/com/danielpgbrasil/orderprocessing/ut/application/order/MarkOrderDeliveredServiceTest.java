@@ -6,64 +6,73 @@ import com.danielpgbrasil.orderprocessing.domain.order.*;
 import com.danielpgbrasil.orderprocessing.fixture.AppTransactionFixture;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.params.ParameterizedTest;
-import org.junit.jupiter.params.provider.EnumSource;
 
 import static com.danielpgbrasil.orderprocessing.fixture.AppTransactionFixture.assertThatInTransaction;
 import static com.danielpgbrasil.orderprocessing.fixture.OrderFixture.ORDER_ID;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
 
 class MarkOrderDeliveredServiceTest {
 
-    private Order order;
     private AppTransaction transaction;
     private OrderRepository repository;
+    private OrderListener listener;
     private MarkOrderDeliveredService service;
 
     @BeforeEach
     void beforeEach() {
-        order = mock(Order.class);
         transaction = AppTransactionFixture.mockedTransaction();
         repository = mock(OrderRepository.class);
-        service = new MarkOrderDeliveredService(transaction, repository);
+        listener = mock(OrderListener.class);
+        service = new MarkOrderDeliveredService(transaction, repository, listener);
 
-        when(repository.getOrThrow(ORDER_ID)).thenReturn(order);
-        when(order.status()).thenReturn(OrderStatus.IN_TRANSIT);
-        assertThatInTransaction(transaction).when(repository).save(any());
+        when(repository.transitionStatus(ORDER_ID, OrderStatus.IN_TRANSIT, OrderStatus.DELIVERED)).thenReturn(true);
+        assertThatInTransaction(transaction).when(listener).statusChanged(any(OrderId.class), any());
     }
 
     @Test
     void marksDeliveredWhenOrderIsInTransit() {
         service.markDelivered(ORDER_ID);
 
-        verify(repository).getOrThrow(ORDER_ID);
-        verify(order).status();
-        verify(order).markDelivered();
-        verify(repository).save(order);
-        verifyNoMoreInteractions(order, repository);
+        var inOrder = inOrder(repository, listener);
+        inOrder.verify(repository).transitionStatus(ORDER_ID, OrderStatus.IN_TRANSIT, OrderStatus.DELIVERED);
+        inOrder.verify(listener).statusChanged(ORDER_ID, OrderStatus.DELIVERED);
+        verifyNoMoreInteractions(repository, listener);
     }
 
-    @ParameterizedTest
-    @EnumSource(value = OrderStatus.class, names = "IN_TRANSIT", mode = EnumSource.Mode.EXCLUDE)
-    void ignoresWhenOrderIsNotInTransit(OrderStatus status) {
-        when(order.status()).thenReturn(status);
+    @Test
+    void ignoresWhenOrderIsNotInTransit() {
+        when(repository.transitionStatus(ORDER_ID, OrderStatus.IN_TRANSIT, OrderStatus.DELIVERED)).thenReturn(false);
+        when(repository.exists(ORDER_ID)).thenReturn(true);
 
         service.markDelivered(ORDER_ID);
 
-        verify(repository).getOrThrow(ORDER_ID);
-        verify(order).status();
-        verifyNoMoreInteractions(order, repository);
+        verify(repository).transitionStatus(ORDER_ID, OrderStatus.IN_TRANSIT, OrderStatus.DELIVERED);
+        verify(repository).exists(ORDER_ID);
+        verifyNoMoreInteractions(repository);
+        verifyNoInteractions(listener);
+    }
+
+    @Test
+    void throwsWhenOrderDoesNotExist() {
+        when(repository.transitionStatus(ORDER_ID, OrderStatus.IN_TRANSIT, OrderStatus.DELIVERED)).thenReturn(false);
+        when(repository.exists(ORDER_ID)).thenReturn(false);
+
+        var exception = assertThrows(OrderNotFoundException.class, () -> service.markDelivered(ORDER_ID));
+
+        assertThat(exception.getMessage(), is("Pedido não encontrado: " + ORDER_ID.value()));
+        verifyNoInteractions(listener);
     }
 
     @Test
     void propagatesExceptionWhenRepositoryFails() {
-        when(repository.getOrThrow(ORDER_ID)).thenThrow(RuntimeException.class);
+        when(repository.transitionStatus(ORDER_ID, OrderStatus.IN_TRANSIT, OrderStatus.DELIVERED)).thenThrow(RuntimeException.class);
 
         assertThrows(RuntimeException.class, () -> service.markDelivered(ORDER_ID));
 
-        verify(repository).getOrThrow(ORDER_ID);
-        verifyNoMoreInteractions(repository, order);
+        verifyNoInteractions(listener);
     }
 
     @Test
@@ -72,6 +81,6 @@ class MarkOrderDeliveredServiceTest {
 
         assertThrows(RuntimeException.class, () -> service.markDelivered(ORDER_ID));
 
-        verifyNoInteractions(repository, order);
+        verifyNoInteractions(repository, listener);
     }
 }
@@ -0,0 +1,112 @@
+package com.danielpgbrasil.orderprocessing.ut.application.order;
+
+import com.danielpgbrasil.orderprocessing.application.order.MarkOrderDeliveredService;
+import com.danielpgbrasil.orderprocessing.application.order.ProcessOrderEventService;
+import com.danielpgbrasil.orderprocessing.application.order.StartOrderPickingService;
+import com.danielpgbrasil.orderprocessing.application.order.StartOrderTransitService;
+import com.danielpgbrasil.orderprocessing.application.order.event.OrderEventDeduplicator;
+import com.danielpgbrasil.orderprocessing.domain.order.event.OrderEventType;
+import com.danielpgbrasil.orderprocessing.fixture.OrderEventFixture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class ProcessOrderEventServiceTest {
+
+    private StartOrderPickingService pickingService;
+    private StartOrderTransitService transitService;
+    private MarkOrderDeliveredService deliveryService;
+    private OrderEventDeduplicator deduplicator;
+    private ProcessOrderEventService service;
+
+    @BeforeEach
+    void beforeEach() {
+        pickingService = mock(StartOrderPickingService.class);
+        transitService = mock(StartOrderTransitService.class);
+        deliveryService = mock(MarkOrderDeliveredService.class);
+        deduplicator = mock(OrderEventDeduplicator.class);
+        service = new ProcessOrderEventService(pickingService, transitService, deliveryService, deduplicator);
+
+        when(deduplicator.processOnce(any(), any())).thenAnswer(invocation -> {
+            Runnable action = invocation.getArgument(1);
+            action.run();
+            return true;
+        });
+    }
+
+    @Test
+    void startsPickingForCreatedEvent() {
+        var event = OrderEventFixture.builder().withType(OrderEventType.CREATED).build();
+
+        assertThat(service.process(event), is(true));
+
+        verify(pickingService).startPicking(event.orderId());
+        verifyNoInteractions(transitService, deliveryService);
+    }
+
+    @Test
+    void startsTransitForPickingStartedEvent() {
+        var event = OrderEventFixture.builder().withType(OrderEventType.PICKING_STARTED).build();
+
+        assertThat(service.process(event), is(true));
+
+        verify(transitService).startTransit(event.orderId());
+        verifyNoInteractions(pickingService, deliveryService);
+    }
+
+    @Test
+    void marksDeliveredForTransitStartedEvent() {
+        var event = OrderEventFixture.builder().withType(OrderEventType.TRANSIT_STARTED).build();
+
+        assertThat(service.process(event), is(true));
+
+        verify(deliveryService).markDelivered(event.orderId());
+        verifyNoInteractions(pickingService, transitService);
+    }
+
+    @Test
+    void ignoresDeliveredEvent() {
+        var event = OrderEventFixture.builder().withType(OrderEventType.DELIVERED).build();
+
+        service.process(event);
+
+        verifyNoInteractions(pickingService, transitService, deliveryService);
+    }
+
+    @Test
+    void skipsDuplicateEvent() {
+        var event = OrderEventFixture.builder().withType(OrderEventType.CREATED).build();
+        doReturn(false).when(deduplicator).processOnce(eq(event), any());
+
+        assertThat(service.process(event), is(false));
+
+        verifyNoInteractions(pickingService, transitService, deliveryService);
+    }
+
+    @Test
+    void propagatesExceptionFromTransition() {
+        var event = OrderEventFixture.builder().withType(OrderEventType.CREATED).build();
+        doThrow(new IllegalStateException("Falha")).when(pickingService).startPicking(any());
+
+        assertThrows(IllegalStateException.class, () -> service.process(event));
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = OrderEventType.class, names = "DELIVERED", mode = EnumSource.Mode.EXCLUDE)
+    void triggersTransitionForIntermediateEvents(OrderEventType type) {
+        assertThat(service.triggersTransition(type), is(true));
+    }
+
+    @Test
+    void doesNotTriggerTransitionForDeliveredEvent() {
+        assertThat(service.triggersTransition(OrderEventType.DELIVERED), is(false));
+    }
+}
@@ -6,64 +6,73 @@ import com.danielpgbrasil.orderprocessing.domain.order.*;
 import com.danielpgbrasil.orderprocessing.fixture.AppTransactionFixture;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.params.ParameterizedTest;
-import org.junit.jupiter.params.provider.EnumSource;
 
 import static com.danielpgbrasil.orderprocessing.fixture.AppTransactionFixture.assertThatInTransaction;
 import static com.danielpgbrasil.orderprocessing.fixture.OrderFixture.ORDER_ID;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
 
 class StartOrderPickingServiceTest {
 
-    private Order order;
     private AppTransaction transaction;
     private OrderRepository repository;
+    private OrderListener listener;
     private StartOrderPickingService service;
 
     @BeforeEach
     void beforeEach() {
-        order = mock(Order.class);
         transaction = AppTransactionFixture.mockedTransaction();
         repository = mock(OrderRepository.class);
-        service = new StartOrderPickingService(transaction, repository);
+        listener = mock(OrderListener.class);
+        service = new StartOrderPickingService(transaction, repository, listener);
 
-        when(repository.getOrThrow(ORDER_ID)).thenReturn(order);
-        when(order.status()).thenReturn(OrderStatus.CREATED);
-        assertThatInTransaction(transaction).when(repository).save(any());
+        when(repository.transitionStatus(ORDER_ID, OrderStatus.CREATED, OrderStatus.PICKING)).thenReturn(true);
+        assertThatInTransaction(transaction).when(listener).statusChanged(any(OrderId.class), any());
     }
 
     @Test
     void startsPickingWhenOrderIsCreated() {
         service.startPicking(ORDER_ID);
 
-        verify(repository).getOrThrow(ORDER_ID);
-        verify(order).status();
-        verify(order).startPicking();
-        verify(repository).save(order);
-        verifyNoMoreInteractions(order, repository);
+        var inOrder = inOrder(repository, listener);
+        inOrder.verify(repository).transitionStatus(ORDER_ID, OrderStatus.CREATED, OrderStatus.PICKING);
+        inOrder.verify(listener).statusChanged(ORDER_ID, OrderStatus.PICKING);
+        verifyNoMoreInteractions(repository, listener);
     }
 
-    @ParameterizedTest
-    @EnumSource(value = OrderStatus.class, names = "CREATED", mode = EnumSource.Mode.EXCLUDE)
-    void ignoresWhenOrderIsNotCreated(OrderStatus status) {
-        when(order.status()).thenReturn(status);
+    @Test
+    void ignoresWhenOrderIsNotCreated() {
+        when(repository.transitionStatus(ORDER_ID, OrderStatus.CREATED, OrderStatus.PICKING)).thenReturn(false);
+        when(repository.exists(ORDER_ID)).thenReturn(true);
 
         service.startPicking(ORDER_ID);
 
-        verify(repository).getOrThrow(ORDER_ID);
-        verify(order).status();
-        verifyNoMoreInteractions(order, repository);
+        verify(repository).transitionStatus(ORDER_ID, OrderStatus.CREATED, OrderStatus.PICKING);
+        verify(repository).exists(ORDER_ID);
+        verifyNoMoreInteractions(repository);
+        verifyNoInteractions(listener);
+    }
+
+    @Test
+    void throwsWhenOrderDoesNotExist() {
+        when(repository.transitionStatus(ORDER_ID, OrderStatus.CREATED, OrderStatus.PICKING)).thenReturn(false);
+        when(repository.exists(ORDER_ID)).thenReturn(false);
+
+        var exception = assertThrows(OrderNotFoundException.class, () -> service.startPicking(ORDER_ID));
+
+        assertThat(exception.getMessage(), is("Pedido não encontrado: " + ORDER_ID.value()));
+        verifyNoInteractions(listener);
     }
 
     @Test
     void propagatesExceptionWhenRepositoryFails() {
-        when(repository.getOrThrow(ORDER_ID)).thenThrow(RuntimeException.class);
+        when(repository.transitionStatus(ORDER_ID, OrderStatus.CREATED, OrderStatus.PICKING)).thenThrow(RuntimeException.class);
 
         assertThrows(RuntimeException.class, () -> service.startPicking(ORDER_ID));
 
-        verify(repository).getOrThrow(ORDER_ID);
-        verifyNoMoreInteractions(repository, order);
+        verifyNoInteractions(listener);
     }
 
     @Test
@@ -72,6 +81,6 @@ class StartOrderPickingServiceTest {
 
         assertThrows(RuntimeException.class, () -> service.startPicking(ORDER_ID));
 
-        verifyNoInteractions(repository, order);
+        verifyNoInteractions(repository, listener);
     }
 }
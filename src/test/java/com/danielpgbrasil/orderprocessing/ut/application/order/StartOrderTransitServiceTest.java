@@ -6,64 +6,73 @@ import com.danielpgbrasil.orderprocessing.domain.order.*;
 import com.danielpgbrasil.orderprocessing.fixture.AppTransactionFixture;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.params.ParameterizedTest;
-import org.junit.jupiter.params.provider.EnumSource;
 
 import static com.danielpgbrasil.orderprocessing.fixture.AppTransactionFixture.assertThatInTransaction;
 import static com.danielpgbrasil.orderprocessing.fixture.OrderFixture.ORDER_ID;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
 
 class StartOrderTransitServiceTest {
 
-    private Order order;
     private AppTransaction transaction;
     private OrderRepository repository;
+    private OrderListener listener;
     private StartOrderTransitService service;
 
     @BeforeEach
     void beforeEach() {
-        order = mock(Order.class);
         transaction = AppTransactionFixture.mockedTransaction();
         repository = mock(OrderRepository.class);
-        service = new StartOrderTransitService(transaction, repository);
+        listener = mock(OrderListener.class);
+        service = new StartOrderTransitService(transaction, repository, listener);
 
-        when(repository.getOrThrow(ORDER_ID)).thenReturn(order);
-        when(order.status()).thenReturn(OrderStatus.PICKING);
-        assertThatInTransaction(transaction).when(repository).save(any());
+        when(repository.transitionStatus(ORDER_ID, OrderStatus.PICKING, OrderStatus.IN_TRANSIT)).thenReturn(true);
+        assertThatInTransaction(transaction).when(listener).statusChanged(any(OrderId.class), any());
     }
 
     @Test
     void startsTransitWhenOrderIsPicking() {
         service.startTransit(ORDER_ID);
 
-        verify(repository).getOrThrow(ORDER_ID);
-        verify(order).status();
-        verify(order).startTransit();
-        verify(repository).save(order);
-        verifyNoMoreInteractions(order, repository);
+        var inOrder = inOrder(repository, listener);
+        inOrder.verify(repository).transitionStatus(ORDER_ID, OrderStatus.PICKING, OrderStatus.IN_TRANSIT);
+        inOrder.verify(listener).statusChanged(ORDER_ID, OrderStatus.IN_TRANSIT);
+        verifyNoMoreInteractions(repository, listener);
     }
 
-    @ParameterizedTest
-    @EnumSource(value = OrderStatus.class, names = "PICKING", mode = EnumSource.Mode.EXCLUDE)
-    void ignoresWhenOrderIsNotPicking(OrderStatus status) {
-        when(order.status()).thenReturn(status);
+    @Test
+    void ignoresWhenOrderIsNotPicking() {
+        when(repository.transitionStatus(ORDER_ID, OrderStatus.PICKING, OrderStatus.IN_TRANSIT)).thenReturn(false);
+        when(repository.exists(ORDER_ID)).thenReturn(true);
 
         service.startTransit(ORDER_ID);
 
-        verify(repository).getOrThrow(ORDER_ID);
-        verify(order).status();
-        verifyNoMoreInteractions(order, repository);
+        verify(repository).transitionStatus(ORDER_ID, OrderStatus.PICKING, OrderStatus.IN_TRANSIT);
+        verify(repository).exists(ORDER_ID);
+        verifyNoMoreInteractions(repository);
+        verifyNoInteractions(listener);
+    }
+
+    @Test
+    void throwsWhenOrderDoesNotExist() {
+        when(repository.transitionStatus(ORDER_ID, OrderStatus.PICKING, OrderStatus.IN_TRANSIT)).thenReturn(false);
+        when(repository.exists(ORDER_ID)).thenReturn(false);
+
+        var exception = assertThrows(OrderNotFoundException.class, () -> service.startTransit(ORDER_ID));
+
+        assertThat(exception.getMessage(), is("Pedido não encontrado: " + ORDER_ID.value()));
+        verifyNoInteractions(listener);
     }
 
     @Test
     void propagatesExceptionWhenRepositoryFails() {
-        when(repository.getOrThrow(ORDER_ID)).thenThrow(RuntimeException.class);
+        when(repository.transitionStatus(ORDER_ID, OrderStatus.PICKING, OrderStatus.IN_TRANSIT)).thenThrow(RuntimeException.class);
 
         assertThrows(RuntimeException.class, () -> service.startTransit(ORDER_ID));
 
-        verify(repository).getOrThrow(ORDER_ID);
-        verifyNoMoreInteractions(repository, order);
+        verifyNoInteractions(listener);
     }
 
     @Test
@@ -72,6 +81,6 @@ class StartOrderTransitServiceTest {
 
         assertThrows(RuntimeException.class, () -> service.startTransit(ORDER_ID));
 
-        verifyNoInteractions(repository, order);
+        verifyNoInteractions(repository, listener);
     }
 }
@@ -0,0 +1,83 @@
+package com.danielpgbrasil.orderprocessing.ut.application.order.event;
+
+import com.danielpgbrasil.orderprocessing.application.order.event.ArchivePublishedOrderEventsService;
+import com.danielpgbrasil.orderprocessing.application.shared.AppTransaction;
+import com.danielpgbrasil.orderprocessing.domain.order.event.OrderEventRepository;
+import com.danielpgbrasil.orderprocessing.domain.shared.AppClock;
+import com.danielpgbrasil.orderprocessing.domain.shared.TimeMillis;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.Duration;
+
+import static com.danielpgbrasil.orderprocessing.fixture.AppTransactionFixture.mockedTransaction;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+class ArchivePublishedOrderEventsServiceTest {
+
+    private static final int CHUNK_SIZE = 2;
+    private static final Duration RETENTION = Duration.ofMillis(1000L);
+    private static final TimeMillis NOW = TimeMillis.of(5000L);
+    private static final TimeMillis CREATED_BEFORE = TimeMillis.of(4000L);
+
+    private AppTransaction transaction;
+    private OrderEventRepository repository;
+    private AppClock clock;
+    private ArchivePublishedOrderEventsService service;
+
+    @BeforeEach
+    void beforeEach() {
+        transaction = mockedTransaction();
+        repository = mock(OrderEventRepository.class);
+        clock = mock(AppClock.class);
+        service = new ArchivePublishedOrderEventsService(transaction, repository, clock, RETENTION, CHUNK_SIZE);
+
+        when(clock.now()).thenReturn(NOW);
+        when(repository.archivePublishedBefore(CREATED_BEFORE, CHUNK_SIZE)).thenAnswer(invocation -> {
+            assertThat(transaction.inTransaction(), is(true));
+            return 0;
+        });
+    }
+
+    @Test
+    void archivesChunksUntilOneComesBackIncomplete() {
+        doReturn(2, 2, 1).when(repository).archivePublishedBefore(CREATED_BEFORE, CHUNK_SIZE);
+
+        var archived = service.archivePublishedEvents();
+
+        assertThat(archived, is(5));
+        verify(transaction, times(3)).execute(any());
+        verify(repository, times(3)).archivePublishedBefore(CREATED_BEFORE, CHUNK_SIZE);
+    }
+
+    @Test
+    void archivesNothingWhenNoEventIsOldEnough() {
+        var archived = service.archivePublishedEvents();
+
+        assertThat(archived, is(0));
+        verify(transaction).execute(any());
+        verify(repository).archivePublishedBefore(CREATED_BEFORE, CHUNK_SIZE);
+        verifyNoMoreInteractions(repository);
+    }
+
+    @Test
+    void propagatesExceptionWhenRepositoryFails() {
+        doThrow(new RuntimeException("Archive failed")).when(repository).archivePublishedBefore(any(), anyInt());
+
+        assertThrows(RuntimeException.class, () -> service.archivePublishedEvents());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1})
+    void rejectsNonPositiveChunkSize(int chunkSize) {
+        var exception = assertThrows(IllegalArgumentException.class,
+                () -> new ArchivePublishedOrderEventsService(transaction, repository, clock, RETENTION, chunkSize));
+
+        assertThat(exception.getMessage(), is("O tamanho do lote deve ser positivo."));
+    }
+}
@@ -9,9 +9,13 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 import com.danielpgbrasil.orderprocessing.application.order.event.CreateOrderEventService;
+import com.danielpgbrasil.orderprocessing.application.order.event.OrderEventPipeline;
+import com.danielpgbrasil.orderprocessing.application.order.event.OrderEventPublisher;
 import com.danielpgbrasil.orderprocessing.application.shared.AppTransaction;
 import com.danielpgbrasil.orderprocessing.domain.order.Order;
+import com.danielpgbrasil.orderprocessing.domain.order.OrderId;
 import com.danielpgbrasil.orderprocessing.domain.order.event.OrderEvent;
+import com.danielpgbrasil.orderprocessing.domain.order.event.OrderEventId;
 import com.danielpgbrasil.orderprocessing.domain.order.event.OrderEventRepository;
 import com.danielpgbrasil.orderprocessing.domain.order.event.OrderEventType;
 import com.danielpgbrasil.orderprocessing.domain.shared.AppClock;
@@ -21,11 +25,20 @@ import com.danielpgbrasil.orderprocessing.fixture.TimeMillisFixture;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.RejectedExecutionException;
+
 class CreateOrderEventServiceTest {
 
     private AppTransaction transaction;
     private OrderEventRepository repository;
     private AppClock clock;
+    private OrderEventPublisher publisher;
+    private OrderEventPipeline pipeline;
+    private Queue<Runnable> submitted;
+    private Runnable pendingEventsDrain;
     private CreateOrderEventService service;
     private Order order;
 
@@ -34,7 +47,12 @@ class CreateOrderEventServiceTest {
         transaction = mockedTransaction();
         repository = mock(OrderEventRepository.class);
         clock = mock(AppClock.class);
-        service = new CreateOrderEventService(transaction, repository, clock);
+        publisher = mock(OrderEventPublisher.class);
+        pipeline = mock(OrderEventPipeline.class);
+        submitted = new ArrayDeque<>();
+        pendingEventsDrain = mock(Runnable.class);
+        service = new CreateOrderEventService(transaction, repository, clock, publisher, pipeline, false,
+                submitted::add, pendingEventsDrain);
         order = OrderFixture.builder().build();
 
         when(clock.now()).thenReturn(TimeMillisFixture.NOW);
@@ -43,7 +61,7 @@ class CreateOrderEventServiceTest {
 
     @Test
     void createsEventSuccessfully() {
-        var event = service.createEvent(order, OrderEventType.CREATED);
+        var event = service.createEvent(order.id(), OrderEventType.CREATED);
 
         assertThat(event.orderId(), is(order.id()));
         assertThat(event.type(), is(OrderEventType.CREATED));
@@ -51,13 +69,158 @@ class CreateOrderEventServiceTest {
         assertThat(event.isPublished(), is(false));
 
         verify(repository).save(event);
+        verify(transaction, never()).executeAfterCommit(any());
+        verifyNoInteractions(publisher);
+    }
+
+    @Test
+    void publishesEventAfterCommitWhenDirectPublishEnabled() {
+        service = directPublishService();
+        doAnswer(invocation -> {
+            OrderEvent saved = invocation.getArgument(0);
+            saved.finalizeCreation(OrderEventId.of(10L));
+            return null;
+        }).when(repository).save(any());
+        when(publisher.publishAll(any())).thenAnswer(invocation -> {
+            assertThat(transaction.inTransaction(), is(false));
+            return invocation.getArgument(0);
+        });
+        assertThatInTransaction(transaction).when(repository).markPublished(any());
+
+        var event = service.createEvent(order.id(), OrderEventType.CREATED);
+
+        verifyNoInteractions(publisher);
+        assertThat(submitted.size(), is(1));
+
+        submitted.poll().run();
+
+        var inOrder = inOrder(transaction, repository, publisher);
+        inOrder.verify(repository).save(event);
+        inOrder.verify(transaction).executeAfterCommit(any());
+        inOrder.verify(publisher).publishAll(List.of(event));
+        inOrder.verify(repository).markPublished(List.of(OrderEventId.of(10L)));
+        assertThat(event.isPublished(), is(true));
+        assertThat(service.publishesDirectly(), is(true));
+        verifyNoInteractions(pendingEventsDrain);
+    }
+
+    @Test
+    void keepsEventPendingWhenDirectPublishIsNotConfirmed() {
+        service = directPublishService();
+        doAnswer(invocation -> {
+            OrderEvent saved = invocation.getArgument(0);
+            saved.finalizeCreation(OrderEventId.of(10L));
+            return null;
+        }).when(repository).save(any());
+        when(publisher.publishAll(any())).thenReturn(List.of());
+
+        var event = service.createEvent(order.id(), OrderEventType.CREATED);
+        submitted.poll().run();
+
+        verify(publisher).publishAll(List.of(event));
+        verify(repository, never()).markPublished(any());
+        assertThat(event.isPublished(), is(false));
+        verify(pendingEventsDrain).run();
+    }
+
+    @Test
+    void keepsEventPendingWhenDirectPublishFails() {
+        service = directPublishService();
+        doAnswer(invocation -> {
+            OrderEvent saved = invocation.getArgument(0);
+            saved.finalizeCreation(OrderEventId.of(10L));
+            return null;
+        }).when(repository).save(any());
+        when(publisher.publishAll(any())).thenThrow(new RuntimeException("RabbitMQ down"));
+
+        var event = service.createEvent(order.id(), OrderEventType.CREATED);
+        submitted.poll().run();
+
+        verify(repository, never()).markPublished(any());
+        assertThat(event.isPublished(), is(false));
+        verify(pendingEventsDrain).run();
+    }
+
+    @Test
+    void leavesEventToPendingDrainWhenDirectPublishIsRejected() {
+        service = new CreateOrderEventService(transaction, repository, clock, publisher, pipeline, true,
+                task -> {
+                    throw new RejectedExecutionException("Fila cheia");
+                }, pendingEventsDrain);
+
+        var event = service.createEvent(order.id(), OrderEventType.CREATED);
+
+        verifyNoInteractions(publisher);
+        verify(pendingEventsDrain).run();
+        assertThat(event.isPublished(), is(false));
+    }
+
+    @Test
+    void createsEventsInBatch() {
+        assertThatInTransaction(transaction).when(repository).saveAll(any());
+        var other = OrderFixture.builder().withId(OrderId.of(2L)).build();
+
+        var events = service.createEvents(List.of(order.id(), other.id()), OrderEventType.CREATED);
+
+        assertThat(events.stream().map(OrderEvent::orderId).toList(), is(List.of(order.id(), other.id())));
+        assertThat(events.stream().allMatch(event -> event.type() == OrderEventType.CREATED), is(true));
+        verify(repository).saveAll(events);
+        verify(repository, never()).save(any());
+        verify(transaction, never()).executeAfterCommit(any());
+    }
+
+    @Test
+    void leavesEventsOfBatchToPendingPublication() {
+        service = directPublishService();
+        when(pipeline.isEnabled()).thenReturn(true);
+        var other = OrderFixture.builder().withId(OrderId.of(2L)).build();
+
+        var events = service.createEvents(List.of(order.id(), other.id()), OrderEventType.CREATED);
+
+        verify(repository).saveAll(events);
+        verify(transaction, never()).executeAfterCommit(any());
+        verify(pipeline, never()).submit(any());
+        assertThat(submitted.isEmpty(), is(true));
+        verifyNoInteractions(publisher, pendingEventsDrain);
+    }
+
+    @Test
+    void submitsEventToPipelineAfterCommitWhenEnabled() {
+        when(pipeline.isEnabled()).thenReturn(true);
+
+        var event = service.createEvent(order.id(), OrderEventType.CREATED);
+
+        var inOrder = inOrder(transaction, repository, pipeline);
+        inOrder.verify(repository).save(event);
+        inOrder.verify(transaction).executeAfterCommit(any());
+        inOrder.verify(pipeline).submit(event);
+        verifyNoInteractions(publisher);
+    }
+
+    @Test
+    void submitsEventToPipelineBeforePublishingDirectly() {
+        service = directPublishService();
+        when(pipeline.isEnabled()).thenReturn(true);
+        doAnswer(invocation -> {
+            OrderEvent saved = invocation.getArgument(0);
+            saved.finalizeCreation(OrderEventId.of(10L));
+            return null;
+        }).when(repository).save(any());
+        when(publisher.publishAll(any())).thenReturn(List.of());
+
+        var event = service.createEvent(order.id(), OrderEventType.CREATED);
+        submitted.poll().run();
+
+        var inOrder = inOrder(pipeline, publisher);
+        inOrder.verify(pipeline).submit(event);
+        inOrder.verify(publisher).publishAll(List.of(event));
     }
 
     @Test
     void propagatesExceptionWhenRepositoryFails() {
         doThrow(RuntimeException.class).when(repository).save(any(OrderEvent.class));
 
-        assertThrows(RuntimeException.class, () -> service.createEvent(order, OrderEventType.CREATED));
+        assertThrows(RuntimeException.class, () -> service.createEvent(order.id(), OrderEventType.CREATED));
 
         verify(repository).save(any(OrderEvent.class));
     }
@@ -66,7 +229,7 @@ class CreateOrderEventServiceTest {
     void propagatesExceptionWhenTransactionFails() {
         doThrow(RuntimeException.class).when(transaction).execute(any());
 
-        assertThrows(RuntimeException.class, () -> service.createEvent(order, OrderEventType.CREATED));
+        assertThrows(RuntimeException.class, () -> service.createEvent(order.id(), OrderEventType.CREATED));
 
         verify(repository, never()).save(any(OrderEvent.class));
     }
@@ -75,8 +238,13 @@ class CreateOrderEventServiceTest {
     void propagatesExceptionWhenClockFails() {
         when(clock.now()).thenThrow(RuntimeException.class);
 
-        assertThrows(RuntimeException.class, () -> service.createEvent(order, OrderEventType.CREATED));
+        assertThrows(RuntimeException.class, () -> service.createEvent(order.id(), OrderEventType.CREATED));
 
         verify(repository, never()).save(any(OrderEvent.class));
     }
+
+    private CreateOrderEventService directPublishService() {
+        return new CreateOrderEventService(transaction, repository, clock, publisher, pipeline, true,
+                submitted::add, pendingEventsDrain);
+    }
 }
@@ -1,5 +1,6 @@
 package com.danielpgbrasil.orderprocessing.ut.application.order.event;
 
+import static com.danielpgbrasil.orderprocessing.fixture.AppTransactionFixture.mockedTransaction;
 import static com.danielpgbrasil.orderprocessing.fixture.OrderFixture.ORDER_ID;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
@@ -7,6 +8,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
 
 import com.danielpgbrasil.orderprocessing.application.order.event.GetOrderEventsService;
+import com.danielpgbrasil.orderprocessing.application.shared.AppTransaction;
 import com.danielpgbrasil.orderprocessing.domain.order.OrderNotFoundException;
 import com.danielpgbrasil.orderprocessing.domain.order.OrderRepository;
 import com.danielpgbrasil.orderprocessing.domain.order.event.OrderEvent;
@@ -23,16 +25,18 @@ class GetOrderEventsServiceTest {
             OrderEventFixture.builder().build()
     );
 
+    private AppTransaction transaction;
     private OrderRepository orderRepository;
     private OrderEventRepository orderEventRepository;
     private GetOrderEventsService service;
 
     @BeforeEach
     void beforeEach() {
+        transaction = mockedTransaction();
         orderRepository = mock(OrderRepository.class);
         orderEventRepository = mock(OrderEventRepository.class);
 
-        service = new GetOrderEventsService(orderRepository, orderEventRepository);
+        service = new GetOrderEventsService(transaction, orderRepository, orderEventRepository);
 
         when(orderRepository.exists(ORDER_ID)).thenReturn(true);
         when(orderEventRepository.findByOrderId(ORDER_ID)).thenReturn(EXPECTED_EVENTS);
@@ -43,6 +47,7 @@ class GetOrderEventsServiceTest {
         var events = service.getEvents(ORDER_ID);
 
         assertThat(events, is(EXPECTED_EVENTS));
+        verify(transaction).executeReadOnly(any());
         verify(orderRepository).exists(ORDER_ID);
         verify(orderEventRepository).findByOrderId(ORDER_ID);
     }
@@ -0,0 +1,79 @@
+package com.danielpgbrasil.orderprocessing.ut.application.order.event;
+
+import com.danielpgbrasil.orderprocessing.application.metrics.OrderMetrics;
+import com.danielpgbrasil.orderprocessing.application.order.event.MeasurePendingOrderEventsService;
+import com.danielpgbrasil.orderprocessing.application.shared.AppTransaction;
+import com.danielpgbrasil.orderprocessing.domain.order.event.OrderEventRepository;
+import com.danielpgbrasil.orderprocessing.domain.order.event.PendingOrderEvents;
+import com.danielpgbrasil.orderprocessing.domain.shared.AppClock;
+import com.danielpgbrasil.orderprocessing.domain.shared.TimeMillis;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static com.danielpgbrasil.orderprocessing.fixture.AppTransactionFixture.mockedTransaction;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+class MeasurePendingOrderEventsServiceTest {
+
+    private static final TimeMillis NOW = TimeMillis.of(10_000L);
+
+    private AppTransaction transaction;
+    private OrderEventRepository repository;
+    private AppClock clock;
+    private OrderMetrics orderMetrics;
+    private MeasurePendingOrderEventsService service;
+
+    @BeforeEach
+    void beforeEach() {
+        transaction = mockedTransaction();
+        repository = mock(OrderEventRepository.class);
+        clock = mock(AppClock.class);
+        orderMetrics = mock(OrderMetrics.class);
+        service = new MeasurePendingOrderEventsService(transaction, repository, clock, orderMetrics);
+
+        when(clock.now()).thenReturn(NOW);
+    }
+
+    @Test
+    void exportsCountAndOldestAgeFromReadOnlySummary() {
+        var pending = PendingOrderEvents.of(3L, TimeMillis.of(7_500L));
+        when(repository.summarizeUnpublished()).thenAnswer(invocation -> {
+            assertThat(transaction.inTransaction(), is(true));
+            return pending;
+        });
+
+        var measured = service.measurePendingEvents();
+
+        assertThat(measured, is(pending));
+        verify(transaction).executeReadOnly(any());
+        verify(transaction, never()).execute(any());
+        verify(orderMetrics).pendingEvents(3L);
+        verify(orderMetrics).oldestPendingEventAge(Duration.ofMillis(2_500L));
+        verify(repository).summarizeUnpublished();
+        verifyNoMoreInteractions(repository);
+    }
+
+    @Test
+    void exportsZeroAgeWhenNothingIsPending() {
+        when(repository.summarizeUnpublished()).thenReturn(PendingOrderEvents.none());
+
+        service.measurePendingEvents();
+
+        verify(orderMetrics).pendingEvents(0L);
+        verify(orderMetrics).oldestPendingEventAge(Duration.ZERO);
+    }
+
+    @Test
+    void propagatesExceptionWithoutTouchingMetrics() {
+        doThrow(new RuntimeException("Query failed")).when(repository).summarizeUnpublished();
+
+        assertThrows(RuntimeException.class, () -> service.measurePendingEvents());
+
+        verifyNoInteractions(orderMetrics);
+    }
+}
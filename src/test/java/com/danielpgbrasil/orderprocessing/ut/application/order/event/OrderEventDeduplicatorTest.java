@@ -0,0 +1,147 @@
+package com.danielpgbrasil.orderprocessing.ut.application.order.event;
+
+import com.danielpgbrasil.orderprocessing.application.metrics.OrderMetrics;
+import com.danielpgbrasil.orderprocessing.application.order.event.OrderEventDeduplicator;
+import com.danielpgbrasil.orderprocessing.application.shared.AppTransaction;
+import com.danielpgbrasil.orderprocessing.domain.order.event.OrderEvent;
+import com.danielpgbrasil.orderprocessing.domain.order.event.OrderEventId;
+import com.danielpgbrasil.orderprocessing.domain.order.event.ProcessedOrderEventRepository;
+import com.danielpgbrasil.orderprocessing.domain.shared.AppClock;
+import com.danielpgbrasil.orderprocessing.domain.shared.TimeMillis;
+import com.danielpgbrasil.orderprocessing.fixture.OrderEventFixture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+import java.util.Set;
+
+import static com.danielpgbrasil.orderprocessing.fixture.AppTransactionFixture.mockedTransaction;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+class OrderEventDeduplicatorTest {
+
+    private static final int CACHE_SIZE = 2;
+    private static final TimeMillis NOW = TimeMillis.of(1_000L);
+
+    private AppTransaction transaction;
+    private ProcessedOrderEventRepository repository;
+    private AppClock clock;
+    private OrderMetrics orderMetrics;
+    private OrderEventDeduplicator deduplicator;
+
+    @BeforeEach
+    void beforeEach() {
+        transaction = mockedTransaction();
+        repository = mock(ProcessedOrderEventRepository.class);
+        clock = mock(AppClock.class);
+        orderMetrics = mock(OrderMetrics.class);
+        deduplicator = new OrderEventDeduplicator(transaction, repository, clock, orderMetrics, CACHE_SIZE);
+
+        when(clock.now()).thenReturn(NOW);
+        when(repository.findProcessed(any())).thenReturn(Set.of());
+    }
+
+    @Test
+    void processesNewEventAndMarksItInSameTransaction() {
+        var event = event(1L);
+        var action = mock(Runnable.class);
+        doAnswer(invocation -> {
+            assertThat(transaction.inTransaction(), is(true));
+            return null;
+        }).when(repository).markProcessed(any(), any());
+
+        var processed = deduplicator.processOnce(event, action);
+
+        assertThat(processed, is(true));
+        var inOrder = inOrder(repository, transaction, action);
+        inOrder.verify(repository).findProcessed(List.of(event.id()));
+        inOrder.verify(transaction).execute(any());
+        inOrder.verify(action).run();
+        inOrder.verify(repository).markProcessed(List.of(event.id()), NOW);
+        verify(orderMetrics).orderEventDedupe(0, 1);
+    }
+
+    @Test
+    void dropsRecentlyProcessedEventWithoutDatabase() {
+        var event = event(1L);
+        deduplicator.processOnce(event, () -> { });
+        clearInvocations(repository, transaction);
+        var action = mock(Runnable.class);
+
+        var processed = deduplicator.processOnce(event, action);
+
+        assertThat(processed, is(false));
+        verifyNoInteractions(repository, transaction, action);
+        verify(orderMetrics).orderEventDedupe(1, 0);
+    }
+
+    @Test
+    void dropsEventAlreadyRecordedInDatabaseAndCachesIt() {
+        var event = event(1L);
+        when(repository.findProcessed(List.of(event.id()))).thenReturn(Set.of(event.id()));
+        var action = mock(Runnable.class);
+
+        assertThat(deduplicator.processOnce(event, action), is(false));
+        assertThat(deduplicator.processOnce(event, action), is(false));
+
+        verify(repository, times(1)).findProcessed(any());
+        verifyNoInteractions(transaction, action);
+    }
+
+    @Test
+    void doesNotRememberEventWhenTransactionFails() {
+        var event = event(1L);
+        Runnable failing = () -> {
+            throw new IllegalStateException("Falha");
+        };
+
+        assertThrows(IllegalStateException.class, () -> deduplicator.processOnce(event, failing));
+        var action = mock(Runnable.class);
+        assertThat(deduplicator.processOnce(event, action), is(true));
+
+        verify(action).run();
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedIds() {
+        deduplicator.remember(List.of(OrderEventId.of(1L), OrderEventId.of(2L)));
+        deduplicator.unprocessed(List.of(event(1L)));
+        deduplicator.remember(List.of(OrderEventId.of(3L)));
+        clearInvocations(repository);
+
+        var unprocessed = deduplicator.unprocessed(List.of(event(1L), event(2L), event(3L)));
+
+        assertThat(unprocessed, is(List.of(event(2L))));
+        verify(repository).findProcessed(List.of(OrderEventId.of(2L)));
+    }
+
+    @Test
+    void filtersBatchAgainstCacheDatabaseAndItself() {
+        deduplicator.remember(List.of(OrderEventId.of(1L)));
+        when(repository.findProcessed(List.of(OrderEventId.of(2L), OrderEventId.of(3L))))
+                .thenReturn(Set.of(OrderEventId.of(2L)));
+
+        var unprocessed = deduplicator.unprocessed(List.of(event(1L), event(2L), event(3L), event(3L)));
+
+        assertThat(unprocessed, is(List.of(event(3L))));
+        verify(orderMetrics).orderEventDedupe(3, 1);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1})
+    void rejectsNonPositiveCacheSize(int cacheSize) {
+        var exception = assertThrows(IllegalArgumentException.class,
+                () -> new OrderEventDeduplicator(transaction, repository, clock, orderMetrics, cacheSize));
+
+        assertThat(exception.getMessage(), is("O tamanho do cache deve ser positivo."));
+    }
+
+    private static OrderEvent event(Long id) {
+        return OrderEventFixture.builder().withId(OrderEventId.of(id)).build();
+    }
+}
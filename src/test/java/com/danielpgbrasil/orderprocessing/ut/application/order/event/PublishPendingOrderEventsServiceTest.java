@@ -3,157 +3,317 @@ package com.danielpgbrasil.orderprocessing.ut.application.order.event;
 import com.danielpgbrasil.orderprocessing.application.metrics.OrderMetrics;
 import com.danielpgbrasil.orderprocessing.application.order.event.OrderEventPublisher;
 import com.danielpgbrasil.orderprocessing.application.order.event.PublishPendingOrderEventsService;
+import com.danielpgbrasil.orderprocessing.application.order.event.PublishPendingOrderEventsService.Result;
 import com.danielpgbrasil.orderprocessing.application.shared.AppTransaction;
 import com.danielpgbrasil.orderprocessing.domain.order.OrderId;
 import com.danielpgbrasil.orderprocessing.domain.order.event.OrderEvent;
 import com.danielpgbrasil.orderprocessing.domain.order.event.OrderEventId;
+import com.danielpgbrasil.orderprocessing.domain.order.event.OrderEventPartition;
 import com.danielpgbrasil.orderprocessing.domain.order.event.OrderEventRepository;
 import com.danielpgbrasil.orderprocessing.domain.order.event.OrderEventType;
+import com.danielpgbrasil.orderprocessing.domain.shared.AppClock;
+import com.danielpgbrasil.orderprocessing.domain.shared.TimeMillis;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Executor;
 
 import static com.danielpgbrasil.orderprocessing.fixture.AppTransactionFixture.assertThatInTransaction;
 import static com.danielpgbrasil.orderprocessing.fixture.AppTransactionFixture.mockedTransaction;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
 
 class PublishPendingOrderEventsServiceTest {
 
+    private static final int BATCH_SIZE = 2;
+    private static final OrderEventPartition ALL = OrderEventPartition.single();
+    private static final Duration FULL_SWEEP_INTERVAL = Duration.ofMinutes(1);
+    private static final long NO_RESCAN = 0L;
+    private static final TimeMillis NOW = TimeMillis.of(1_700_000_000_000L);
+
     private OrderEvent event1;
     private OrderEvent event2;
+    private OrderEvent event3;
 
     private AppTransaction transaction;
     private OrderEventRepository repository;
     private OrderEventPublisher publisher;
     private OrderMetrics orderMetrics;
+    private AppClock clock;
     private PublishPendingOrderEventsService service;
 
     @BeforeEach
     void beforeEach() {
         event1 = mockOrderEvent(1L);
         event2 = mockOrderEvent(2L);
+        event3 = mockOrderEvent(3L);
 
         transaction = mockedTransaction();
         repository = mock(OrderEventRepository.class);
         publisher = mock(OrderEventPublisher.class);
         orderMetrics = mock(OrderMetrics.class);
-        service = new PublishPendingOrderEventsService(transaction, repository, publisher, orderMetrics);
-
-        assertThatInTransaction(transaction).when(repository).save(any());
-        assertThatInTransaction(transaction).when(publisher).publish(any());
-
-        when(repository.findAllUnpublished()).thenReturn(List.of(event1, event2));
+        clock = mock(AppClock.class);
+        service = new PublishPendingOrderEventsService(transaction, repository, publisher, orderMetrics, clock,
+                BATCH_SIZE, 1, FULL_SWEEP_INTERVAL, NO_RESCAN, Runnable::run);
+
+        when(clock.now()).thenReturn(NOW);
+        assertThatInTransaction(transaction).when(repository).markPublished(any());
+        when(publisher.publishAll(any())).thenAnswer(invocation -> {
+            assertThat(transaction.inTransaction(), is(true));
+            return invocation.getArgument(0);
+        });
+
+        when(repository.claimUnpublished(eq(ALL), anyLong(), eq(BATCH_SIZE)))
+                .thenReturn(List.of(event1, event2))
+                .thenReturn(List.of());
     }
 
     @Test
     void publishesAllPendingEventsSuccessfully() {
-        service.publishPendingEvents();
+        var result = service.publishPendingEvents();
 
-        var inOrder = inOrder(transaction, event1, event2, repository, publisher, orderMetrics);
+        assertThat(result, is(new Result(2, 2)));
 
-        inOrder.verify(repository).findAllUnpublished();
+        var inOrder = inOrder(transaction, event1, event2, repository, publisher, orderMetrics);
 
-        inOrder.verify(orderMetrics).pendingEvents(2);
         inOrder.verify(transaction).execute(any());
+        inOrder.verify(repository).claimUnpublished(ALL, 0L, BATCH_SIZE);
+        inOrder.verify(publisher).publishAll(List.of(event1, event2));
         inOrder.verify(event1).markAsPublished();
-        inOrder.verify(repository).save(event1);
-        inOrder.verify(publisher).publish(event1);
+        inOrder.verify(event2).markAsPublished();
+        inOrder.verify(repository).markPublished(List.of(event1.id(), event2.id()));
+        inOrder.verify(orderMetrics).partitionBatchPublished(0, 2, 2);
 
         inOrder.verify(transaction).execute(any());
-        inOrder.verify(event2).markAsPublished();
-        inOrder.verify(repository).save(event2);
-        inOrder.verify(publisher).publish(event2);
+        inOrder.verify(repository).claimUnpublished(ALL, 2L, BATCH_SIZE);
 
         verify(transaction, times(2)).execute(any());
         verifyNoMoreInteractions(repository, publisher);
     }
 
     @Test
-    void continuesWhenOneEventFailsToPublish() {
-        doThrow(new RuntimeException("Publishing failed")).when(publisher).publish(event1);
+    void keepsClaimingBatchesWhileTheyComeBackFull() {
+        when(repository.claimUnpublished(eq(ALL), anyLong(), eq(BATCH_SIZE)))
+                .thenReturn(List.of(event1, event2))
+                .thenReturn(List.of(event3));
 
-        service.publishPendingEvents();
+        var result = service.publishPendingEvents();
 
-        var inOrder = inOrder(transaction, event1, event2, repository, publisher, orderMetrics);
+        assertThat(result, is(new Result(3, 3)));
 
-        inOrder.verify(repository).findAllUnpublished();
+        var inOrder = inOrder(transaction, repository, publisher, orderMetrics);
 
-        inOrder.verify(orderMetrics).pendingEvents(2);
         inOrder.verify(transaction).execute(any());
-        inOrder.verify(event1).markAsPublished();
-        inOrder.verify(repository).save(event1);
-        inOrder.verify(publisher).publish(event1);
+        inOrder.verify(repository).claimUnpublished(ALL, 0L, BATCH_SIZE);
+        inOrder.verify(publisher).publishAll(List.of(event1, event2));
+        inOrder.verify(repository).markPublished(List.of(event1.id(), event2.id()));
+        inOrder.verify(orderMetrics).partitionBatchPublished(0, 2, 2);
 
         inOrder.verify(transaction).execute(any());
-        inOrder.verify(event2).markAsPublished();
-        inOrder.verify(repository).save(event2);
-        inOrder.verify(publisher).publish(event2);
+        inOrder.verify(repository).claimUnpublished(ALL, 2L, BATCH_SIZE);
+        inOrder.verify(publisher).publishAll(List.of(event3));
+        inOrder.verify(repository).markPublished(List.of(event3.id()));
+        inOrder.verify(orderMetrics).partitionBatchPublished(0, 1, 1);
 
         verify(transaction, times(2)).execute(any());
         verifyNoMoreInteractions(repository, publisher);
     }
 
     @Test
-    void continuesWhenMarkAsPublishedThrowsException() {
-        doThrow(new RuntimeException("Mark as published failed")).when(event1).markAsPublished();
+    void marksOnlyConfirmedEventsAsPublished() {
+        doReturn(List.of(event2)).when(publisher).publishAll(any());
 
-        service.publishPendingEvents();
-
-        var inOrder = inOrder(transaction, event1, event2, repository, publisher, orderMetrics);
+        var result = service.publishPendingEvents();
 
-        inOrder.verify(repository).findAllUnpublished();
+        assertThat(result, is(new Result(2, 1)));
 
-        inOrder.verify(orderMetrics).pendingEvents(2);
-        inOrder.verify(transaction).execute(any());
-        inOrder.verify(event1).markAsPublished();
-        inOrder.verify(repository, never()).save(event1);
-        inOrder.verify(publisher, never()).publish(event1);
+        var inOrder = inOrder(transaction, event1, event2, repository, publisher, orderMetrics);
 
         inOrder.verify(transaction).execute(any());
+        inOrder.verify(repository).claimUnpublished(ALL, 0L, BATCH_SIZE);
+        inOrder.verify(publisher).publishAll(List.of(event1, event2));
         inOrder.verify(event2).markAsPublished();
-        inOrder.verify(repository).save(event2);
-        inOrder.verify(publisher).publish(event2);
+        inOrder.verify(repository).markPublished(List.of(event2.id()));
+        inOrder.verify(orderMetrics).partitionBatchPublished(0, 2, 1);
 
-        verify(transaction, times(2)).execute(any());
+        verify(event1, never()).markAsPublished();
+        verify(transaction, times(1)).execute(any());
         verifyNoMoreInteractions(repository, publisher);
     }
 
     @Test
-    void stopsPublishingEventThatFailsToSave() {
-        doThrow(new RuntimeException("Save failed")).when(repository).save(event1);
+    void marksNothingWhenBatchFailsToPublish() {
+        doThrow(new RuntimeException("Publishing failed")).when(publisher).publishAll(any());
 
-        service.publishPendingEvents();
+        var result = service.publishPendingEvents();
 
-        var inOrder = inOrder(event1, event2, transaction, repository, publisher, orderMetrics);
+        assertThat(result, is(new Result(2, 0)));
 
-        inOrder.verify(repository).findAllUnpublished();
+        verify(repository).claimUnpublished(ALL, 0L, BATCH_SIZE);
+        verify(publisher).publishAll(List.of(event1, event2));
+        verify(event1, never()).markAsPublished();
+        verify(event2, never()).markAsPublished();
+        verify(orderMetrics).partitionBatchPublished(0, 2, 0);
+        verify(transaction, times(1)).execute(any());
+        verifyNoMoreInteractions(repository, publisher);
+    }
 
-        inOrder.verify(orderMetrics).pendingEvents(2);
-        inOrder.verify(transaction).execute(any());
-        inOrder.verify(event1).markAsPublished();
-        inOrder.verify(repository).save(event1);
-        inOrder.verify(publisher, never()).publish(event1);
+    @Test
+    void returnsNoneWhenNoPendingEventsFound() {
+        when(repository.claimUnpublished(eq(ALL), anyLong(), eq(BATCH_SIZE))).thenReturn(List.of());
 
-        inOrder.verify(transaction).execute(any());
-        inOrder.verify(event2).markAsPublished();
-        inOrder.verify(repository).save(event2);
-        inOrder.verify(publisher).publish(event2);
+        var result = service.publishPendingEvents();
 
-        verify(transaction, times(2)).execute(any());
+        assertThat(result, is(Result.none()));
+        verify(repository).claimUnpublished(ALL, 0L, BATCH_SIZE);
+        verify(transaction).execute(any());
         verifyNoMoreInteractions(repository, publisher);
     }
 
     @Test
-    void updatesMetricOnlyWhenNoPendingEventsFound() {
-        when(repository.findAllUnpublished()).thenReturn(List.of());
+    void drainsEachPartitionOnExecutor() {
+        var partition0 = OrderEventPartition.of(0, 2);
+        var partition1 = OrderEventPartition.of(1, 2);
+        var submitted = new ArrayList<Runnable>();
+        Executor executor = task -> {
+            submitted.add(task);
+            task.run();
+        };
+        service = new PublishPendingOrderEventsService(transaction, repository, publisher, orderMetrics,
+                clock, BATCH_SIZE, 2, FULL_SWEEP_INTERVAL, NO_RESCAN, executor);
+        when(repository.claimUnpublished(eq(partition0), anyLong(), eq(BATCH_SIZE))).thenReturn(List.of(event1));
+        when(repository.claimUnpublished(eq(partition1), anyLong(), eq(BATCH_SIZE))).thenReturn(List.of(event2));
+
+        var result = service.publishPendingEvents();
+
+        assertThat(result, is(new Result(2, 2)));
+        assertThat(submitted.size(), is(2));
+        verify(repository).claimUnpublished(partition0, 0L, BATCH_SIZE);
+        verify(repository).claimUnpublished(partition1, 0L, BATCH_SIZE);
+        verify(publisher).publishAll(List.of(event1));
+        verify(publisher).publishAll(List.of(event2));
+        verify(orderMetrics).partitionBatchPublished(0, 1, 1);
+        verify(orderMetrics).partitionBatchPublished(1, 1, 1);
+    }
+
+    @Test
+    void resumesNextDrainAfterLastClaimedEvent() {
+        service.publishPendingEvents();
+        service.publishPendingEvents();
+
+        verify(repository).claimUnpublished(ALL, 0L, BATCH_SIZE);
+        verify(repository, times(2)).claimUnpublished(ALL, 2L, BATCH_SIZE);
+    }
+
+    @Test
+    void keepsCursorBeforeFirstUnconfirmedEvent() {
+        doReturn(List.of(event1)).when(publisher).publishAll(any());
 
+        service.publishPendingEvents();
         service.publishPendingEvents();
 
-        verify(orderMetrics).pendingEvents(0);
-        verify(repository).findAllUnpublished();
-        verify(transaction, never()).execute(any());
-        verifyNoMoreInteractions(repository, publisher);
+        verify(repository).claimUnpublished(ALL, 0L, BATCH_SIZE);
+        verify(repository).claimUnpublished(ALL, 1L, BATCH_SIZE);
+    }
+
+    @Test
+    void restartsFromBeginningOnFullSweep() {
+        service.publishPendingEvents();
+        when(clock.now()).thenReturn(TimeMillis.of(NOW.value() + FULL_SWEEP_INTERVAL.toMillis()));
+
+        service.publishPendingEvents();
+
+        verify(repository, times(2)).claimUnpublished(ALL, 0L, BATCH_SIZE);
+        verify(repository).claimUnpublished(ALL, 2L, BATCH_SIZE);
+    }
+
+    @Test
+    void publishesLowerIdCommittedAfterHigherIdWasPublished() {
+        service = new PublishPendingOrderEventsService(transaction, repository, publisher, orderMetrics, clock,
+                BATCH_SIZE, 1, FULL_SWEEP_INTERVAL, 10L, Runnable::run);
+        when(repository.claimUnpublished(ALL, 0L, BATCH_SIZE))
+                .thenReturn(List.of(event2, event3))
+                .thenReturn(List.of(event1));
+        when(repository.claimUnpublished(ALL, 3L, BATCH_SIZE)).thenReturn(List.of());
+
+        service.publishPendingEvents();
+        service.publishPendingEvents();
+
+        verify(publisher).publishAll(List.of(event2, event3));
+        verify(publisher).publishAll(List.of(event1));
+        verify(repository).markPublished(List.of(OrderEventId.of(1L)));
+    }
+
+    @Test
+    void keepsHighWatermarkWhenRescanFindsNothing() {
+        service = new PublishPendingOrderEventsService(transaction, repository, publisher, orderMetrics, clock,
+                BATCH_SIZE, 1, FULL_SWEEP_INTERVAL, 1L, Runnable::run);
+        when(repository.claimUnpublished(ALL, 0L, BATCH_SIZE))
+                .thenReturn(List.of(event2, event3));
+        when(repository.claimUnpublished(ALL, 3L, BATCH_SIZE)).thenReturn(List.of());
+        when(repository.claimUnpublished(ALL, 2L, BATCH_SIZE)).thenReturn(List.of());
+
+        service.publishPendingEvents();
+        service.publishPendingEvents();
+        service.publishPendingEvents();
+
+        verify(repository).claimUnpublished(ALL, 0L, BATCH_SIZE);
+        verify(repository).claimUnpublished(ALL, 3L, BATCH_SIZE);
+        verify(repository, times(2)).claimUnpublished(ALL, 2L, BATCH_SIZE);
+    }
+
+    @Test
+    void rejectsNegativeRescanWindow() {
+        var exception = assertThrows(IllegalArgumentException.class,
+                () -> new PublishPendingOrderEventsService(transaction, repository, publisher, orderMetrics,
+                        clock, BATCH_SIZE, 1, FULL_SWEEP_INTERVAL, -1L, Runnable::run));
+
+        assertThat(exception.getMessage(), is("A janela de revarredura não pode ser negativa."));
+    }
+
+    @Test
+    void rejectsNegativeFullSweepInterval() {
+        var exception = assertThrows(IllegalArgumentException.class,
+                () -> new PublishPendingOrderEventsService(transaction, repository, publisher, orderMetrics,
+                        clock, BATCH_SIZE, 1, Duration.ofSeconds(-1), NO_RESCAN, Runnable::run));
+
+        assertThat(exception.getMessage(), is("O intervalo de varredura completa não pode ser negativo."));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1})
+    void rejectsNonPositivePartitions(int partitions) {
+        var exception = assertThrows(IllegalArgumentException.class,
+                () -> new PublishPendingOrderEventsService(transaction, repository, publisher, orderMetrics,
+                        clock, BATCH_SIZE, partitions, FULL_SWEEP_INTERVAL, NO_RESCAN, Runnable::run));
+
+        assertThat(exception.getMessage(), is("A quantidade de partições deve ser positiva."));
+    }
+
+    @Test
+    void rejectsMorePartitionsThanBuckets() {
+        var exception = assertThrows(IllegalArgumentException.class,
+                () -> new PublishPendingOrderEventsService(transaction, repository, publisher, orderMetrics,
+                        clock, BATCH_SIZE, OrderEventPartition.BUCKETS + 1, FULL_SWEEP_INTERVAL, NO_RESCAN, Runnable::run));
+
+        assertThat(exception.getMessage(), is("A quantidade de partições não pode exceder 64."));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1})
+    void rejectsNonPositiveBatchSize(int batchSize) {
+        var exception = assertThrows(IllegalArgumentException.class,
+                () -> new PublishPendingOrderEventsService(transaction, repository, publisher, orderMetrics,
+                        clock, batchSize, 1, FULL_SWEEP_INTERVAL, NO_RESCAN, Runnable::run));
+
+        assertThat(exception.getMessage(), is("O tamanho do lote deve ser positivo."));
     }
 
     private static OrderEvent mockOrderEvent(Long id) {
@@ -0,0 +1,83 @@
+package com.danielpgbrasil.orderprocessing.ut.application.order.event;
+
+import com.danielpgbrasil.orderprocessing.application.order.event.PurgeProcessedOrderEventsService;
+import com.danielpgbrasil.orderprocessing.application.shared.AppTransaction;
+import com.danielpgbrasil.orderprocessing.domain.order.event.ProcessedOrderEventRepository;
+import com.danielpgbrasil.orderprocessing.domain.shared.AppClock;
+import com.danielpgbrasil.orderprocessing.domain.shared.TimeMillis;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.Duration;
+
+import static com.danielpgbrasil.orderprocessing.fixture.AppTransactionFixture.mockedTransaction;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+class PurgeProcessedOrderEventsServiceTest {
+
+    private static final int CHUNK_SIZE = 2;
+    private static final Duration RETENTION = Duration.ofMillis(1000L);
+    private static final TimeMillis NOW = TimeMillis.of(5000L);
+    private static final TimeMillis PROCESSED_BEFORE = TimeMillis.of(4000L);
+
+    private AppTransaction transaction;
+    private ProcessedOrderEventRepository repository;
+    private AppClock clock;
+    private PurgeProcessedOrderEventsService service;
+
+    @BeforeEach
+    void beforeEach() {
+        transaction = mockedTransaction();
+        repository = mock(ProcessedOrderEventRepository.class);
+        clock = mock(AppClock.class);
+        service = new PurgeProcessedOrderEventsService(transaction, repository, clock, RETENTION, CHUNK_SIZE);
+
+        when(clock.now()).thenReturn(NOW);
+        when(repository.deleteProcessedBefore(PROCESSED_BEFORE, CHUNK_SIZE)).thenAnswer(invocation -> {
+            assertThat(transaction.inTransaction(), is(true));
+            return 0;
+        });
+    }
+
+    @Test
+    void purgesMarkersOlderThanRetentionInChunks() {
+        doReturn(2, 2, 1).when(repository).deleteProcessedBefore(PROCESSED_BEFORE, CHUNK_SIZE);
+
+        var purged = service.purgeProcessedEvents();
+
+        assertThat(purged, is(5));
+        verify(transaction, times(3)).execute(any());
+        verify(repository, times(3)).deleteProcessedBefore(PROCESSED_BEFORE, CHUNK_SIZE);
+    }
+
+    @Test
+    void purgesNothingWhenNoMarkerIsOldEnough() {
+        var purged = service.purgeProcessedEvents();
+
+        assertThat(purged, is(0));
+        verify(transaction).execute(any());
+        verify(repository).deleteProcessedBefore(PROCESSED_BEFORE, CHUNK_SIZE);
+        verifyNoMoreInteractions(repository);
+    }
+
+    @Test
+    void propagatesExceptionWhenRepositoryFails() {
+        doThrow(new RuntimeException("Purge failed")).when(repository).deleteProcessedBefore(any(), anyInt());
+
+        assertThrows(RuntimeException.class, () -> service.purgeProcessedEvents());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1})
+    void rejectsNonPositiveChunkSize(int chunkSize) {
+        var exception = assertThrows(IllegalArgumentException.class,
+                () -> new PurgeProcessedOrderEventsService(transaction, repository, clock, RETENTION, chunkSize));
+
+        assertThat(exception.getMessage(), is("O tamanho do lote deve ser positivo."));
+    }
+}
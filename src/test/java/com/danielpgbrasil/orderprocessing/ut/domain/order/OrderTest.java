@@ -9,14 +9,18 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.*;
 
+import java.util.List;
 import java.util.stream.Stream;
 
 import static com.danielpgbrasil.orderprocessing.fixture.OrderFixture.*;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 class OrderTest {
 
@@ -36,6 +40,34 @@ class OrderTest {
         assertThat(order.status(), is(OrderStatus.CREATED));
     }
 
+    @Test
+    void builtOrderHasAllFieldsChanged() {
+        var order = builder().build();
+
+        assertThat(order.isDetailsChanged(), is(true));
+        assertThat(order.isStatusChanged(), is(true));
+    }
+
+    @Test
+    void markSavedClearsChanges() {
+        var order = builder().build();
+
+        order.markSaved();
+
+        assertThat(order.hasChanges(), is(false));
+    }
+
+    @Test
+    void transitionChangesOnlyStatus() {
+        var order = builder().withListener(listener).build();
+        order.markSaved();
+
+        order.startPicking();
+
+        assertThat(order.isStatusChanged(), is(true));
+        assertThat(order.isDetailsChanged(), is(false));
+    }
+
     @Test
     void builderThrowsExceptionWhenDetailsNull() {
         var builder = builder().withDetails(null);
@@ -78,6 +110,44 @@ class OrderTest {
         verify(listener).statusChanged(order);
     }
 
+    @Test
+    void finalizeCreationOfBatchSetsIdsAndNotifiesListenerOnce() {
+        var first = builder().withId(null).withListener(listener).build();
+        var second = builder().withId(null).withListener(listener).build();
+
+        Order.finalizeCreation(List.of(first, second), List.of(OrderId.of(7L), OrderId.of(8L)));
+
+        assertThat(first.id(), is(OrderId.of(7L)));
+        assertThat(second.id(), is(OrderId.of(8L)));
+        assertThat(second.status(), is(OrderStatus.CREATED));
+        verify(listener).statusesChanged(List.of(first, second));
+        verify(listener, never()).statusChanged(any());
+    }
+
+    @Test
+    void finalizeCreationOfBatchThrowsWhenIdCountDiffers() {
+        var orders = List.of(builder().withId(null).withListener(listener).build());
+        var ids = List.<OrderId>of();
+
+        var exception = assertThrows(IllegalArgumentException.class, () -> Order.finalizeCreation(orders, ids));
+
+        assertThat(exception.getMessage(), is("A quantidade de ids difere da quantidade de pedidos."));
+        verifyNoInteractions(listener);
+    }
+
+    @Test
+    void finalizeCreationOfBatchThrowsWhenAnyOrderIsFinalized() {
+        var pending = builder().withId(null).withListener(listener).build();
+        var orders = List.of(pending, builder().build());
+        var ids = List.of(OrderId.of(7L), OrderId.of(8L));
+
+        var exception = assertThrows(IllegalStateException.class, () -> Order.finalizeCreation(orders, ids));
+
+        assertThat(exception.getMessage(), is("A criação do pedido já foi finalizada."));
+        assertThat(pending.id(), is(nullValue()));
+        verifyNoInteractions(listener);
+    }
+
     @Test
     void finalizeCreationThrowsWhenAlreadyFinalized() {
         var order = builder().build();
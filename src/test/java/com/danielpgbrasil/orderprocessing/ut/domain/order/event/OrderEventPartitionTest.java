@@ -0,0 +1,91 @@
+package com.danielpgbrasil.orderprocessing.ut.domain.order.event;
+
+import com.danielpgbrasil.orderprocessing.domain.order.OrderId;
+import com.danielpgbrasil.orderprocessing.domain.order.event.OrderEventPartition;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.stream.IntStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class OrderEventPartitionTest {
+
+    @Test
+    void createsPartitionSuccessfully() {
+        var partition = OrderEventPartition.of(1, 4);
+
+        assertThat(partition.index(), is(1));
+        assertThat(partition.count(), is(4));
+    }
+
+    @Test
+    void singlePartitionContainsEveryOrder() {
+        var partition = OrderEventPartition.single();
+
+        assertThat(partition, is(OrderEventPartition.of(0, 1)));
+        assertThat(partition.contains(OrderId.of(1L)), is(true));
+        assertThat(partition.contains(OrderId.of(7L)), is(true));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "1, 4, 1",
+            "4, 4, 0",
+            "7, 4, 3",
+            "8, 3, 2",
+            "65, 3, 1"
+    })
+    void assignsOrderToPartitionByBucket(long orderId, int count, int expectedIndex) {
+        assertThat(OrderEventPartition.indexOf(OrderId.of(orderId), count), is(expectedIndex));
+        assertThat(OrderEventPartition.of(expectedIndex, count).contains(OrderId.of(orderId)), is(true));
+    }
+
+    @Test
+    void assignsOrderToFixedBucket() {
+        assertThat(OrderEventPartition.bucketOf(OrderId.of(1L)), is(1));
+        assertThat(OrderEventPartition.bucketOf(OrderId.of(64L)), is(0));
+        assertThat(OrderEventPartition.bucketOf(OrderId.of(130L)), is(2));
+    }
+
+    @Test
+    void ownsBucketsByModulo() {
+        assertThat(OrderEventPartition.of(1, 4).buckets(), is(IntStream.range(0, 16)
+                .mapToObj(i -> i * 4 + 1)
+                .toList()));
+        assertThat(OrderEventPartition.single().buckets().size(), is(OrderEventPartition.BUCKETS));
+    }
+
+    @Test
+    void throwsWhenCountExceedsBuckets() {
+        var exception = assertThrows(IllegalArgumentException.class, () -> OrderEventPartition.of(0, 65));
+
+        assertThat(exception.getMessage(), is("A quantidade de partições não pode exceder 64."));
+    }
+
+    @Test
+    void throwsWhenCountIsNotPositive() {
+        var exception = assertThrows(IllegalArgumentException.class, () -> OrderEventPartition.of(0, 0));
+
+        assertThat(exception.getMessage(), is("A quantidade de partições deve ser positiva."));
+    }
+
+    @ParameterizedTest
+    @CsvSource({"-1, 2", "2, 2"})
+    void throwsWhenIndexIsOutOfRange(int index, int count) {
+        var exception = assertThrows(IllegalArgumentException.class, () -> OrderEventPartition.of(index, count));
+
+        assertThat(exception.getMessage(), is("A partição deve ser de 0 até 1."));
+    }
+
+    @Test
+    void equalsAndHashCodeDependOnIndexAndCount() {
+        assertThat(OrderEventPartition.of(1, 2), is(OrderEventPartition.of(1, 2)));
+        assertThat(OrderEventPartition.of(1, 2).hashCode(), is(OrderEventPartition.of(1, 2).hashCode()));
+        assertThat(OrderEventPartition.of(1, 2), is(not(OrderEventPartition.of(1, 3))));
+    }
+}
@@ -0,0 +1,64 @@
+package com.danielpgbrasil.orderprocessing.ut.domain.order.event;
+
+import com.danielpgbrasil.orderprocessing.domain.order.event.PendingOrderEvents;
+import com.danielpgbrasil.orderprocessing.domain.shared.TimeMillis;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PendingOrderEventsTest {
+
+    @Test
+    void computesAgeOfOldestPendingEvent() {
+        var pending = PendingOrderEvents.of(2L, TimeMillis.of(1_000L));
+
+        assertThat(pending.count(), is(2L));
+        assertThat(pending.oldestCreatedAt(), is(Optional.of(TimeMillis.of(1_000L))));
+        assertThat(pending.oldestAgeAt(TimeMillis.of(4_000L)), is(Duration.ofSeconds(3)));
+    }
+
+    @Test
+    void neverReportsNegativeAge() {
+        var pending = PendingOrderEvents.of(1L, TimeMillis.of(5_000L));
+
+        assertThat(pending.oldestAgeAt(TimeMillis.of(4_000L)), is(Duration.ZERO));
+    }
+
+    @Test
+    void noneHasZeroCountAndAge() {
+        var none = PendingOrderEvents.none();
+
+        assertThat(none.count(), is(0L));
+        assertThat(none.oldestCreatedAt().isEmpty(), is(true));
+        assertThat(none.oldestAgeAt(TimeMillis.of(4_000L)), is(Duration.ZERO));
+    }
+
+    @Test
+    void rejectsNegativeCount() {
+        var exception = assertThrows(IllegalArgumentException.class,
+                () -> PendingOrderEvents.of(-1L, TimeMillis.of(1_000L)));
+
+        assertThat(exception.getMessage(), is("A quantidade de eventos pendentes não pode ser negativa."));
+    }
+
+    @Test
+    void rejectsInconsistentOldestCreatedAt() {
+        assertThrows(IllegalArgumentException.class, () -> PendingOrderEvents.of(1L, null));
+        assertThrows(IllegalArgumentException.class, () -> PendingOrderEvents.of(0L, TimeMillis.of(1_000L)));
+    }
+
+    @Test
+    void equalsAndHashCodeDependOnValues() {
+        var pending = PendingOrderEvents.of(2L, TimeMillis.of(1_000L));
+
+        assertThat(pending, is(PendingOrderEvents.of(2L, TimeMillis.of(1_000L))));
+        assertThat(pending.hashCode(), is(PendingOrderEvents.of(2L, TimeMillis.of(1_000L)).hashCode()));
+        assertThat(pending, is(not(PendingOrderEvents.of(3L, TimeMillis.of(1_000L)))));
+    }
+}
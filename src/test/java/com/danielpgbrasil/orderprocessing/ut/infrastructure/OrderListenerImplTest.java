@@ -1,6 +1,7 @@
 package com.danielpgbrasil.orderprocessing.ut.infrastructure;
 
 import com.danielpgbrasil.orderprocessing.domain.order.Order;
+import com.danielpgbrasil.orderprocessing.domain.order.OrderId;
 import com.danielpgbrasil.orderprocessing.domain.order.OrderStatus;
 import com.danielpgbrasil.orderprocessing.domain.order.event.OrderEventType;
 import com.danielpgbrasil.orderprocessing.application.order.event.CreateOrderEventService;
@@ -11,6 +12,9 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 
+import java.util.List;
+
+import static com.danielpgbrasil.orderprocessing.fixture.OrderFixture.ORDER_ID;
 import static org.mockito.Mockito.*;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -39,20 +43,85 @@ class OrderListenerImplTest {
         var status = OrderStatus.valueOf(statusName);
         var expectedEventType = OrderEventType.valueOf(expectedEventTypeName);
         var order = mock(Order.class);
+        when(order.id()).thenReturn(ORDER_ID);
         when(order.status()).thenReturn(status);
 
         listener.statusChanged(order);
 
-        verify(service).createEvent(order, expectedEventType);
+        verify(service).createEvent(ORDER_ID, expectedEventType);
+        verify(asyncPublishPendingOrderEventsService).execute();
+    }
+
+    @Test
+    void statusChangedByIdCreatesEventWithoutLoadingOrder() {
+        listener.statusChanged(ORDER_ID, OrderStatus.IN_TRANSIT);
+
+        verify(service).createEvent(ORDER_ID, OrderEventType.TRANSIT_STARTED);
+        verify(asyncPublishPendingOrderEventsService).execute();
+    }
+
+    @Test
+    void statusChangedDoesNotTriggerPendingPublicationWhenPublishingDirectly() {
+        var order = mock(Order.class);
+        when(order.id()).thenReturn(ORDER_ID);
+        when(order.status()).thenReturn(OrderStatus.PICKING);
+        when(service.publishesDirectly()).thenReturn(true);
+
+        listener.statusChanged(order);
+
+        verify(service).createEvent(ORDER_ID, OrderEventType.PICKING_STARTED);
+        verifyNoInteractions(asyncPublishPendingOrderEventsService);
+    }
+
+    @Test
+    void statusesChangedCreatesEventsGroupedByStatus() {
+        var created = mock(Order.class);
+        var otherCreated = mock(Order.class);
+        var picking = mock(Order.class);
+        when(created.id()).thenReturn(OrderId.of(1L));
+        when(otherCreated.id()).thenReturn(OrderId.of(2L));
+        when(picking.id()).thenReturn(OrderId.of(3L));
+        when(created.status()).thenReturn(OrderStatus.CREATED);
+        when(otherCreated.status()).thenReturn(OrderStatus.CREATED);
+        when(picking.status()).thenReturn(OrderStatus.PICKING);
+
+        listener.statusesChanged(List.of(created, picking, otherCreated));
+
+        verify(service).createEvents(List.of(OrderId.of(1L), OrderId.of(2L)), OrderEventType.CREATED);
+        verify(service).createEvents(List.of(OrderId.of(3L)), OrderEventType.PICKING_STARTED);
+        verify(service, never()).createEvent(any(), any());
+        verify(asyncPublishPendingOrderEventsService).execute();
+    }
+
+    @Test
+    void statusesChangedTriggersPendingPublicationEvenWhenPublishingDirectly() {
+        var order = mock(Order.class);
+        when(order.id()).thenReturn(ORDER_ID);
+        when(order.status()).thenReturn(OrderStatus.CREATED);
+        when(service.publishesDirectly()).thenReturn(true);
+
+        listener.statusesChanged(List.of(order));
+
+        verify(service).createEvents(List.of(ORDER_ID), OrderEventType.CREATED);
+        verify(asyncPublishPendingOrderEventsService).execute();
+    }
+
+    @Test
+    void statusesChangedByIdsCreatesEventsInOneBatch() {
+        listener.statusesChanged(List.of(OrderId.of(1L), OrderId.of(2L)), OrderStatus.PICKING);
+
+        verify(service).createEvents(List.of(OrderId.of(1L), OrderId.of(2L)), OrderEventType.PICKING_STARTED);
+        verify(service, never()).createEvent(any(), any());
         verify(asyncPublishPendingOrderEventsService).execute();
     }
 
     @Test
     void statusChangedPropagatesExceptionFromService() {
         var order = mock(Order.class);
+        when(order.id()).thenReturn(ORDER_ID);
         when(order.status()).thenReturn(OrderStatus.CREATED);
         doThrow(new RuntimeException("Service failed"))
-                .when(service).createEvent(order, OrderEventType.CREATED);
+                .when(service).createEvent(ORDER_ID, OrderEventType.CREATED);
 
         assertThrows(RuntimeException.class, () -> listener.statusChanged(order));
     }
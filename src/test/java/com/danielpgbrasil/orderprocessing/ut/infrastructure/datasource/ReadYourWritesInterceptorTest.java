@@ -0,0 +1,74 @@
+package com.danielpgbrasil.orderprocessing.ut.infrastructure.datasource;
+
+import com.danielpgbrasil.orderprocessing.infrastructure.datasource.ReadYourWrites;
+import com.danielpgbrasil.orderprocessing.infrastructure.datasource.ReadYourWritesInterceptor;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+
+import static com.danielpgbrasil.orderprocessing.infrastructure.datasource.ReadYourWritesInterceptor.COOKIE_NAME;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ReadYourWritesInterceptorTest {
+
+    private final ReadYourWritesInterceptor interceptor = new ReadYourWritesInterceptor(Duration.ofMillis(4500));
+
+    @AfterEach
+    void afterEach() {
+        ReadYourWrites.clear();
+    }
+
+    @Test
+    void setsPrimaryCookieOnWrite() {
+        var request = new MockHttpServletRequest("POST", "/orders");
+        var response = new MockHttpServletResponse();
+
+        interceptor.preHandle(request, response, new Object());
+
+        var cookie = response.getCookie(COOKIE_NAME);
+        assertThat(cookie, notNullValue());
+        assertThat(cookie.getMaxAge(), is(5));
+        assertThat(cookie.isHttpOnly(), is(true));
+        assertThat(ReadYourWrites.isStuckToPrimary(), is(false));
+    }
+
+    @Test
+    void sticksReadToPrimaryWhenCookieIsPresent() {
+        var request = new MockHttpServletRequest("GET", "/orders/1");
+        request.setCookies(new Cookie(COOKIE_NAME, "1"));
+        var response = new MockHttpServletResponse();
+
+        interceptor.preHandle(request, response, new Object());
+
+        assertThat(ReadYourWrites.isStuckToPrimary(), is(true));
+        assertThat(response.getCookies(), is(emptyArray()));
+
+        interceptor.afterCompletion(request, response, new Object(), null);
+
+        assertThat(ReadYourWrites.isStuckToPrimary(), is(false));
+    }
+
+    @Test
+    void leavesReadWithoutCookieFreeToUseReplicas() {
+        var request = new MockHttpServletRequest("GET", "/orders/1");
+        request.setCookies(new Cookie("other", "1"));
+
+        interceptor.preHandle(request, new MockHttpServletResponse(), new Object());
+
+        assertThat(ReadYourWrites.isStuckToPrimary(), is(false));
+    }
+
+    @Test
+    void rejectsNonPositiveWindow() {
+        var exception = assertThrows(IllegalArgumentException.class,
+                () -> new ReadYourWritesInterceptor(Duration.ZERO));
+
+        assertThat(exception.getMessage(), is("A janela de leitura no primário deve ser positiva."));
+    }
+}
@@ -0,0 +1,65 @@
+package com.danielpgbrasil.orderprocessing.ut.infrastructure.datasource;
+
+import com.danielpgbrasil.orderprocessing.infrastructure.datasource.Replica;
+import com.danielpgbrasil.orderprocessing.infrastructure.datasource.ReplicaPool;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+
+class ReplicaPoolTest {
+
+    private Replica first;
+    private Replica second;
+    private ReplicaPool pool;
+
+    @BeforeEach
+    void beforeEach() {
+        first = new Replica("replica-0", mock(DataSource.class));
+        second = new Replica("replica-1", mock(DataSource.class));
+        pool = new ReplicaPool(List.of(first, second));
+    }
+
+    @Test
+    void returnsEmptyWhileNoReplicaWasChecked() {
+        assertThat(pool.nextHealthy(), is(Optional.empty()));
+    }
+
+    @Test
+    void alternatesBetweenHealthyReplicas() {
+        first.update(Duration.ZERO, true);
+        second.update(Duration.ZERO, true);
+
+        assertThat(pool.nextHealthy().orElseThrow(), is(first));
+        assertThat(pool.nextHealthy().orElseThrow(), is(second));
+        assertThat(pool.nextHealthy().orElseThrow(), is(first));
+    }
+
+    @Test
+    void skipsLaggingAndUnavailableReplicas() {
+        first.update(Duration.ofSeconds(30), false);
+        second.update(Duration.ZERO, true);
+
+        assertThat(pool.nextHealthy().orElseThrow(), is(second));
+        assertThat(pool.nextHealthy().orElseThrow(), is(second));
+
+        second.markUnavailable();
+
+        assertThat(pool.nextHealthy(), is(Optional.empty()));
+    }
+
+    @Test
+    void rejectsEmptyReplicaList() {
+        var exception = assertThrows(IllegalArgumentException.class, () -> new ReplicaPool(List.of()));
+
+        assertThat(exception.getMessage(), is("Nenhuma réplica configurada."));
+    }
+}
@@ -0,0 +1,112 @@
+package com.danielpgbrasil.orderprocessing.ut.infrastructure.messaging;
+
+import com.danielpgbrasil.orderprocessing.application.metrics.OrderMetrics;
+import com.danielpgbrasil.orderprocessing.application.order.event.PublishPendingOrderEventsService;
+import com.danielpgbrasil.orderprocessing.infrastructure.messaging.AsyncPublishPendingOrderEventsService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+class AsyncPublishPendingOrderEventsServiceTest {
+
+    private Queue<Runnable> submitted;
+    private PublishPendingOrderEventsService publishService;
+    private OrderMetrics orderMetrics;
+    private AsyncPublishPendingOrderEventsService service;
+
+    @BeforeEach
+    void beforeEach() {
+        submitted = new ArrayDeque<>();
+        publishService = mock(PublishPendingOrderEventsService.class);
+        orderMetrics = mock(OrderMetrics.class);
+        TaskExecutor taskExecutor = submitted::add;
+        service = new AsyncPublishPendingOrderEventsService(publishService, taskExecutor, orderMetrics);
+    }
+
+    @Test
+    void startsDrainOnExecutor() {
+        service.execute();
+
+        assertThat(submitted.size(), is(1));
+        verifyNoInteractions(publishService);
+
+        submitted.poll().run();
+
+        verify(publishService).publishPendingEvents();
+        verifyNoInteractions(orderMetrics);
+    }
+
+    @Test
+    void coalescesTriggersWhileDrainIsQueued() {
+        service.execute();
+        service.execute();
+        service.execute();
+
+        assertThat(submitted.size(), is(1));
+        verify(orderMetrics, times(2)).incrementCoalescedPublishTriggers();
+
+        submitted.poll().run();
+
+        verify(publishService, times(1)).publishPendingEvents();
+    }
+
+    @Test
+    void runsSingleFollowUpDrainForTriggersDuringDrain() {
+        doAnswer(invocation -> {
+            service.execute();
+            service.execute();
+            return PublishPendingOrderEventsService.Result.none();
+        }).doReturn(PublishPendingOrderEventsService.Result.none()).when(publishService).publishPendingEvents();
+
+        service.execute();
+        submitted.poll().run();
+
+        verify(publishService, times(2)).publishPendingEvents();
+        verify(orderMetrics, times(2)).incrementCoalescedPublishTriggers();
+        assertThat(submitted.isEmpty(), is(true));
+    }
+
+    @Test
+    void startsNewDrainAfterPreviousFinished() {
+        service.execute();
+        submitted.poll().run();
+
+        service.execute();
+
+        assertThat(submitted.size(), is(1));
+        verifyNoInteractions(orderMetrics);
+    }
+
+    @Test
+    void becomesIdleWhenDrainFails() {
+        doThrow(new RuntimeException("Drain failed")).when(publishService).publishPendingEvents();
+
+        service.execute();
+        submitted.poll().run();
+        service.execute();
+
+        assertThat(submitted.size(), is(1));
+    }
+
+    @Test
+    void becomesIdleWhenExecutorRejectsDrain() {
+        TaskExecutor rejecting = task -> {
+            throw new TaskRejectedException("Executor full");
+        };
+        var rejectingService = new AsyncPublishPendingOrderEventsService(publishService, rejecting, orderMetrics);
+
+        assertThrows(TaskRejectedException.class, rejectingService::execute);
+        assertThrows(TaskRejectedException.class, rejectingService::execute);
+
+        verifyNoInteractions(orderMetrics);
+    }
+}
@@ -0,0 +1,82 @@
+package com.danielpgbrasil.orderprocessing.ut.infrastructure.messaging;
+
+import com.danielpgbrasil.orderprocessing.infrastructure.messaging.DelayedRetryTopology;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.DirectExchange;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.core.Queue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class DelayedRetryTopologyTest {
+
+    private static final List<Duration> DELAYS = List.of(Duration.ofSeconds(1), Duration.ofSeconds(4));
+
+    private final DirectExchange exchange = new DirectExchange("order-events-exchange");
+
+    @Test
+    void declaresOneDelayQueuePerAttempt() {
+        var topology = new DelayedRetryTopology(true, DELAYS);
+
+        var declarables = topology.declarables("order-events-queue", exchange, "order-events");
+
+        var queues = declarables.getDeclarablesByType(Queue.class);
+        assertThat(queues.stream().map(Queue::getName).toList(),
+                contains("order-events-queue.retry.1", "order-events-queue.retry.2"));
+        assertThat(queues.get(1).getArguments(), allOf(
+                hasEntry("x-message-ttl", (Object) 4000),
+                hasEntry("x-dead-letter-exchange", (Object) "order-events-exchange"),
+                hasEntry("x-dead-letter-routing-key", (Object) "order-events")));
+        var bindings = declarables.getDeclarablesByType(Binding.class);
+        assertThat(bindings.stream().map(Binding::getRoutingKey).toList(),
+                contains("order-events-queue.retry.1", "order-events-queue.retry.2"));
+    }
+
+    @Test
+    void declaresNothingWhenDisabled() {
+        var topology = new DelayedRetryTopology(false, DELAYS);
+
+        var declarables = topology.declarables("order-events-queue", exchange, "order-events");
+
+        assertThat(declarables.getDeclarables(), is(empty()));
+        assertThat(topology.isEnabled(), is(false));
+    }
+
+    @Test
+    void routesToNextRetryQueueUntilAttemptsAreExhausted() {
+        var topology = new DelayedRetryTopology(true, DELAYS);
+        var first = new Message(new byte[0], new MessageProperties());
+        var second = topology.withNextAttempt(first);
+        var third = topology.withNextAttempt(second);
+
+        assertThat(topology.nextRetryQueue(first, "order-events-queue"), is(Optional.of("order-events-queue.retry.1")));
+        assertThat(topology.nextRetryQueue(second, "order-events-queue"), is(Optional.of("order-events-queue.retry.2")));
+        assertThat(topology.nextRetryQueue(third, "order-events-queue"), is(Optional.empty()));
+        assertThat(third.getMessageProperties().getHeader(DelayedRetryTopology.RETRY_ATTEMPT_HEADER), is(2));
+    }
+
+    @Test
+    void doesNotRetryWhenDisabled() {
+        var topology = new DelayedRetryTopology(false, DELAYS);
+        var message = new Message(new byte[0], new MessageProperties());
+
+        assertThat(topology.nextRetryQueue(message, "order-events-queue"), is(Optional.empty()));
+    }
+
+    @Test
+    void rejectsNonPositiveDelays() {
+        var delays = List.of(Duration.ofSeconds(1), Duration.ZERO);
+
+        var exception = assertThrows(IllegalArgumentException.class, () -> new DelayedRetryTopology(true, delays));
+
+        assertThat(exception.getMessage(), is("Os atrasos entre tentativas devem ser positivos."));
+    }
+}
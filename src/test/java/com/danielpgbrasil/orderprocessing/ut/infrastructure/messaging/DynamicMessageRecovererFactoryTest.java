@@ -1,13 +1,24 @@
 package com.danielpgbrasil.orderprocessing.ut.infrastructure.messaging;
 
+import com.danielpgbrasil.orderprocessing.domain.order.OrderId;
+import com.danielpgbrasil.orderprocessing.domain.order.OrderNotFoundException;
+import com.danielpgbrasil.orderprocessing.infrastructure.messaging.DelayedRetryTopology;
 import com.danielpgbrasil.orderprocessing.infrastructure.messaging.DynamicMessageRecovererFactory;
 import com.danielpgbrasil.orderprocessing.infrastructure.messaging.FailedMessageEnricher;
+import com.danielpgbrasil.orderprocessing.infrastructure.messaging.RetryableExceptionClassifier;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.amqp.core.Message;
 import org.springframework.amqp.core.MessageProperties;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.retry.MessageBatchRecoverer;
+import org.mockito.ArgumentCaptor;
 
+import java.time.Duration;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
 
@@ -25,7 +36,8 @@ class DynamicMessageRecovererFactoryTest {
     void beforeEach() {
         rabbitTemplate = mock(RabbitTemplate.class);
         failedMessageEnricher = mock(FailedMessageEnricher.class);
-        factory = new DynamicMessageRecovererFactory(rabbitTemplate, failedMessageEnricher);
+        factory = new DynamicMessageRecovererFactory(rabbitTemplate, failedMessageEnricher,
+                new DelayedRetryTopology(false, List.of()), new RetryableExceptionClassifier(List.of()));
     }
 
     @Test
@@ -44,6 +56,27 @@ class DynamicMessageRecovererFactoryTest {
         verify(rabbitTemplate).convertAndSend("order-events-exchange", "order-events-queue.error", enrichedMessage);
     }
 
+    @Test
+    void sendsEachMessageOfBatchToErrorQueue() {
+        var first = mock(Message.class);
+        var second = mock(Message.class);
+        var props = mock(MessageProperties.class);
+        var enrichedFirst = mock(Message.class);
+        var enrichedSecond = mock(Message.class);
+        var cause = new RuntimeException("Batch failed");
+        when(first.getMessageProperties()).thenReturn(props);
+        when(second.getMessageProperties()).thenReturn(props);
+        when(props.getConsumerQueue()).thenReturn("order-events-queue");
+        when(failedMessageEnricher.enrich(first, cause)).thenReturn(enrichedFirst);
+        when(failedMessageEnricher.enrich(second, cause)).thenReturn(enrichedSecond);
+
+        var recoverer = factory.create(ERROR_SUFFIX, QUEUE_SUFFIX_REGEX, EXCHANGE_SUFFIX);
+        ((MessageBatchRecoverer) recoverer).recover(List.of(first, second), cause);
+
+        verify(rabbitTemplate).convertAndSend("order-events-exchange", "order-events-queue.error", enrichedFirst);
+        verify(rabbitTemplate).convertAndSend("order-events-exchange", "order-events-queue.error", enrichedSecond);
+    }
+
     @Test
     void propagatesExceptionWhenRabbitTemplateThrows() {
         var message = mock(Message.class);
@@ -76,4 +109,58 @@ class DynamicMessageRecovererFactoryTest {
         verify(failedMessageEnricher).enrich(message, null);
         verifyNoInteractions(rabbitTemplate);
     }
+
+    @Test
+    void sendsMessageToNextRetryQueueWhenDelayedRetryEnabled() {
+        var delayedFactory = new DynamicMessageRecovererFactory(rabbitTemplate, failedMessageEnricher,
+                new DelayedRetryTopology(true, List.of(Duration.ofSeconds(1), Duration.ofSeconds(2))),
+                new RetryableExceptionClassifier(List.of()));
+        var props = new MessageProperties();
+        props.setConsumerQueue("order-events-queue");
+        props.setHeader(DelayedRetryTopology.RETRY_ATTEMPT_HEADER, 1);
+        var message = new Message("{}".getBytes(), props);
+
+        delayedFactory.create(ERROR_SUFFIX, QUEUE_SUFFIX_REGEX, EXCHANGE_SUFFIX).recover(message, null);
+
+        var sent = ArgumentCaptor.forClass(Message.class);
+        verify(rabbitTemplate).convertAndSend(eq("order-events-exchange"), eq("order-events-queue.retry.2"),
+                sent.capture());
+        assertThat(sent.getValue().getMessageProperties().getHeader(DelayedRetryTopology.RETRY_ATTEMPT_HEADER), is(2));
+        verifyNoInteractions(failedMessageEnricher);
+    }
+
+    @Test
+    void sendsMessageToErrorQueueWhenRetriesAreExhausted() {
+        var delayedFactory = new DynamicMessageRecovererFactory(rabbitTemplate, failedMessageEnricher,
+                new DelayedRetryTopology(true, List.of(Duration.ofSeconds(1), Duration.ofSeconds(2))),
+                new RetryableExceptionClassifier(List.of()));
+        var props = new MessageProperties();
+        props.setConsumerQueue("order-events-queue");
+        props.setHeader(DelayedRetryTopology.RETRY_ATTEMPT_HEADER, 2);
+        var message = new Message("{}".getBytes(), props);
+        var enrichedMessage = mock(Message.class);
+        when(failedMessageEnricher.enrich(message, null)).thenReturn(enrichedMessage);
+
+        delayedFactory.create(ERROR_SUFFIX, QUEUE_SUFFIX_REGEX, EXCHANGE_SUFFIX).recover(message, null);
+
+        verify(rabbitTemplate).convertAndSend("order-events-exchange", "order-events-queue.error", enrichedMessage);
+    }
+
+    @Test
+    void sendsNonRetryableFailureStraightToErrorQueue() {
+        var delayedFactory = new DynamicMessageRecovererFactory(rabbitTemplate, failedMessageEnricher,
+                new DelayedRetryTopology(true, List.of(Duration.ofSeconds(1))),
+                new RetryableExceptionClassifier(List.of()));
+        var props = new MessageProperties();
+        props.setConsumerQueue("order-events-queue");
+        var message = new Message("{}".getBytes(), props);
+        var cause = new RuntimeException("Listener failed", new OrderNotFoundException(OrderId.of(1L)));
+        var enrichedMessage = mock(Message.class);
+        when(failedMessageEnricher.enrich(message, cause)).thenReturn(enrichedMessage);
+
+        delayedFactory.create(ERROR_SUFFIX, QUEUE_SUFFIX_REGEX, EXCHANGE_SUFFIX).recover(message, cause);
+
+        verify(rabbitTemplate).convertAndSend("order-events-exchange", "order-events-queue.error", enrichedMessage);
+        verifyNoMoreInteractions(rabbitTemplate);
+    }
 }
@@ -0,0 +1,179 @@
+package com.danielpgbrasil.orderprocessing.ut.infrastructure.messaging;
+
+import com.danielpgbrasil.orderprocessing.infrastructure.messaging.DelayedRetryTopology;
+import com.danielpgbrasil.orderprocessing.infrastructure.messaging.ErrorQueueReplayer;
+import com.danielpgbrasil.orderprocessing.infrastructure.messaging.FailedMessageEnricher;
+import com.danielpgbrasil.orderprocessing.infrastructure.messaging.ReplayFilter;
+import com.danielpgbrasil.orderprocessing.infrastructure.messaging.ReplayStatus;
+import com.rabbitmq.client.AMQP;
+import com.rabbitmq.client.Channel;
+import com.rabbitmq.client.Envelope;
+import com.rabbitmq.client.GetResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.ReturnedMessage;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.ChannelCallback;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ErrorQueueReplayerTest {
+
+    private static final String ERROR_QUEUE = "order-events-queue.error";
+
+    private RabbitTemplate rabbitTemplate;
+    private Channel channel;
+    private SimpleMeterRegistry registry;
+    private ErrorQueueReplayer replayer;
+
+    @BeforeEach
+    void beforeEach() throws Exception {
+        rabbitTemplate = mock(RabbitTemplate.class);
+        channel = mock(Channel.class);
+        registry = new SimpleMeterRegistry();
+        replayer = new ErrorQueueReplayer(rabbitTemplate, registry, 2, Duration.ofSeconds(1));
+
+        when(rabbitTemplate.execute(any())).thenAnswer(invocation -> {
+            ChannelCallback<?> callback = invocation.getArgument(0);
+            return callback.doInRabbit(channel);
+        });
+        confirmSends(true);
+    }
+
+    @Test
+    void replaysMatchingMessagesAndMovesOthersToQueueTail() throws Exception {
+        queueDepth(3);
+        when(channel.basicGet(ERROR_QUEUE, false)).thenReturn(
+                response(1, "OrderNotFoundException", Map.of(
+                        FailedMessageEnricher.ORIGINAL_EXCHANGE_HEADER, "order-events-exchange",
+                        FailedMessageEnricher.ORIGINAL_ROUTING_KEY_HEADER, "order-events",
+                        DelayedRetryTopology.RETRY_ATTEMPT_HEADER, 4)),
+                response(2, "IllegalStateException", Map.of()),
+                response(3, "OrderNotFoundException", Map.of()));
+
+        var status = run(new ReplayFilter("OrderNotFoundException", null), 100, 1);
+
+        assertThat(status, is(new ReplayStatus(ReplayStatus.State.FINISHED, 3, 3, 2, 1, 0)));
+        var replayed = ArgumentCaptor.forClass(Message.class);
+        verify(rabbitTemplate, times(2)).send(eq("order-events-exchange"), eq("order-events"), replayed.capture(),
+                any(CorrelationData.class));
+        assertThat(replayed.getAllValues().get(0).getMessageProperties()
+                .getHeader(DelayedRetryTopology.RETRY_ATTEMPT_HEADER), is((Object) null));
+        verify(rabbitTemplate).send(eq("order-events-exchange"), eq(ERROR_QUEUE), any(Message.class),
+                any(CorrelationData.class));
+        verify(channel).basicAck(1, false);
+        verify(channel).basicAck(2, false);
+        verify(channel).basicAck(3, false);
+        assertThat(registry.counter("error_queue_replay_messages", "result", "replayed").count(), is(2.0));
+        assertThat(registry.counter("error_queue_replay_messages", "result", "skipped").count(), is(1.0));
+    }
+
+    @Test
+    void requeuesMessageWhenSendIsNotConfirmed() throws Exception {
+        queueDepth(1);
+        confirmSends(false);
+        when(channel.basicGet(ERROR_QUEUE, false)).thenReturn(response(1, "Erro", Map.of()));
+
+        var status = run(new ReplayFilter(null, null), 100, 1);
+
+        assertThat(status.failed(), is(1L));
+        verify(channel).basicNack(1, false, true);
+        verify(channel, never()).basicAck(anyLong(), anyBoolean());
+    }
+
+    @Test
+    void requeuesMessageWhenSendIsReturnedAsUnroutable() throws Exception {
+        queueDepth(1);
+        doAnswer(invocation -> {
+            CorrelationData correlation = invocation.getArgument(3);
+            correlation.setReturned(new ReturnedMessage(invocation.getArgument(2), 312, "NO_ROUTE",
+                    invocation.getArgument(0), invocation.getArgument(1)));
+            correlation.getFuture().complete(new CorrelationData.Confirm(true, null));
+            return null;
+        }).when(rabbitTemplate).send(anyString(), anyString(), any(Message.class), any(CorrelationData.class));
+        when(channel.basicGet(ERROR_QUEUE, false)).thenReturn(response(1, "Erro", Map.of()));
+
+        var status = run(new ReplayFilter(null, null), 100, 1);
+
+        assertThat(status.failed(), is(1L));
+        verify(channel).basicNack(1, false, true);
+        verify(channel, never()).basicAck(anyLong(), anyBoolean());
+    }
+
+    @Test
+    void stopsWhenQueueIsEmptied() throws Exception {
+        queueDepth(5);
+        when(channel.basicGet(ERROR_QUEUE, false)).thenReturn(response(1, "Erro", Map.of()), (GetResponse) null);
+
+        var status = run(new ReplayFilter(null, null), 100, 2);
+
+        assertThat(status.replayed(), is(1L));
+        assertThat(status.total(), is(5L));
+    }
+
+    @Test
+    void limitsScannedMessages() throws Exception {
+        queueDepth(10);
+        when(channel.basicGet(ERROR_QUEUE, false)).thenAnswer(invocation -> response(1, "Erro", Map.of()));
+
+        var status = run(new ReplayFilter(null, null), 4, 3);
+
+        assertThat(status.total(), is(4L));
+        assertThat(status.replayed(), is(4L));
+    }
+
+    @Test
+    void reportsIdleBeforeFirstReplay() {
+        assertThat(replayer.status(), is(ReplayStatus.idle()));
+    }
+
+    @Test
+    void rejectsInvalidArguments() {
+        var filter = new ReplayFilter(null, null);
+
+        assertThrows(IllegalArgumentException.class, () -> replayer.start(filter, 0, 10, 1));
+        assertThrows(IllegalArgumentException.class, () -> replayer.start(filter, 10, 10, 0));
+        assertThrows(IllegalArgumentException.class, () -> replayer.start(filter, 10, 0, 1));
+    }
+
+    private ReplayStatus run(ReplayFilter filter, long limit, int concurrency) {
+        replayer.start(filter, limit, 10_000, concurrency);
+        await().atMost(Duration.ofSeconds(5))
+                .until(() -> replayer.status().state() == ReplayStatus.State.FINISHED);
+        return replayer.status();
+    }
+
+    private void queueDepth(int depth) throws Exception {
+        when(channel.queueDeclarePassive(ERROR_QUEUE))
+                .thenReturn(new AMQP.Queue.DeclareOk.Builder().queue(ERROR_QUEUE).messageCount(depth).build());
+    }
+
+    private void confirmSends(boolean ack) {
+        doAnswer(invocation -> {
+            CorrelationData correlation = invocation.getArgument(3);
+            correlation.getFuture().complete(new CorrelationData.Confirm(ack, null));
+            return null;
+        }).when(rabbitTemplate).send(anyString(), anyString(), any(Message.class), any(CorrelationData.class));
+    }
+
+    private static GetResponse response(long deliveryTag, String errorRoot, Map<String, Object> headers) {
+        var allHeaders = new HashMap<String, Object>(headers);
+        allHeaders.put(FailedMessageEnricher.ERROR_ROOT_HEADER, errorRoot);
+        var properties = new AMQP.BasicProperties.Builder().headers(allHeaders).build();
+        var envelope = new Envelope(deliveryTag, false, "order-events-exchange", ERROR_QUEUE);
+        return new GetResponse(envelope, properties, "{}".getBytes(), 0);
+    }
+}
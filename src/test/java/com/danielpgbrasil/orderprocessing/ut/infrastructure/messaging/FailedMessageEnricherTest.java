@@ -1,5 +1,8 @@
 package com.danielpgbrasil.orderprocessing.ut.infrastructure.messaging;
 
+import com.danielpgbrasil.orderprocessing.domain.shared.AppClock;
+import com.danielpgbrasil.orderprocessing.fixture.TimeMillisFixture;
+import com.danielpgbrasil.orderprocessing.infrastructure.messaging.ErrorTraceStore;
 import com.danielpgbrasil.orderprocessing.infrastructure.messaging.FailedMessageEnricher;
 import com.danielpgbrasil.orderprocessing.infrastructure.shared.ExceptionDetailsExtractor;
 import org.junit.jupiter.api.BeforeEach;
@@ -7,6 +10,8 @@ import org.junit.jupiter.api.Test;
 import org.springframework.amqp.core.Message;
 import org.springframework.amqp.core.MessageBuilder;
 
+import java.time.Instant;
+
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -15,12 +20,18 @@ import static org.mockito.Mockito.*;
 class FailedMessageEnricherTest {
 
     private ExceptionDetailsExtractor exceptionDetailsExtractor;
+    private ErrorTraceStore errorTraceStore;
+    private AppClock clock;
     private FailedMessageEnricher enricher;
 
     @BeforeEach
     void setUp() {
         exceptionDetailsExtractor = mock(ExceptionDetailsExtractor.class);
-        enricher = new FailedMessageEnricher(exceptionDetailsExtractor);
+        errorTraceStore = mock(ErrorTraceStore.class);
+        clock = mock(AppClock.class);
+        enricher = new FailedMessageEnricher(exceptionDetailsExtractor, errorTraceStore, clock, "full", 1024);
+
+        when(clock.now()).thenReturn(TimeMillisFixture.NOW);
     }
 
     @Test
@@ -37,10 +48,111 @@ class FailedMessageEnricherTest {
         assertThat(enrichedMessage.getBody(), is(originalMessage.getBody()));
         assertThat(enrichedMessage.getMessageProperties().getHeaders().get("x-error-root"), is("Root cause message"));
         assertThat(enrichedMessage.getMessageProperties().getHeaders().get("x-error-trace"), is("stack trace"));
-        assertThat(enrichedMessage.getMessageProperties().getHeaders().get("x-error-time"), notNullValue());
+        assertThat(enrichedMessage.getMessageProperties().getHeaders().get("x-error-time"),
+                is(Instant.ofEpochMilli(TimeMillisFixture.NOW.value()).toString()));
+
+        assertThat(enrichedMessage.getMessageProperties().getHeaders().get("x-error-fingerprint"), nullValue());
 
         verify(exceptionDetailsExtractor).rootCauseMessage(throwable);
         verify(exceptionDetailsExtractor).stackTraceToString(throwable);
+        verifyNoInteractions(errorTraceStore);
+    }
+
+    @Test
+    void enrichKeepsOriginalExchangeAndRoutingKey() {
+        var originalMessage = MessageBuilder.withBody("test".getBytes()).build();
+        originalMessage.getMessageProperties().setReceivedExchange("order-events-exchange");
+        originalMessage.getMessageProperties().setReceivedRoutingKey("order-events");
+        var throwable = new RuntimeException();
+
+        var enrichedMessage = enricher.enrich(originalMessage, throwable);
+
+        var headers = enrichedMessage.getMessageProperties().getHeaders();
+        assertThat(headers.get("x-original-exchange"), is("order-events-exchange"));
+        assertThat(headers.get("x-original-routing-key"), is("order-events"));
+    }
+
+    @Test
+    void enrichAddsFingerprintAndTruncatedTraceInFingerprintMode() {
+        var fingerprintEnricher = new FailedMessageEnricher(exceptionDetailsExtractor, errorTraceStore, clock,
+                "fingerprint", 100);
+        var originalMessage = MessageBuilder.withBody("test".getBytes()).build();
+        var throwable = new RuntimeException("something went wrong");
+        when(exceptionDetailsExtractor.rootCauseMessage(throwable)).thenReturn("Root cause message");
+        when(exceptionDetailsExtractor.fingerprint(throwable)).thenReturn("abc123");
+        when(exceptionDetailsExtractor.truncatedStackTrace(throwable, 100)).thenReturn("short trace");
+        when(exceptionDetailsExtractor.stackTraceToString(throwable)).thenReturn("full stack trace");
+
+        var enrichedMessage = fingerprintEnricher.enrich(originalMessage, throwable);
+
+        var headers = enrichedMessage.getMessageProperties().getHeaders();
+        assertThat(headers.get("x-error-root"), is("Root cause message"));
+        assertThat(headers.get("x-error-fingerprint"), is("abc123"));
+        assertThat(headers.get("x-error-trace"), is("short trace"));
+        verify(errorTraceStore).save("abc123", "full stack trace", TimeMillisFixture.NOW);
+    }
+
+    @Test
+    void storesEachFingerprintOnce() {
+        var fingerprintEnricher = new FailedMessageEnricher(exceptionDetailsExtractor, errorTraceStore, clock,
+                "fingerprint", 100);
+        var originalMessage = MessageBuilder.withBody("test".getBytes()).build();
+        var throwable = new RuntimeException();
+        when(exceptionDetailsExtractor.fingerprint(throwable)).thenReturn("abc123");
+        when(exceptionDetailsExtractor.stackTraceToString(throwable)).thenReturn("full stack trace");
+
+        fingerprintEnricher.enrich(originalMessage, throwable);
+        fingerprintEnricher.enrich(originalMessage, throwable);
+
+        verify(errorTraceStore, times(1)).save(any(), any(), any());
+    }
+
+    @Test
+    void keepsRecentlyUsedFingerprintsWhenCacheIsFull() {
+        var fingerprintEnricher = new FailedMessageEnricher(exceptionDetailsExtractor, errorTraceStore, clock,
+                "fingerprint", 100);
+        var originalMessage = MessageBuilder.withBody("test".getBytes()).build();
+        var hot = new RuntimeException("hot");
+        when(exceptionDetailsExtractor.fingerprint(hot)).thenReturn("hot");
+        fingerprintEnricher.enrich(originalMessage, hot);
+
+        for (var i = 0; i < 1_000; i++) {
+            var other = new RuntimeException();
+            when(exceptionDetailsExtractor.fingerprint(other)).thenReturn("other-" + i);
+            fingerprintEnricher.enrich(originalMessage, hot);
+            fingerprintEnricher.enrich(originalMessage, other);
+        }
+        var evicted = new RuntimeException();
+        when(exceptionDetailsExtractor.fingerprint(evicted)).thenReturn("other-0");
+        fingerprintEnricher.enrich(originalMessage, hot);
+        fingerprintEnricher.enrich(originalMessage, evicted);
+
+        verify(errorTraceStore, times(1)).save(eq("hot"), any(), any());
+        verify(errorTraceStore, times(2)).save(eq("other-0"), any(), any());
+    }
+
+    @Test
+    void enrichesMessageWhenTraceStoreFails() {
+        var fingerprintEnricher = new FailedMessageEnricher(exceptionDetailsExtractor, errorTraceStore, clock,
+                "fingerprint", 100);
+        var originalMessage = MessageBuilder.withBody("test".getBytes()).build();
+        var throwable = new RuntimeException();
+        when(exceptionDetailsExtractor.fingerprint(throwable)).thenReturn("abc123");
+        doThrow(new RuntimeException("Banco indisponível")).when(errorTraceStore).save(any(), any(), any());
+
+        var enrichedMessage = fingerprintEnricher.enrich(originalMessage, throwable);
+        fingerprintEnricher.enrich(originalMessage, throwable);
+
+        assertThat(enrichedMessage.getMessageProperties().getHeaders().get("x-error-fingerprint"), is("abc123"));
+        verify(errorTraceStore, times(2)).save(any(), any(), any());
+    }
+
+    @Test
+    void rejectsUnknownMode() {
+        var exception = assertThrows(IllegalArgumentException.class,
+                () -> new FailedMessageEnricher(exceptionDetailsExtractor, errorTraceStore, clock, "compact", 100));
+
+        assertThat(exception.getMessage(), is("Modo de stack trace não suportado: compact"));
     }
 
     @Test
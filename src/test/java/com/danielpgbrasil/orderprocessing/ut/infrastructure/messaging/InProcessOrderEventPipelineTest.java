@@ -0,0 +1,129 @@
+package com.danielpgbrasil.orderprocessing.ut.infrastructure.messaging;
+
+import com.danielpgbrasil.orderprocessing.application.metrics.OrderMetrics;
+import com.danielpgbrasil.orderprocessing.application.order.ProcessOrderEventService;
+import com.danielpgbrasil.orderprocessing.domain.order.event.OrderEvent;
+import com.danielpgbrasil.orderprocessing.domain.order.event.OrderEventType;
+import com.danielpgbrasil.orderprocessing.fixture.OrderEventFixture;
+import com.danielpgbrasil.orderprocessing.infrastructure.messaging.InProcessOrderEventPipeline;
+import com.danielpgbrasil.orderprocessing.infrastructure.messaging.OrderLanes;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class InProcessOrderEventPipelineTest {
+
+    private ProcessOrderEventService processService;
+    private OrderMetrics orderMetrics;
+    private OrderLanes orderLanes;
+    private InProcessOrderEventPipeline pipeline;
+
+    @BeforeEach
+    void beforeEach() {
+        processService = mock(ProcessOrderEventService.class);
+        orderMetrics = mock(OrderMetrics.class);
+        orderLanes = new OrderLanes(4, false);
+        pipeline = new InProcessOrderEventPipeline(processService, orderLanes, orderMetrics, true);
+
+        when(processService.triggersTransition(any())).thenReturn(true);
+        when(processService.process(any())).thenReturn(true);
+    }
+
+    @AfterEach
+    void afterEach() {
+        orderLanes.shutdown();
+    }
+
+    @Test
+    void processesEventOnItsOrderLane() throws Exception {
+        var event = OrderEventFixture.builder().withType(OrderEventType.CREATED).build();
+        var release = new CountDownLatch(1);
+        orderLanes.submit(event.orderId(), () -> await(release));
+
+        pipeline.submit(event);
+
+        verify(processService, never()).process(any());
+
+        release.countDown();
+        drainLane(event);
+
+        verify(processService).process(event);
+        verify(orderMetrics).incrementInProcessTransitions();
+    }
+
+    @Test
+    void doesNotCountDuplicateEvent() throws Exception {
+        var event = OrderEventFixture.builder().withType(OrderEventType.CREATED).build();
+        when(processService.process(event)).thenReturn(false);
+
+        pipeline.submit(event);
+        drainLane(event);
+
+        verify(processService).process(event);
+        verifyNoInteractions(orderMetrics);
+    }
+
+    @Test
+    void ignoresEventsWithoutNextTransition() throws Exception {
+        var event = OrderEventFixture.builder().withType(OrderEventType.DELIVERED).build();
+        when(processService.triggersTransition(OrderEventType.DELIVERED)).thenReturn(false);
+
+        pipeline.submit(event);
+        drainLane(event);
+
+        verify(processService, never()).process(any());
+    }
+
+    @Test
+    void ignoresEventsWhenDisabled() throws Exception {
+        var disabled = new InProcessOrderEventPipeline(processService, orderLanes, orderMetrics, false);
+        var event = OrderEventFixture.builder().withType(OrderEventType.CREATED).build();
+
+        disabled.submit(event);
+        drainLane(event);
+
+        verify(processService, never()).process(any());
+        verifyNoInteractions(orderMetrics);
+    }
+
+    @Test
+    void fallsBackToBrokerWhenProcessingFails() throws Exception {
+        var event = OrderEventFixture.builder().withType(OrderEventType.CREATED).build();
+        when(processService.process(event)).thenThrow(new IllegalStateException("Falha"));
+
+        pipeline.submit(event);
+        drainLane(event);
+
+        verify(orderMetrics).incrementInProcessFallbacks();
+        verify(orderMetrics, never()).incrementInProcessTransitions();
+    }
+
+    @Test
+    void fallsBackToBrokerWhenLaneRejects() {
+        orderLanes.shutdown();
+        var event = OrderEventFixture.builder().withType(OrderEventType.CREATED).build();
+
+        pipeline.submit(event);
+
+        verify(orderMetrics).incrementInProcessFallbacks();
+        verify(processService, never()).process(any());
+    }
+
+    private void drainLane(OrderEvent event) throws Exception {
+        orderLanes.submit(event.orderId(), () -> { }).get(1, TimeUnit.SECONDS);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
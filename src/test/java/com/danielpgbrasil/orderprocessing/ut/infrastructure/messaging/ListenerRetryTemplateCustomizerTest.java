@@ -0,0 +1,92 @@
+package com.danielpgbrasil.orderprocessing.ut.infrastructure.messaging;
+
+import com.danielpgbrasil.orderprocessing.application.metrics.OrderMetrics;
+import com.danielpgbrasil.orderprocessing.domain.order.OrderId;
+import com.danielpgbrasil.orderprocessing.domain.order.OrderNotFoundException;
+import com.danielpgbrasil.orderprocessing.infrastructure.messaging.DelayedRetryTopology;
+import com.danielpgbrasil.orderprocessing.infrastructure.messaging.ListenerRetryTemplateCustomizer;
+import com.danielpgbrasil.orderprocessing.infrastructure.messaging.RetryableExceptionClassifier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.amqp.RabbitProperties;
+import org.springframework.boot.autoconfigure.amqp.RabbitRetryTemplateCustomizer.Target;
+import org.springframework.retry.backoff.NoBackOffPolicy;
+import org.springframework.retry.support.RetryTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+class ListenerRetryTemplateCustomizerTest {
+
+    private OrderMetrics orderMetrics;
+    private RabbitProperties rabbitProperties;
+    private RetryTemplate template;
+
+    @BeforeEach
+    void beforeEach() {
+        orderMetrics = mock(OrderMetrics.class);
+        rabbitProperties = new RabbitProperties();
+        rabbitProperties.getListener().getSimple().getRetry().setMaxAttempts(3);
+        template = new RetryTemplate();
+        template.setBackOffPolicy(new NoBackOffPolicy());
+    }
+
+    @Test
+    void retriesRetryableFailuresUpToMaxAttempts() {
+        customizer(false).customize(Target.LISTENER, template);
+
+        var attempts = execute(new IllegalStateException("Teste de retry"));
+
+        assertThat(attempts, is(3));
+        verify(orderMetrics, times(3)).consumerRetryAttempt("IllegalStateException", true);
+    }
+
+    @Test
+    void doesNotRetryNonRetryableFailures() {
+        customizer(false).customize(Target.LISTENER, template);
+
+        var attempts = execute(new OrderNotFoundException(OrderId.of(1L)));
+
+        assertThat(attempts, is(1));
+        verify(orderMetrics).consumerRetryAttempt("OrderNotFoundException", false);
+    }
+
+    @Test
+    void runsSingleAttemptWhenDelayedRetryEnabled() {
+        customizer(true).customize(Target.LISTENER, template);
+
+        var attempts = execute(new IllegalStateException("Teste de retry"));
+
+        assertThat(attempts, is(1));
+    }
+
+    @Test
+    void ignoresSenderTemplate() {
+        customizer(false).customize(Target.SENDER, template);
+
+        var attempts = execute(new OrderNotFoundException(OrderId.of(1L)));
+
+        assertThat(attempts, is(3));
+        verifyNoInteractions(orderMetrics);
+    }
+
+    private ListenerRetryTemplateCustomizer customizer(boolean delayed) {
+        return new ListenerRetryTemplateCustomizer(new RetryableExceptionClassifier(List.of()),
+                new DelayedRetryTopology(delayed, List.of(Duration.ofSeconds(1))), orderMetrics, rabbitProperties);
+    }
+
+    private int execute(RuntimeException failure) {
+        var attempts = new AtomicInteger();
+        assertThrows(failure.getClass(), () -> template.execute(context -> {
+            attempts.incrementAndGet();
+            throw failure;
+        }));
+        return attempts.get();
+    }
+}
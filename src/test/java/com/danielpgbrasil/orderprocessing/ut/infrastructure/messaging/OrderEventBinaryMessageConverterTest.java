@@ -0,0 +1,128 @@
+package com.danielpgbrasil.orderprocessing.ut.infrastructure.messaging;
+
+import com.danielpgbrasil.orderprocessing.domain.order.event.OrderEventType;
+import com.danielpgbrasil.orderprocessing.fixture.OrderEventFixture;
+import com.danielpgbrasil.orderprocessing.infrastructure.config.JacksonConfig;
+import com.danielpgbrasil.orderprocessing.infrastructure.messaging.DelayedRetryTopology;
+import com.danielpgbrasil.orderprocessing.infrastructure.messaging.OrderEventBinaryMessageConverter;
+import com.danielpgbrasil.orderprocessing.infrastructure.messaging.RabbitMqConfig;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.amqp.support.converter.MessageConverter;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class OrderEventBinaryMessageConverterTest {
+
+    private final OrderEventBinaryMessageConverter converter = new OrderEventBinaryMessageConverter();
+
+    @ParameterizedTest
+    @EnumSource(OrderEventType.class)
+    void convertsEventBackAndForth(OrderEventType type) {
+        var event = OrderEventFixture.builder().withType(type).withPublished(true).build();
+
+        var message = converter.toMessage(event, new MessageProperties());
+
+        assertThat(message.getMessageProperties().getContentType(), is(OrderEventBinaryMessageConverter.CONTENT_TYPE));
+        assertThat(message.getBody().length, is(OrderEventBinaryMessageConverter.SIZE));
+        assertThat(message.getBody()[0], is(OrderEventBinaryMessageConverter.VERSION));
+        assertThat(converter.fromMessage(message), is(event));
+    }
+
+    @Test
+    void convertsEventWithoutId() {
+        var event = OrderEventFixture.builder().withId(null).build();
+
+        var converted = converter.fromMessage(converter.toMessage(event, new MessageProperties()));
+
+        assertThat(converted, is(event));
+    }
+
+    @Test
+    void isSmallerThanJson() {
+        var event = OrderEventFixture.builder().build();
+        var json = new Jackson2JsonMessageConverter(new JacksonConfig().objectMapper())
+                .toMessage(event, new MessageProperties());
+
+        var binary = converter.toMessage(event, new MessageProperties());
+
+        assertThat(binary.getBody().length, is(27));
+        assertThat(binary.getBody().length, lessThan(json.getBody().length / 3));
+    }
+
+    @Test
+    void rejectsUnsupportedVersion() {
+        var body = converter.toMessage(OrderEventFixture.builder().build(), new MessageProperties()).getBody();
+        body[0] = 2;
+        var message = new Message(body, new MessageProperties());
+
+        var exception = assertThrows(MessageConversionException.class, () -> converter.fromMessage(message));
+
+        assertThat(exception.getMessage(), is("Versão do formato binário não suportada: 2"));
+    }
+
+    @Test
+    void rejectsUnknownEventType() {
+        var body = converter.toMessage(OrderEventFixture.builder().build(), new MessageProperties()).getBody();
+        body[body.length - 1] = 99;
+        var message = new Message(body, new MessageProperties());
+
+        var exception = assertThrows(MessageConversionException.class, () -> converter.fromMessage(message));
+
+        assertThat(exception.getMessage(), is("Tipo de evento desconhecido: 99"));
+    }
+
+    @Test
+    void rejectsTruncatedMessage() {
+        var body = converter.toMessage(OrderEventFixture.builder().build(), new MessageProperties()).getBody();
+        var message = new Message(Arrays.copyOf(body, 10), new MessageProperties());
+
+        var exception = assertThrows(MessageConversionException.class, () -> converter.fromMessage(message));
+
+        assertThat(exception.getMessage(), is("Mensagem binária incompleta."));
+    }
+
+    @Test
+    void rejectsObjectThatIsNotAnEvent() {
+        var properties = new MessageProperties();
+
+        assertThrows(MessageConversionException.class, () -> converter.toMessage("texto", properties));
+    }
+
+    @Test
+    void negotiatesFormatByContentType() {
+        var event = OrderEventFixture.builder().build();
+        var jsonProducer = messageConverter("json");
+        var binaryProducer = messageConverter("binary");
+
+        var json = jsonProducer.toMessage(event, new MessageProperties());
+        var binary = binaryProducer.toMessage(event, new MessageProperties());
+
+        assertThat(json.getMessageProperties().getContentType(), is(MessageProperties.CONTENT_TYPE_JSON));
+        assertThat(binary.getMessageProperties().getContentType(), is(OrderEventBinaryMessageConverter.CONTENT_TYPE));
+        assertThat(binaryProducer.fromMessage(json), is(event));
+        assertThat(jsonProducer.fromMessage(binary), is(event));
+    }
+
+    @Test
+    void rejectsUnknownWireFormat() {
+        var exception = assertThrows(IllegalArgumentException.class, () -> messageConverter("xml"));
+
+        assertThat(exception.getMessage(), is("Formato de mensagem não suportado: xml"));
+    }
+
+    private static MessageConverter messageConverter(String wireFormat) {
+        var config = new RabbitMqConfig(null, new DelayedRetryTopology(false, List.of()));
+        return config.messageConverter(new JacksonConfig().objectMapper(), wireFormat);
+    }
+}
@@ -0,0 +1,133 @@
+package com.danielpgbrasil.orderprocessing.ut.infrastructure.messaging;
+
+import com.danielpgbrasil.orderprocessing.domain.order.OrderId;
+import com.danielpgbrasil.orderprocessing.infrastructure.messaging.OrderLanes;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class OrderLanesTest {
+
+    private final OrderLanes lanes = new OrderLanes(4, false);
+
+    @AfterEach
+    void afterEach() {
+        lanes.shutdown();
+    }
+
+    @Test
+    void mapsOrdersOntoLanesByHash() {
+        assertThat(lanes.size(), is(4));
+        assertThat(lanes.laneOf(OrderId.of(1L)), is(1));
+        assertThat(lanes.laneOf(OrderId.of(5L)), is(1));
+        assertThat(lanes.laneOf(OrderId.of(6L)), is(2));
+    }
+
+    @Test
+    void runsWorkOfSameLaneInSubmissionOrder() throws Exception {
+        var release = new CountDownLatch(1);
+        var ran = new CopyOnWriteArrayList<Integer>();
+
+        lanes.submit(OrderId.of(1L), () -> {
+            await(release);
+            ran.add(1);
+        });
+        lanes.submit(OrderId.of(5L), () -> ran.add(2));
+        var last = lanes.submit(OrderId.of(1L), () -> ran.add(3));
+
+        Thread.sleep(50);
+        assertThat(ran, is(empty()));
+
+        release.countDown();
+        last.get(1, TimeUnit.SECONDS);
+        assertThat(ran, is(List.of(1, 2, 3)));
+    }
+
+    @Test
+    void runsOrdersOfDifferentLanesConcurrently() throws Exception {
+        var release = new CountDownLatch(1);
+
+        var busy = lanes.submit(OrderId.of(1L), () -> await(release));
+
+        lanes.submit(OrderId.of(2L), () -> { }).get(1, TimeUnit.SECONDS);
+        assertThat(busy.isDone(), is(false));
+
+        release.countDown();
+        busy.get(1, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void runsWorkOnLaneThreadAndReturnsToCaller() throws Exception {
+        var release = new CountDownLatch(1);
+        var thread = new ArrayList<String>();
+
+        var future = lanes.submit(OrderId.of(3L), () -> {
+            await(release);
+            thread.add(Thread.currentThread().getName());
+        });
+
+        assertThat(future.isDone(), is(false));
+        release.countDown();
+        future.get(1, TimeUnit.SECONDS);
+        assertThat(thread.getFirst(), startsWith("order-lane-"));
+    }
+
+    @Test
+    void keepsLaneRunningAfterWorkFails() throws Exception {
+        var failed = lanes.submit(OrderId.of(3L), () -> {
+            throw new IllegalStateException("Falha");
+        });
+
+        var exception = assertThrows(ExecutionException.class, () -> failed.get(1, TimeUnit.SECONDS));
+        assertThat(exception.getCause(), is(instanceOf(IllegalStateException.class)));
+        lanes.submit(OrderId.of(3L), () -> { }).get(1, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void groupsItemsByLaneKeepingArrivalOrder() {
+        var orderIds = List.of(OrderId.of(5L), OrderId.of(2L), OrderId.of(1L), OrderId.of(6L), OrderId.of(9L));
+
+        var groups = lanes.groupByLane(orderIds, Function.identity());
+
+        assertThat(List.copyOf(groups), is(List.of(
+                List.of(OrderId.of(5L), OrderId.of(1L), OrderId.of(9L)),
+                List.of(OrderId.of(2L), OrderId.of(6L)))));
+    }
+
+    @Test
+    void rejectsWorkAfterShutdown() {
+        lanes.shutdown();
+
+        assertThrows(RejectedExecutionException.class, () -> lanes.submit(OrderId.of(1L), () -> { }));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1})
+    void rejectsNonPositiveLanes(int size) {
+        var exception = assertThrows(IllegalArgumentException.class, () -> new OrderLanes(size, false));
+
+        assertThat(exception.getMessage(), is("A quantidade de raias deve ser positiva."));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.danielpgbrasil.orderprocessing.ut.infrastructure.messaging;
+
+import com.danielpgbrasil.orderprocessing.application.metrics.OrderMetrics;
+import com.danielpgbrasil.orderprocessing.application.order.event.PublishPendingOrderEventsService;
+import com.danielpgbrasil.orderprocessing.application.order.event.PublishPendingOrderEventsService.Result;
+import com.danielpgbrasil.orderprocessing.infrastructure.messaging.PublishPendingOrderEventsScheduler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.TriggerContext;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+class PublishPendingOrderEventsSchedulerTest {
+
+    private static final Duration FLOOR = Duration.ofMillis(100);
+    private static final Duration CEILING = Duration.ofMillis(1000);
+
+    private PublishPendingOrderEventsService publishService;
+    private OrderMetrics orderMetrics;
+    private PublishPendingOrderEventsScheduler scheduler;
+
+    @BeforeEach
+    void beforeEach() {
+        publishService = mock(PublishPendingOrderEventsService.class);
+        orderMetrics = mock(OrderMetrics.class);
+        scheduler = new PublishPendingOrderEventsScheduler(publishService, orderMetrics, FLOOR, CEILING, 3.0);
+    }
+
+    @Test
+    void startsAtFloor() {
+        assertThat(scheduler.currentInterval(), is(FLOOR));
+        verify(orderMetrics).publishPollingInterval(FLOOR);
+    }
+
+    @Test
+    void backsOffExponentiallyUpToCeilingWhileOutboxIsEmpty() {
+        when(publishService.publishPendingEvents()).thenReturn(Result.none());
+
+        scheduler.run();
+        assertThat(scheduler.currentInterval(), is(Duration.ofMillis(300)));
+        scheduler.run();
+        assertThat(scheduler.currentInterval(), is(Duration.ofMillis(900)));
+        scheduler.run();
+        assertThat(scheduler.currentInterval(), is(CEILING));
+        scheduler.run();
+        assertThat(scheduler.currentInterval(), is(CEILING));
+
+        verify(orderMetrics).publishPollingInterval(Duration.ofMillis(300));
+        verify(orderMetrics).publishPollingInterval(Duration.ofMillis(900));
+        verify(orderMetrics, times(2)).publishPollingInterval(CEILING);
+    }
+
+    @Test
+    void returnsToFloorWhenEventsArePublished() {
+        when(publishService.publishPendingEvents()).thenReturn(Result.none(), Result.none(), new Result(5, 5));
+
+        scheduler.run();
+        scheduler.run();
+        scheduler.run();
+
+        assertThat(scheduler.currentInterval(), is(FLOOR));
+    }
+
+    @Test
+    void backsOffWhenClaimedEventsAreNotConfirmed() {
+        when(publishService.publishPendingEvents()).thenReturn(new Result(5, 0));
+
+        scheduler.run();
+        assertThat(scheduler.currentInterval(), is(Duration.ofMillis(300)));
+        scheduler.run();
+        assertThat(scheduler.currentInterval(), is(Duration.ofMillis(900)));
+    }
+
+    @Test
+    void backsOffWhenRoundHasFailures() {
+        when(publishService.publishPendingEvents()).thenReturn(new Result(5, 4));
+
+        scheduler.run();
+
+        assertThat(scheduler.currentInterval(), is(Duration.ofMillis(300)));
+    }
+
+    @Test
+    void backsOffWhenPublishingFails() {
+        when(publishService.publishPendingEvents()).thenThrow(new RuntimeException("Database down"));
+
+        scheduler.run();
+
+        assertThat(scheduler.currentInterval(), is(Duration.ofMillis(300)));
+    }
+
+    @Test
+    void schedulesNextExecutionAfterLastCompletion() {
+        var lastCompletion = Instant.parse("2025-01-01T00:00:00Z");
+        var context = mock(TriggerContext.class);
+        when(context.lastCompletion()).thenReturn(lastCompletion);
+
+        assertThat(scheduler.nextExecution(context), is(lastCompletion.plus(FLOOR)));
+    }
+
+    @Test
+    void schedulesFirstExecutionFromNow() {
+        var now = Instant.parse("2025-01-01T00:00:00Z");
+        var context = mock(TriggerContext.class);
+        when(context.getClock()).thenReturn(Clock.fixed(now, ZoneOffset.UTC));
+
+        assertThat(scheduler.nextExecution(context), is(now.plus(FLOOR)));
+    }
+
+    @Test
+    void rejectsFloorGreaterThanCeiling() {
+        var exception = assertThrows(IllegalArgumentException.class,
+                () -> new PublishPendingOrderEventsScheduler(publishService, orderMetrics, CEILING, FLOOR, 2.0));
+
+        assertThat(exception.getMessage(), is("O intervalo mínimo deve ser de zero até o intervalo máximo."));
+    }
+
+    @Test
+    void rejectsBackoffFactorLowerThanOne() {
+        var exception = assertThrows(IllegalArgumentException.class,
+                () -> new PublishPendingOrderEventsScheduler(publishService, orderMetrics, FLOOR, CEILING, 0.5));
+
+        assertThat(exception.getMessage(), is("O fator de recuo deve ser maior ou igual a 1."));
+    }
+}
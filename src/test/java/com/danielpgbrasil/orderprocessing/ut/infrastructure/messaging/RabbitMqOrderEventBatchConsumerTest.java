@@ -0,0 +1,252 @@
+package com.danielpgbrasil.orderprocessing.ut.infrastructure.messaging;
+
+import com.danielpgbrasil.orderprocessing.application.metrics.OrderMetrics;
+import com.danielpgbrasil.orderprocessing.application.order.ApplyOrderEventsService;
+import com.danielpgbrasil.orderprocessing.domain.order.OrderId;
+import com.danielpgbrasil.orderprocessing.domain.order.OrderNotFoundException;
+import com.danielpgbrasil.orderprocessing.domain.order.event.OrderEventId;
+import com.danielpgbrasil.orderprocessing.domain.shared.TimeMillis;
+import com.danielpgbrasil.orderprocessing.fixture.OrderEventFixture;
+import com.danielpgbrasil.orderprocessing.infrastructure.messaging.OrderLanes;
+import com.danielpgbrasil.orderprocessing.infrastructure.messaging.RabbitMqOrderEventBatchConsumer;
+import com.rabbitmq.client.Channel;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.retry.MessageRecoverer;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.retry.support.RetryTemplate;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import static com.danielpgbrasil.orderprocessing.fixture.OrderFixture.ORDER_ID;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class RabbitMqOrderEventBatchConsumerTest {
+
+    private ApplyOrderEventsService applyService;
+    private MessageConverter messageConverter;
+    private MessageRecoverer messageRecoverer;
+    private OrderMetrics orderMetrics;
+    private OrderLanes orderLanes;
+    private Channel channel;
+    private RabbitMqOrderEventBatchConsumer consumer;
+
+    @BeforeEach
+    void beforeEach() {
+        applyService = mock(ApplyOrderEventsService.class);
+        messageConverter = mock(MessageConverter.class);
+        messageRecoverer = mock(MessageRecoverer.class);
+        orderMetrics = mock(OrderMetrics.class);
+        orderLanes = new OrderLanes(4, false);
+        channel = mock(Channel.class);
+        var retryOperations = RetryTemplate.builder().maxAttempts(2).noBackoff().build();
+        consumer = new RabbitMqOrderEventBatchConsumer(applyService, messageConverter, messageRecoverer,
+                retryOperations, orderMetrics, orderLanes);
+
+        when(applyService.applyAll(any())).thenReturn(List.of());
+    }
+
+    @AfterEach
+    void afterEach() {
+        orderLanes.shutdown();
+    }
+
+    @Test
+    void appliesEventsOfSameLaneTogetherAndAcksThem() throws Exception {
+        var first = OrderEventFixture.builder().withId(OrderEventId.of(1L)).build();
+        var second = OrderEventFixture.builder().withId(OrderEventId.of(2L)).build();
+        var firstMessage = message(1L);
+        var secondMessage = message(2L);
+        when(messageConverter.fromMessage(firstMessage)).thenReturn(first);
+        when(messageConverter.fromMessage(secondMessage)).thenReturn(second);
+
+        consumer.handleOrderEvents(List.of(firstMessage, secondMessage), channel);
+        drainLanes();
+
+        verify(applyService).applyAll(List.of(first, second));
+        verify(channel).basicAck(1L, false);
+        verify(channel).basicAck(2L, false);
+        verifyNoInteractions(messageRecoverer, orderMetrics);
+    }
+
+    @Test
+    void appliesEachLaneSeparately() throws Exception {
+        var first = OrderEventFixture.builder().withId(OrderEventId.of(1L)).withOrderId(OrderId.of(1L)).build();
+        var second = OrderEventFixture.builder().withId(OrderEventId.of(2L)).withOrderId(OrderId.of(2L)).build();
+        var third = OrderEventFixture.builder().withId(OrderEventId.of(3L)).withOrderId(OrderId.of(5L)).build();
+        var firstMessage = message(1L);
+        var secondMessage = message(2L);
+        var thirdMessage = message(3L);
+        when(messageConverter.fromMessage(firstMessage)).thenReturn(first);
+        when(messageConverter.fromMessage(secondMessage)).thenReturn(second);
+        when(messageConverter.fromMessage(thirdMessage)).thenReturn(third);
+
+        consumer.handleOrderEvents(List.of(firstMessage, secondMessage, thirdMessage), channel);
+        drainLanes();
+
+        verify(applyService).applyAll(List.of(first, third));
+        verify(applyService).applyAll(List.of(second));
+        verify(channel, times(3)).basicAck(anyLong(), eq(false));
+    }
+
+    @Test
+    void returnsBeforeBusyLaneRunsAndAcksAfterwards() throws Exception {
+        var event = OrderEventFixture.builder().withId(OrderEventId.of(1L)).build();
+        var message = message(1L);
+        when(messageConverter.fromMessage(message)).thenReturn(event);
+        var release = new CountDownLatch(1);
+        orderLanes.submit(event.orderId(), () -> await(release));
+
+        consumer.handleOrderEvents(List.of(message), channel);
+
+        verifyNoInteractions(applyService, channel);
+        release.countDown();
+        drainLanes();
+        verify(applyService).applyAll(List.of(event));
+        verify(channel).basicAck(1L, false);
+    }
+
+    @Test
+    void recoversOnlyFailedEventsOfBatch() throws Exception {
+        var first = OrderEventFixture.builder().withId(OrderEventId.of(1L)).build();
+        var second = OrderEventFixture.builder().withId(OrderEventId.of(2L)).build();
+        var firstMessage = message(1L);
+        var secondMessage = message(2L);
+        var cause = new OrderNotFoundException(ORDER_ID);
+        when(messageConverter.fromMessage(firstMessage)).thenReturn(first);
+        when(messageConverter.fromMessage(secondMessage)).thenReturn(second);
+        when(applyService.applyAll(any())).thenReturn(List.of(new ApplyOrderEventsService.Failure(second, cause)));
+
+        consumer.handleOrderEvents(List.of(firstMessage, secondMessage), channel);
+        drainLanes();
+
+        verify(messageRecoverer).recover(secondMessage, cause);
+        verify(orderMetrics).incrementFailedEvents();
+        verifyNoMoreInteractions(messageRecoverer);
+        verify(channel).basicAck(1L, false);
+        verify(channel).basicAck(2L, false);
+    }
+
+    @Test
+    void recoversUnreadableMessageAndAppliesTheRest() throws Exception {
+        var event = OrderEventFixture.builder().build();
+        var goodMessage = message(1L);
+        var badMessage = message(2L);
+        var cause = new MessageConversionException("Invalid payload");
+        when(messageConverter.fromMessage(goodMessage)).thenReturn(event);
+        when(messageConverter.fromMessage(badMessage)).thenThrow(cause);
+
+        consumer.handleOrderEvents(List.of(badMessage, goodMessage), channel);
+        drainLanes();
+
+        verify(applyService).applyAll(List.of(event));
+        verify(messageRecoverer).recover(badMessage, cause);
+        verify(orderMetrics).incrementFailedEvents();
+        verify(channel).basicAck(1L, false);
+        verify(channel).basicAck(2L, false);
+    }
+
+    @Test
+    void recoversMessageThatIsNotAnOrderEvent() throws Exception {
+        var message = message(1L);
+        when(messageConverter.fromMessage(message)).thenReturn("not an event");
+
+        consumer.handleOrderEvents(List.of(message), channel);
+
+        verify(messageRecoverer).recover(eq(message), any(MessageConversionException.class));
+        verify(channel).basicAck(1L, false);
+        verifyNoInteractions(applyService);
+    }
+
+    @Test
+    void retriesFailedLaneAndRecoversItsEventsWhenRetriesAreExhausted() throws Exception {
+        var event = OrderEventFixture.builder().build();
+        var message = message(1L);
+        var cause = new RuntimeException("Database error");
+        when(messageConverter.fromMessage(message)).thenReturn(event);
+        when(applyService.applyAll(any())).thenThrow(cause);
+
+        consumer.handleOrderEvents(List.of(message), channel);
+        drainLanes();
+
+        verify(applyService, times(2)).applyAll(List.of(event));
+        verify(orderMetrics, times(2)).incrementFailedEvents();
+        verify(messageRecoverer).recover(message, cause);
+        verify(channel).basicAck(1L, false);
+    }
+
+    @Test
+    void requeuesLaneWhenRecoveryFails() throws Exception {
+        var event = OrderEventFixture.builder().build();
+        var message = message(1L);
+        when(messageConverter.fromMessage(message)).thenReturn(event);
+        when(applyService.applyAll(any())).thenThrow(new RuntimeException("Database error"));
+        doThrow(new RuntimeException("Broker down")).when(messageRecoverer).recover(any(), any());
+
+        consumer.handleOrderEvents(List.of(message), channel);
+        drainLanes();
+
+        verify(channel).basicNack(1L, false, true);
+        verify(channel, never()).basicAck(anyLong(), anyBoolean());
+    }
+
+    @Test
+    void requeuesEventsWhenLaneRejectsThem() throws Exception {
+        var event = OrderEventFixture.builder().build();
+        var message = message(1L);
+        when(messageConverter.fromMessage(message)).thenReturn(event);
+        orderLanes.shutdown();
+
+        consumer.handleOrderEvents(List.of(message), channel);
+
+        verify(channel).basicNack(1L, false, true);
+        verifyNoInteractions(applyService);
+    }
+
+    @Test
+    void recoversEventWhenCreatedAtIsZero() throws Exception {
+        var event = OrderEventFixture.builder().withCreatedAt(TimeMillis.of(0L)).build();
+        var message = message(1L);
+        when(messageConverter.fromMessage(message)).thenReturn(event);
+
+        consumer.handleOrderEvents(List.of(message), channel);
+        drainLanes();
+
+        verify(messageRecoverer).recover(eq(message), any(IllegalStateException.class));
+        verify(channel).basicAck(1L, false);
+        verifyNoInteractions(applyService);
+    }
+
+    private static Message message(long deliveryTag) {
+        var properties = new MessageProperties();
+        properties.setDeliveryTag(deliveryTag);
+        return new Message(new byte[0], properties);
+    }
+
+    private void drainLanes() throws Exception {
+        CompletableFuture.allOf(LongStream.rangeClosed(1, orderLanes.size())
+                        .mapToObj(id -> orderLanes.submit(OrderId.of(id), () -> { }))
+                        .toArray(CompletableFuture[]::new))
+                .get(1, TimeUnit.SECONDS);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
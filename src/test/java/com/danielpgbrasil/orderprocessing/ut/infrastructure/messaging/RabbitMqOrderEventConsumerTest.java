@@ -1,130 +1,201 @@
 package com.danielpgbrasil.orderprocessing.ut.infrastructure.messaging;
 
 import com.danielpgbrasil.orderprocessing.application.metrics.OrderMetrics;
-import com.danielpgbrasil.orderprocessing.application.order.MarkOrderDeliveredService;
-import com.danielpgbrasil.orderprocessing.application.order.StartOrderPickingService;
-import com.danielpgbrasil.orderprocessing.application.order.StartOrderTransitService;
+import com.danielpgbrasil.orderprocessing.application.order.ProcessOrderEventService;
 import com.danielpgbrasil.orderprocessing.domain.order.event.OrderEventType;
 import com.danielpgbrasil.orderprocessing.domain.shared.TimeMillis;
 import com.danielpgbrasil.orderprocessing.fixture.OrderEventFixture;
+import com.danielpgbrasil.orderprocessing.infrastructure.messaging.OrderLanes;
 import com.danielpgbrasil.orderprocessing.infrastructure.messaging.RabbitMqOrderEventConsumer;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-
+import org.springframework.amqp.ImmediateRequeueAmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.retry.MessageRecoverer;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.retry.support.RetryTemplate;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 class RabbitMqOrderEventConsumerTest {
 
-    private StartOrderPickingService pickingService;
-    private StartOrderTransitService transitService;
-    private MarkOrderDeliveredService deliveryService;
+    private ProcessOrderEventService processService;
+    private MessageConverter messageConverter;
+    private MessageRecoverer messageRecoverer;
     private OrderMetrics orderMetrics;
+    private OrderLanes orderLanes;
+    private Message message;
     private RabbitMqOrderEventConsumer consumer;
 
     @BeforeEach
     void beforeEach() {
-        pickingService = mock(StartOrderPickingService.class);
-        transitService = mock(StartOrderTransitService.class);
-        deliveryService = mock(MarkOrderDeliveredService.class);
+        processService = mock(ProcessOrderEventService.class);
+        messageConverter = mock(MessageConverter.class);
+        messageRecoverer = mock(MessageRecoverer.class);
         orderMetrics = mock(OrderMetrics.class);
+        orderLanes = new OrderLanes(4, false);
+        message = mock(Message.class);
+        var retryOperations = RetryTemplate.builder().maxAttempts(2).noBackoff().build();
+
+        consumer = new RabbitMqOrderEventConsumer(processService, messageConverter, messageRecoverer,
+                retryOperations, orderMetrics, orderLanes);
+
+        when(processService.process(any())).thenReturn(true);
+    }
 
-        consumer = new RabbitMqOrderEventConsumer(
-                pickingService, transitService, deliveryService, orderMetrics);
+    @AfterEach
+    void afterEach() {
+        orderLanes.shutdown();
     }
 
     @Test
-    void processesCreatedEventSuccessfully() {
+    void processesEventSuccessfully() throws Exception {
         var event = OrderEventFixture.builder()
                 .withType(OrderEventType.CREATED)
                 .build();
+        when(messageConverter.fromMessage(message)).thenReturn(event);
 
-        consumer.handleOrderEvent(event);
+        consumer.handleOrderEvent(message).get(1, TimeUnit.SECONDS);
 
-        verify(pickingService).startPicking(event.orderId());
-        verifyNoInteractions(transitService, deliveryService, orderMetrics);
+        verify(processService).process(event);
+        verifyNoInteractions(orderMetrics, messageRecoverer);
     }
 
     @Test
-    void processesPickingStartedEventSuccessfully() {
+    void skipsDuplicateEvent() throws Exception {
         var event = OrderEventFixture.builder()
-                .withType(OrderEventType.PICKING_STARTED)
+                .withType(OrderEventType.CREATED)
                 .build();
+        when(messageConverter.fromMessage(message)).thenReturn(event);
+        when(processService.process(event)).thenReturn(false);
 
-        consumer.handleOrderEvent(event);
+        consumer.handleOrderEvent(message).get(1, TimeUnit.SECONDS);
 
-        verify(transitService).startTransit(event.orderId());
-        verifyNoInteractions(pickingService, deliveryService, orderMetrics);
+        verify(processService).process(event);
+        verifyNoInteractions(orderMetrics);
     }
 
     @Test
-    void processesTransitStartedEventSuccessfully() {
+    void completesOnlyAfterLaneRunsTheEvent() throws Exception {
         var event = OrderEventFixture.builder()
-                .withType(OrderEventType.TRANSIT_STARTED)
+                .withType(OrderEventType.CREATED)
                 .build();
+        when(messageConverter.fromMessage(message)).thenReturn(event);
+        var release = new CountDownLatch(1);
+        orderLanes.submit(event.orderId(), () -> await(release));
 
-        consumer.handleOrderEvent(event);
+        var result = consumer.handleOrderEvent(message);
 
-        verify(deliveryService).markDelivered(event.orderId());
-        verifyNoInteractions(pickingService, transitService, orderMetrics);
+        assertThat(result.isDone(), is(false));
+        verifyNoInteractions(processService);
+        release.countDown();
+        result.get(1, TimeUnit.SECONDS);
+        verify(processService).process(event);
     }
 
     @Test
-    void ignoresUnknownEventType() {
+    void recoversEventWhenCreatedAtIsZero() throws Exception {
         var event = OrderEventFixture.builder()
-                .withType(OrderEventType.DELIVERED)
+                .withCreatedAt(TimeMillis.of(0L))
                 .build();
+        when(messageConverter.fromMessage(message)).thenReturn(event);
 
-        consumer.handleOrderEvent(event);
+        consumer.handleOrderEvent(message).get(1, TimeUnit.SECONDS);
 
-        verifyNoInteractions(pickingService, transitService, deliveryService, orderMetrics);
+        verify(orderMetrics, times(2)).incrementFailedEvents();
+        verify(messageRecoverer).recover(eq(message), any(IllegalStateException.class));
+        verifyNoInteractions(processService);
     }
 
     @Test
-    void throwsExceptionWhenCreatedAtIsZero() {
+    void retriesOnLaneAndRecoversWhenProcessingKeepsFailing() throws Exception {
         var event = OrderEventFixture.builder()
-                .withCreatedAt(TimeMillis.of(0L))
+                .withType(OrderEventType.CREATED)
                 .build();
+        var cause = new RuntimeException("Database error");
+        when(messageConverter.fromMessage(message)).thenReturn(event);
+        when(processService.process(any())).thenThrow(cause);
 
-        assertThrows(IllegalStateException.class, () -> consumer.handleOrderEvent(event));
+        consumer.handleOrderEvent(message).get(1, TimeUnit.SECONDS);
 
-        verify(orderMetrics).incrementFailedEvents();
+        verify(processService, times(2)).process(event);
+        verify(orderMetrics, times(2)).incrementFailedEvents();
+        verify(messageRecoverer).recover(message, cause);
     }
 
     @Test
-    void incrementsFailedEventsWhenPickingServiceThrowsException() {
+    void succeedsWhenRetryWorks() throws Exception {
         var event = OrderEventFixture.builder()
                 .withType(OrderEventType.CREATED)
                 .build();
+        when(messageConverter.fromMessage(message)).thenReturn(event);
+        when(processService.process(any())).thenThrow(new RuntimeException("Database error")).thenReturn(true);
 
-        doThrow(RuntimeException.class).when(pickingService).startPicking(any());
+        consumer.handleOrderEvent(message).get(1, TimeUnit.SECONDS);
 
-        assertThrows(RuntimeException.class, () -> consumer.handleOrderEvent(event));
-        verify(orderMetrics).incrementFailedEvents();
+        verify(processService, times(2)).process(event);
+        verifyNoInteractions(messageRecoverer);
     }
 
     @Test
-    void incrementsFailedEventsWhenTransitServiceThrowsException() {
+    void requeuesWhenRecoveryFails() {
         var event = OrderEventFixture.builder()
-                .withType(OrderEventType.PICKING_STARTED)
+                .withType(OrderEventType.CREATED)
                 .build();
+        when(messageConverter.fromMessage(message)).thenReturn(event);
+        when(processService.process(any())).thenThrow(new RuntimeException("Database error"));
+        doThrow(new RuntimeException("Broker down")).when(messageRecoverer).recover(any(), any());
 
-        doThrow(RuntimeException.class).when(transitService).startTransit(any());
+        var result = consumer.handleOrderEvent(message);
 
-        assertThrows(RuntimeException.class, () -> consumer.handleOrderEvent(event));
-        verify(orderMetrics).incrementFailedEvents();
+        var exception = assertThrows(ExecutionException.class, () -> result.get(1, TimeUnit.SECONDS));
+        assertThat(exception.getCause(), is(instanceOf(ImmediateRequeueAmqpException.class)));
     }
 
     @Test
-    void incrementsFailedEventsWhenDeliveryServiceThrowsException() {
+    void requeuesWhenLaneRejectsEvent() {
         var event = OrderEventFixture.builder()
-                .withType(OrderEventType.TRANSIT_STARTED)
+                .withType(OrderEventType.CREATED)
                 .build();
+        when(messageConverter.fromMessage(message)).thenReturn(event);
+        orderLanes.shutdown();
+
+        var result = consumer.handleOrderEvent(message);
+
+        var exception = assertThrows(ExecutionException.class, () -> result.get(1, TimeUnit.SECONDS));
+        assertThat(exception.getCause(), is(instanceOf(ImmediateRequeueAmqpException.class)));
+        verifyNoInteractions(processService);
+    }
+
+    @Test
+    void recoversUnreadableMessageWithoutProcessing() throws Exception {
+        var cause = new MessageConversionException("Invalid payload");
+        when(messageConverter.fromMessage(message)).thenThrow(cause);
 
-        doThrow(RuntimeException.class).when(deliveryService).markDelivered(any());
+        consumer.handleOrderEvent(message).get(1, TimeUnit.SECONDS);
 
-        assertThrows(RuntimeException.class, () -> consumer.handleOrderEvent(event));
+        verify(messageRecoverer).recover(message, cause);
         verify(orderMetrics).incrementFailedEvents();
+        verifyNoInteractions(processService);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
     }
 }
@@ -1,6 +1,8 @@
 package com.danielpgbrasil.orderprocessing.ut.infrastructure.messaging;
 
 import com.danielpgbrasil.orderprocessing.domain.order.event.OrderEvent;
+import com.danielpgbrasil.orderprocessing.domain.order.event.OrderEventId;
+import com.danielpgbrasil.orderprocessing.fixture.OrderEventFixture;
 import com.danielpgbrasil.orderprocessing.infrastructure.messaging.RabbitMqOrderEventPublisher;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -9,11 +11,17 @@ import org.springframework.amqp.core.Message;
 import org.springframework.amqp.core.MessageDeliveryMode;
 import org.springframework.amqp.core.MessagePostProcessor;
 import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.core.ReturnedMessage;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 
+import java.time.Duration;
+import java.util.List;
+
 import static com.danielpgbrasil.orderprocessing.infrastructure.messaging.RabbitMqConfig.ORDER_EVENTS_EXCHANGE;
 import static com.danielpgbrasil.orderprocessing.infrastructure.messaging.RabbitMqConfig.ORDER_ROUTING_KEY;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
@@ -28,7 +36,7 @@ class RabbitMqOrderEventPublisherTest {
     @BeforeEach
     void setUp() {
         rabbitTemplate = mock(RabbitTemplate.class);
-        publisher = new RabbitMqOrderEventPublisher(rabbitTemplate);
+        publisher = new RabbitMqOrderEventPublisher(rabbitTemplate, Duration.ofMillis(50));
     }
 
     @Test
@@ -63,4 +71,73 @@ class RabbitMqOrderEventPublisherTest {
 
         assertThrows(RuntimeException.class, () -> publisher.publish(event));
     }
-}
\ No newline at end of file
+
+    @Test
+    void publishAllReturnsOnlyAcknowledgedEvents() {
+        var acked = eventWithId(1L);
+        var nacked = eventWithId(2L);
+        doAnswer(invocation -> {
+            CorrelationData correlation = invocation.getArgument(4);
+            var ack = correlation.getId().equals("1");
+            correlation.getFuture().complete(new CorrelationData.Confirm(ack, ack ? null : "nack"));
+            return null;
+        }).when(rabbitTemplate).convertAndSend(eq(ORDER_EVENTS_EXCHANGE), eq(ORDER_ROUTING_KEY), any(),
+                any(MessagePostProcessor.class), any(CorrelationData.class));
+
+        var confirmed = publisher.publishAll(List.of(acked, nacked));
+
+        assertThat(confirmed, is(List.of(acked)));
+        verify(rabbitTemplate, times(2)).convertAndSend(eq(ORDER_EVENTS_EXCHANGE), eq(ORDER_ROUTING_KEY), any(),
+                any(MessagePostProcessor.class), any(CorrelationData.class));
+    }
+
+    @Test
+    void publishAllIgnoresEventsReturnedAsUnroutable() {
+        var routed = eventWithId(1L);
+        var unroutable = eventWithId(2L);
+        doAnswer(invocation -> {
+            CorrelationData correlation = invocation.getArgument(4);
+            if (correlation.getId().equals("2")) {
+                correlation.setReturned(new ReturnedMessage(new Message(new byte[0]), 312, "NO_ROUTE",
+                        ORDER_EVENTS_EXCHANGE, ORDER_ROUTING_KEY));
+            }
+            correlation.getFuture().complete(new CorrelationData.Confirm(true, null));
+            return null;
+        }).when(rabbitTemplate).convertAndSend(eq(ORDER_EVENTS_EXCHANGE), eq(ORDER_ROUTING_KEY), any(),
+                any(MessagePostProcessor.class), any(CorrelationData.class));
+
+        var confirmed = publisher.publishAll(List.of(routed, unroutable));
+
+        assertThat(confirmed, is(List.of(routed)));
+    }
+
+    @Test
+    void publishAllIgnoresEventsWithoutConfirmationBeforeTimeout() {
+        var confirmed = publisher.publishAll(List.of(eventWithId(1L), eventWithId(2L)));
+
+        assertThat(confirmed, is(empty()));
+    }
+
+    @Test
+    void publishAllIgnoresEventsThatFailToSend() {
+        var failing = eventWithId(1L);
+        var succeeding = eventWithId(2L);
+        doAnswer(invocation -> {
+            CorrelationData correlation = invocation.getArgument(4);
+            if (correlation.getId().equals("1")) {
+                throw new RuntimeException("RabbitMQ down");
+            }
+            correlation.getFuture().complete(new CorrelationData.Confirm(true, null));
+            return null;
+        }).when(rabbitTemplate).convertAndSend(eq(ORDER_EVENTS_EXCHANGE), eq(ORDER_ROUTING_KEY), any(),
+                any(MessagePostProcessor.class), any(CorrelationData.class));
+
+        var confirmed = publisher.publishAll(List.of(failing, succeeding));
+
+        assertThat(confirmed, is(List.of(succeeding)));
+    }
+
+    private static OrderEvent eventWithId(Long id) {
+        return OrderEventFixture.builder().withId(OrderEventId.of(id)).build();
+    }
+}
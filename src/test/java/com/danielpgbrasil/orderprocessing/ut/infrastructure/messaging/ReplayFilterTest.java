@@ -0,0 +1,42 @@
+package com.danielpgbrasil.orderprocessing.ut.infrastructure.messaging;
+
+import com.danielpgbrasil.orderprocessing.infrastructure.messaging.FailedMessageEnricher;
+import com.danielpgbrasil.orderprocessing.infrastructure.messaging.ReplayFilter;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+class ReplayFilterTest {
+
+    private final Message message = MessageBuilder.withBody(new byte[0])
+            .setHeader(FailedMessageEnricher.ERROR_ROOT_HEADER, "java.lang.IllegalStateException: Teste de retry")
+            .setHeader(FailedMessageEnricher.ERROR_FINGERPRINT_HEADER, "abc123")
+            .build();
+
+    @Test
+    void matchesEverythingWithoutCriteria() {
+        assertThat(new ReplayFilter(null, " ").matches(message), is(true));
+    }
+
+    @Test
+    void matchesPartOfErrorRoot() {
+        assertThat(new ReplayFilter("IllegalStateException", null).matches(message), is(true));
+        assertThat(new ReplayFilter("OrderNotFoundException", null).matches(message), is(false));
+    }
+
+    @Test
+    void matchesExactFingerprint() {
+        assertThat(new ReplayFilter(null, "abc123").matches(message), is(true));
+        assertThat(new ReplayFilter(null, "abc").matches(message), is(false));
+    }
+
+    @Test
+    void doesNotMatchMessageWithoutHeader() {
+        var withoutHeaders = MessageBuilder.withBody(new byte[0]).build();
+
+        assertThat(new ReplayFilter(null, "abc123").matches(withoutHeaders), is(false));
+    }
+}
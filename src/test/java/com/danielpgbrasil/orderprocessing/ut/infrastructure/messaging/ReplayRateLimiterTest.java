@@ -0,0 +1,55 @@
+package com.danielpgbrasil.orderprocessing.ut.infrastructure.messaging;
+
+import com.danielpgbrasil.orderprocessing.infrastructure.messaging.ReplayRateLimiter;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ReplayRateLimiterTest {
+
+    private static final long MILLIS = 1_000_000L;
+
+    private final AtomicLong now = new AtomicLong();
+    private final List<Long> sleeps = new ArrayList<>();
+
+    @Test
+    void spacesPermitsByRate() {
+        var limiter = new ReplayRateLimiter(10, now::get, sleeps::add);
+
+        limiter.acquire();
+        limiter.acquire();
+        limiter.acquire();
+
+        assertThat(sleeps, contains(100 * MILLIS, 200 * MILLIS));
+    }
+
+    @Test
+    void doesNotAccumulatePermitsWhileIdle() {
+        var limiter = new ReplayRateLimiter(10, now::get, sleeps::add);
+
+        limiter.acquire();
+        now.set(1000 * MILLIS);
+        limiter.acquire();
+
+        assertThat(sleeps, is(empty()));
+
+        limiter.acquire();
+
+        assertThat(sleeps, contains(100 * MILLIS));
+    }
+
+    @Test
+    void rejectsNonPositiveRate() {
+        var exception = assertThrows(IllegalArgumentException.class, () -> new ReplayRateLimiter(0));
+
+        assertThat(exception.getMessage(), is("A taxa de reprocessamento deve ser positiva."));
+    }
+}
@@ -0,0 +1,60 @@
+package com.danielpgbrasil.orderprocessing.ut.infrastructure.messaging;
+
+import com.danielpgbrasil.orderprocessing.domain.order.InvalidOrderStatusException;
+import com.danielpgbrasil.orderprocessing.domain.order.OrderId;
+import com.danielpgbrasil.orderprocessing.domain.order.OrderNotFoundException;
+import com.danielpgbrasil.orderprocessing.domain.order.OrderStatus;
+import com.danielpgbrasil.orderprocessing.infrastructure.messaging.RetryableExceptionClassifier;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.rabbit.support.ListenerExecutionFailedException;
+import org.springframework.amqp.support.converter.MessageConversionException;
+
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class RetryableExceptionClassifierTest {
+
+    private final RetryableExceptionClassifier classifier = new RetryableExceptionClassifier(List.of());
+
+    @Test
+    void classifiesDeterministicFailuresAsNonRetryable() {
+        assertThat(classifier.isRetryable(new OrderNotFoundException(OrderId.of(1L))), is(false));
+        assertThat(classifier.isRetryable(
+                new InvalidOrderStatusException(OrderStatus.CREATED, OrderStatus.PICKING)), is(false));
+        assertThat(classifier.isRetryable(new MessageConversionException("Payload inválido")), is(false));
+    }
+
+    @Test
+    void classifiesWrappedFailuresByCause() {
+        var wrapped = new ListenerExecutionFailedException("Listener falhou",
+                new OrderNotFoundException(OrderId.of(1L)));
+
+        assertThat(classifier.isRetryable(wrapped), is(false));
+    }
+
+    @Test
+    void classifiesOtherFailuresAsRetryable() {
+        assertThat(classifier.isRetryable(new IllegalStateException("Teste de retry")), is(true));
+        assertThat(classifier.isRetryable(new RuntimeException("Banco indisponível")), is(true));
+    }
+
+    @Test
+    void acceptsConfiguredNonRetryableExceptions() {
+        var configured = new RetryableExceptionClassifier(List.of(" java.lang.UnsupportedOperationException", ""));
+
+        assertThat(configured.isRetryable(new UnsupportedOperationException()), is(false));
+        assertThat(configured.isRetryable(new RuntimeException()), is(true));
+    }
+
+    @Test
+    void rejectsConfiguredClassThatIsNotAnException() {
+        var names = List.of("java.lang.String");
+
+        var exception = assertThrows(IllegalArgumentException.class, () -> new RetryableExceptionClassifier(names));
+
+        assertThat(exception.getMessage(), is("A classe não é uma exceção: java.lang.String"));
+    }
+}
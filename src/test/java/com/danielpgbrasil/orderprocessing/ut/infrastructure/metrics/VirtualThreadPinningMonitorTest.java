@@ -0,0 +1,65 @@
+package com.danielpgbrasil.orderprocessing.ut.infrastructure.metrics;
+
+import com.danielpgbrasil.orderprocessing.infrastructure.metrics.VirtualThreadPinningMonitor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+
+class VirtualThreadPinningMonitorTest {
+
+    private SimpleMeterRegistry registry;
+    private VirtualThreadPinningMonitor monitor;
+
+    @BeforeEach
+    void beforeEach() {
+        registry = new SimpleMeterRegistry();
+        monitor = new VirtualThreadPinningMonitor(registry, Duration.ofMillis(1));
+    }
+
+    @AfterEach
+    void afterEach() {
+        monitor.stop();
+    }
+
+    @Test
+    void registersCounterBeforeStarting() {
+        assertThat(pinnedEvents(), is(0.0));
+    }
+
+    @Test
+    void countsVirtualThreadPinnedInsideSynchronizedBlock() throws Exception {
+        monitor.start();
+
+        var lock = new Object();
+        Thread.ofVirtual().start(() -> {
+            synchronized (lock) {
+                sleep(50);
+            }
+        }).join();
+
+        var deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (pinnedEvents() < 1 && System.nanoTime() < deadline) {
+            Thread.sleep(100);
+        }
+        assertThat(pinnedEvents(), is(greaterThanOrEqualTo(1.0)));
+    }
+
+    private double pinnedEvents() {
+        return registry.counter("virtual_thread_pinned_events").count();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
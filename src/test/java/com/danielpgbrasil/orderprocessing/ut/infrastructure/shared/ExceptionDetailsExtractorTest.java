@@ -4,6 +4,8 @@ import com.danielpgbrasil.orderprocessing.infrastructure.shared.ExceptionDetails
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.HashSet;
+
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
 
@@ -65,4 +67,55 @@ class ExceptionDetailsExtractorTest {
         assertThat(result, containsString("java.lang.RuntimeException: Wrapper"));
         assertThat(result, containsString("java.lang.IllegalArgumentException: Bad arg"));
     }
+
+    @Test
+    void truncatedStackTraceKeepsShortTraces() {
+        var ex = new RuntimeException("Error");
+        var full = extractor.stackTraceToString(ex);
+
+        var result = extractor.truncatedStackTrace(ex, full.length());
+
+        assertThat(result, is(full));
+    }
+
+    @Test
+    void truncatedStackTraceCutsLongTraces() {
+        var ex = new RuntimeException("Error");
+
+        var result = extractor.truncatedStackTrace(ex, 20);
+
+        assertThat(result, is("java.lang.RuntimeExc\n\t... (truncado)"));
+    }
+
+    @Test
+    void fingerprintIsStableForSameFailureSite() {
+        var fingerprints = new HashSet<String>();
+        for (var i = 0; i < 3; i++) {
+            fingerprints.add(extractor.fingerprint(failAt("pedido " + i)));
+        }
+
+        assertThat(fingerprints, hasSize(1));
+        assertThat(fingerprints.iterator().next(), matchesPattern("[0-9a-f]{32}"));
+    }
+
+    @Test
+    void fingerprintDiffersForDifferentFailureSites() {
+        var first = extractor.fingerprint(failAt("Erro"));
+        var second = extractor.fingerprint(new IllegalStateException("Erro"));
+
+        assertThat(first, is(not(second)));
+    }
+
+    @Test
+    void fingerprintIncludesCauses() {
+        var withoutCause = failAt("Erro");
+        var withCause = failAt("Erro");
+        withCause.initCause(new IllegalArgumentException("Causa"));
+
+        assertThat(extractor.fingerprint(withoutCause), is(not(extractor.fingerprint(withCause))));
+    }
+
+    private static RuntimeException failAt(String message) {
+        return new RuntimeException(message);
+    }
 }